@@ -0,0 +1,57 @@
+package com.venvas.pocamarket.common.aop.trim;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrimAspect.trimStringFields 비용
+ * 카드 리스트 조회 조건 (PokemonCardListFormDto) 을 받는 @TrimInput 메서드를 aspect 를 붙인 proxy 로 호출한다
+ * direct 는 aspect 없이 같은 메서드를 호출하는 경우 (기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrimAspectBenchmark {
+
+    private TrimTarget target;
+    private TrimTarget proxy;
+    private PokemonCardListFormDto condition;
+
+    @Setup
+    public void setup() {
+        target = new TrimTarget();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TrimAspect());
+        proxy = factory.getProxy();
+
+        condition = new PokemonCardListFormDto(" 피카츄 ", "pokemon", "basic ", "lightning", "A1", "", "rare,full art ");
+    }
+
+    @Benchmark
+    public PokemonCardListFormDto direct() {
+        return target.list(condition);
+    }
+
+    @Benchmark
+    public PokemonCardListFormDto trimmed() {
+        return proxy.list(condition);
+    }
+
+    @TrimInput
+    public static class TrimTarget {
+        public PokemonCardListFormDto list(PokemonCardListFormDto condition) {
+            return condition;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.venvas.pocamarket.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 교환 리스트 응답 (ApiResponse<PageResponse<TcgTradeListResponse>>) JSON 직렬화 비용
+ * 한 페이지 20 개, 교환글마다 내 카드 1 장과 원하는 카드 3 장
+ * ObjectMapper 는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 만든다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<TcgTradeListResponse>> response;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        List<TcgTradeListResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<TcgTradeListResponse.CardData> wantCards = new ArrayList<>(3);
+            for (int j = 1; j <= 3; j++) {
+                wantCards.add(new TcgTradeListResponse.CardData(String.format("A1-%03d", i * 3 + j), "이상해씨", "A1(최강의 유전자)"));
+            }
+            content.add(new TcgTradeListResponse((long) 1000 - i, "트레이너" + i, 1, now.minusMinutes(i), i % 5 == 0,
+                    new TcgTradeListResponse.CardData(String.format("A2-%03d", i), "피카츄 ex", "A2(시공의 격투)"), wantCards));
+        }
+
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Order.desc("sortedAt")));
+        response = ApiResponse.success(PageResponse.of(new PageImpl<>(content, pageable, 1234)));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,121 @@
+package com.venvas.pocamarket.infrastructure.util;
+
+import com.venvas.pocamarket.infrastructure.config.JwtProperties;
+import com.venvas.pocamarket.infrastructure.security.JwtTokenVerifier;
+import com.venvas.pocamarket.infrastructure.security.JwtVerification;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급/검증 처리량 비교
+ * legacy* 는 변경 전 방식 (싱글톤 필드에 만료 시각 기록, 호출마다 parser 생성 후 validate/getUuid/getGrade 3번 파싱)
+ * 로그인, OAuth 콜백이 몰리는 상황을 보기 위해 여러 스레드로 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark";
+
+    private JwtTokenProvider provider;
+    private JwtTokenVerifier verifier;
+    private LegacyProvider legacy;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET_KEY);
+        properties.setAccessTokenValidityInMs(3_600_000);
+        properties.setRefreshTokenValidityInMs(86_400_000);
+
+        provider = new JwtTokenProvider(properties);
+        verifier = new JwtTokenVerifier(provider);
+        legacy = new LegacyProvider(properties);
+        token = provider.createAccessToken("benchmark-uuid", "USER");
+    }
+
+    @Benchmark
+    public void legacyIssue(Blackhole bh) {
+        bh.consume(legacy.createRefreshToken("benchmark-uuid", "USER"));
+        bh.consume(legacy.refreshTokenExpireTime);
+    }
+
+    @Benchmark
+    public IssuedToken issue() {
+        return provider.issueRefreshToken("benchmark-uuid", "USER");
+    }
+
+    @Benchmark
+    public void legacyVerify(Blackhole bh) {
+        if (legacy.validateToken(token)) {
+            bh.consume(legacy.getClaims(token).get("uuid", String.class));
+            bh.consume(legacy.getClaims(token).get("grade", String.class));
+        }
+    }
+
+    @Benchmark
+    public JwtVerification verify() {
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public JwtVerification verifyCached() {
+        return verifier.verify(token);
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider 와 같은 방식
+     */
+    static final class LegacyProvider {
+        private final Key key;
+        private final JwtProperties jwtProperties;
+        private Date refreshTokenExpireTime;
+
+        LegacyProvider(JwtProperties jwtProperties) {
+            this.jwtProperties = jwtProperties;
+            this.key = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        }
+
+        String createRefreshToken(String uuid, String grade) {
+            this.refreshTokenExpireTime = new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenValidityInMs());
+            return Jwts.builder()
+                    .setSubject(JwtTokenProvider.REFRESH_TOKEN_NAME)
+                    .claim("uuid", uuid)
+                    .claim("grade", grade)
+                    .setIssuedAt(new Date())
+                    .setExpiration(refreshTokenExpireTime)
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        boolean validateToken(String token) {
+            return getClaims(token).getExpiration().after(new Date());
+        }
+
+        Claims getClaims(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+}
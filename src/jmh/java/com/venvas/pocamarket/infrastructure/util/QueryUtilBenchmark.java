@@ -0,0 +1,60 @@
+package com.venvas.pocamarket.infrastructure.util;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.pokemon.domain.value.UseOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.venvas.pocamarket.service.pokemon.domain.entity.QPokemonCard.pokemonCard;
+
+/**
+ * QueryUtil.getOrderSpecifier 비용
+ * 카드 리스트 조회와 같은 정렬 (허용된 필드 2개 + 허용되지 않은 필드 1개)
+ * cachedPathBuilder 는 정렬 필드마다 PathBuilder 를 새로 만들지 않고 하나를 재사용하는 경우 (비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryUtilBenchmark {
+
+    private Pageable pageable;
+    private List<String> filterList;
+    private PathBuilder<PokemonCard> pathBuilder;
+
+    @Setup
+    public void setup() {
+        pageable = PageRequest.of(0, 30, Sort.by(Sort.Order.asc("rarityNum"), Sort.Order.desc("nameKo"), Sort.Order.asc("price")));
+        filterList = UseOrder.getList();
+        pathBuilder = new PathBuilder<>(pokemonCard.getType(), pokemonCard.getMetadata().getName());
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] getOrderSpecifier() {
+        return QueryUtil.getOrderSpecifier(pageable, pokemonCard, filterList);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] cachedPathBuilder() {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order sort : pageable.getSort()) {
+            if (!filterList.contains(sort.getProperty())) continue;
+            orders.add(new OrderSpecifier<>(sort.isAscending() ? Order.ASC : Order.DESC, pathBuilder.getString(sort.getProperty())));
+        }
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
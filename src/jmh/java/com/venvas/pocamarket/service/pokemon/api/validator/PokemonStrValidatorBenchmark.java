@@ -0,0 +1,79 @@
+package com.venvas.pocamarket.service.pokemon.api.validator;
+
+import com.venvas.pocamarket.service.pokemon.api.controller.PokemonCardController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * PokemonStrValidator.isValid 비용 (통과하는 값만, 실패 시 메시지 생성은 제외)
+ * 카드 상세 (코드), 자동완성 (키워드) 파라미터에 붙은 @PokemonStrParam 으로 초기화한다
+ * precompiled* 는 pattern 을 한 번만 컴파일해 두는 경우 (비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PokemonStrValidatorBenchmark {
+
+    private PokemonStrValidator codeValidator;
+    private PokemonStrValidator keywordValidator;
+    private Pattern codePattern;
+    private Pattern keywordPattern;
+
+    private String code = "A1-001";
+    private String keyword = "피카츄 ex";
+
+    @Setup
+    public void setup() {
+        PokemonStrParam codeParam = paramOf("getPokemonDataByCode");
+        PokemonStrParam keywordParam = paramOf("getPokemonCardSuggest");
+
+        codeValidator = new PokemonStrValidator();
+        codeValidator.initialize(codeParam);
+        keywordValidator = new PokemonStrValidator();
+        keywordValidator.initialize(keywordParam);
+
+        codePattern = Pattern.compile(codeParam.pattern());
+        keywordPattern = Pattern.compile(keywordParam.pattern());
+    }
+
+    @Benchmark
+    public boolean isValidCode() {
+        return codeValidator.isValid(code, null);
+    }
+
+    @Benchmark
+    public boolean isValidKeyword() {
+        return keywordValidator.isValid(keyword, null);
+    }
+
+    @Benchmark
+    public boolean precompiledCode() {
+        return codePattern.matcher(code).matches();
+    }
+
+    @Benchmark
+    public boolean precompiledKeyword() {
+        return keywordPattern.matcher(keyword).matches();
+    }
+
+    /**
+     * 컨트롤러 메서드 첫 번째 파라미터의 @PokemonStrParam
+     */
+    private static PokemonStrParam paramOf(String methodName) {
+        Method method = Arrays.stream(PokemonCardController.class.getMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return method.getParameters()[0].getAnnotation(PokemonStrParam.class);
+    }
+}
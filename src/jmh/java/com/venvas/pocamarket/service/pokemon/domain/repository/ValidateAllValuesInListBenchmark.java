@@ -0,0 +1,43 @@
+package com.venvas.pocamarket.service.pokemon.domain.repository;
+
+import com.venvas.pocamarket.service.pokemon.domain.value.CardElement;
+import com.venvas.pocamarket.service.pokemon.domain.value.CardRarity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PokemonCardRepositoryImpl.validateAllValuesInList 비용
+ * 카드 리스트 조회의 레어도, 속성 조건 검사 (입력 값마다 허용 목록을 대소문자 무시로 순회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidateAllValuesInListBenchmark {
+
+    private List<String> rarities;
+    private List<String> elements;
+
+    @Setup
+    public void setup() {
+        rarities = List.of("common", "rare ex", "gold crown");
+        elements = List.of("grass", "fire", "water", "lightning", "psychic", "fighting", "darkness", "metal", "dragon", "colorless");
+    }
+
+    @Benchmark
+    public boolean rarity() {
+        return PokemonCardRepositoryImpl.validateAllValuesInList(rarities, CardRarity.getList());
+    }
+
+    @Benchmark
+    public boolean element() {
+        return PokemonCardRepositoryImpl.validateAllValuesInList(elements, CardElement.getList());
+    }
+}
@@ -1,7 +1,9 @@
 package com.venvas.pocamarket.common.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -43,6 +45,10 @@ public class PageResponse<T> {
     
     @JsonProperty("sort")
     private Sort sort;
+
+    @JsonProperty("nextCursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor; // 커서 조회일 때만, 다음 페이지 요청 시 그대로 전달
     
     /**
      * Spring Page 객체를 1-based 페이지네이션 응답으로 변환
@@ -58,7 +64,28 @@ public class PageResponse<T> {
             page.isLast(),
             page.hasNext(),
             page.hasPrevious(),
-            page.getSort()
+            page.getSort(),
+            null
+        );
+    }
+
+    /**
+     * 커서 조회 결과를 응답으로 변환
+     * count 쿼리를 하지 않으므로 totalElements, totalPages 는 현재 페이지 기준 값
+     */
+    public static <T> PageResponse<T> ofCursor(Slice<T> slice, boolean first, String nextCursor) {
+        return new PageResponse<>(
+            slice.getContent(),
+            1,
+            slice.getSize(),
+            slice.getNumberOfElements(),
+            slice.hasContent() ? 1 : 0,
+            first,
+            !slice.hasNext(),
+            slice.hasNext(),
+            !first,
+            slice.getSort(),
+            nextCursor
         );
     }
 } 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.venvas.pocamarket.common.util;
+
+/**
+ * 한글 자모 분해 유틸
+ * 완성형 음절(가-힣)을 호환 자모(ㄱ-ㅎ, ㅏ-ㅣ)로 풀어서 초성 검색, 입력 중인 글자 검색에 사용
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 0번은 받침 없음
+    private static final char[] JONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 호환 자모 (ㄱ-ㅎ, ㅏ-ㅣ) 여부 */
+    public static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    /** 호환 자모 자음 (ㄱ-ㅎ) 여부 */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 초성 문자열, 한글 음절이 아닌 문자는 그대로 둔다
+     * 예: "피카츄 ex" -> "ㅍㅋㅊ ex"
+     */
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 분해 문자열, 한글 음절이 아닌 문자는 그대로 둔다
+     * 예: "피카" -> "ㅍㅣㅋㅏ"
+     */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BEGIN;
+            sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+            sb.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+            char jong = JONG[index % JONG_COUNT];
+            if (jong != 0) sb.append(jong);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 전부 자음(ㄱ-ㅎ)으로만 된 문자열인지, 공백은 무시
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (!isConsonant(c)) return false;
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    /**
+     * 호환 자모가 하나라도 섞여 있는지 (입력 중인 글자)
+     */
+    public static boolean containsJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isJamo(text.charAt(i))) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package com.venvas.pocamarket.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화 (리프레시 토큰 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.venvas.pocamarket.infrastructure.config;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -18,6 +19,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.venvas.pocamarket.infrastructure.security.JwtAccessDeniedHandler;
 import com.venvas.pocamarket.infrastructure.security.JwtAuthenticationEntryPoint;
 import com.venvas.pocamarket.infrastructure.security.JwtAuthenticationFilter;
+import com.venvas.pocamarket.infrastructure.security.JwtTokenVerifier;
+import com.venvas.pocamarket.infrastructure.security.MetricsScrapeAuthenticationFilter;
+import com.venvas.pocamarket.infrastructure.security.MetricsScrapeCredential;
+import com.venvas.pocamarket.infrastructure.security.RateLimitFilter;
+import com.venvas.pocamarket.infrastructure.security.RateLimiter;
 import com.venvas.pocamarket.infrastructure.security.oauth2.CustomOAuth2UserService;
 import com.venvas.pocamarket.infrastructure.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.venvas.pocamarket.infrastructure.security.oauth2.OAuth2AuthenticationSuccessHandler;
@@ -39,10 +45,15 @@ public class SecurityConfig {
     
     // JWT 관련
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenVerifier jwtTokenVerifier;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;    
+    // 요청 제한
+    private final RateLimiter rateLimiter;
+    // 지표 수집 계정
+    private final MetricsScrapeCredential metricsScrapeCredential;
     // OAuth2 관련
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler OAuth2AuthenticationSuccessHandler;
@@ -99,6 +110,14 @@ public class SecurityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
                         .permitAll()
 
+                        // 지표 수집 - 관리자 또는 수집용 Basic 인증 (MetricsScrapeAuthenticationFilter)
+                        .requestMatchers(HttpMethod.GET, MetricsScrapeAuthenticationFilter.SCRAPE_PATH)
+                        .hasAnyRole("ADMIN", MetricsScrapeAuthenticationFilter.ROLE)
+
+                        // 관리자 API
+                        .requestMatchers("/admin/**")
+                        .hasRole("ADMIN")
+
                         // 인증 필요한 경로
                         .requestMatchers(
                                 "/tcg-trade/my/**",
@@ -146,10 +165,19 @@ public class SecurityConfig {
         // jwtAuthFilter를 filterChain에 추가 - 인증이 필요한 경로에만 적용
         http
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider, refreshTokenRepository,
+                        new JwtAuthenticationFilter(jwtTokenProvider, jwtTokenVerifier, refreshTokenRepository,
                                 userRepository),
                         UsernamePasswordAuthenticationFilter.class);
 
+        // 지표 수집 인증 필터 추가 - 수집 서버는 관리자 토큰 대신 Basic 인증으로 /admin/metrics 만 조회
+        http
+                .addFilterBefore(new MetricsScrapeAuthenticationFilter(metricsScrapeCredential),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        // 요청 제한 필터 추가 - jwtAuthFilter 다음에 실행해서 로그인 사용자는 uuid, 아니면 IP 로 제한
+        http
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
@@ -0,0 +1,148 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 집계용 DataSource
+ * 커넥션, Statement, ResultSet 을 JDK proxy 로 감싸서 커넥션 획득 대기 시간, execute* 실행 시간과 문장, 읽은 row 수를 SqlMetrics 에 기록한다
+ * 값 변환이나 로그 포맷은 하지 않으므로 감싸는 비용은 메서드 호출 위임 정도다
+ * SQL 추적 중이면 PreparedStatement 의 set* 호출에서 bind 값의 타입만 (값은 남기지 않는다) 기록한다
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = InstrumentedDataSource.class.getClassLoader();
+
+    private final SqlMetrics sqlMetrics;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlMetrics sqlMetrics) {
+        super(targetDataSource);
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        sqlMetrics.recordConnection(System.nanoTime() - start);
+        return wrap(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        sqlMetrics.recordConnection(System.nanoTime() - start);
+        return wrap(connection);
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        // parameterIndex - 1 -> 타입 이름, 추적 중일 때만 채운다
+        private List<String> binds;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    recordBind(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters") && binds != null) {
+                    binds.clear();
+                }
+                return wrapResultSet(InstrumentedDataSource.invoke(target, method, args));
+            }
+
+            String executed = args != null && args.length > 0 && args[0] instanceof String value ? value : sql;
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(InstrumentedDataSource.invoke(target, method, args));
+            } finally {
+                sqlMetrics.recordStatement(executed, binds == null ? null : binds.toString(), System.nanoTime() - start);
+            }
+        }
+
+        private void recordBind(int index, Object value) {
+            if (!sqlMetrics.isTracing() || index < 1) return;
+            if (binds == null) binds = new ArrayList<>();
+            while (binds.size() < index) binds.add(null);
+            binds.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+
+        private Object wrapResultSet(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+
+        private ResultSetHandler(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                sqlMetrics.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 히스토그램 (µs)
+ * 2 배마다 SUB_BUCKETS 개로 나눈 로그 구간에 횟수만 세므로 (오차 약 9%) 기록은 락 없이 O(1), 메모리는 고정이다
+ * 1µs ~ 약 268초까지 구분하고, 그보다 긴 값은 마지막 구간에 넣는다
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private static final int BUCKETS = SUB_BUCKETS * 28 + 1;
+    private static final double LOG_STEP = Math.log(2) / SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        sumMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long[] values = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            values[i] = counts.get(i);
+            count += values[i];
+        }
+        long max = maxMicros.get();
+        return new Snapshot(count, sumMicros.sum(), percentile(values, count, max, 0.5),
+                percentile(values, count, max, 0.99), percentile(values, count, max, 0.999), max, values);
+    }
+
+    private static long percentile(long[] values, long count, long max, double quantile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < values.length; i++) {
+            seen += values[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    static int indexOf(long micros) {
+        return (int) Math.min(BUCKETS - 1, (long) (Math.log(micros) / LOG_STEP));
+    }
+
+    static long upperBound(int index) {
+        return (long) Math.ceil(Math.exp((index + 1) * LOG_STEP));
+    }
+
+    /**
+     * @param count 기록 수
+     * @param sumMicros 합계 (µs)
+     * @param p50Micros 50% (µs)
+     * @param p99Micros 99% (µs)
+     * @param p999Micros 99.9% (µs)
+     * @param maxMicros 최대 (µs)
+     * @param buckets 로그 구간별 기록 수
+     */
+    public record Snapshot(long count, long sumMicros, long p50Micros, long p99Micros, long p999Micros, long maxMicros,
+                           long[] buckets) {
+
+        /**
+         * micros 이하로 기록된 수 (누적), 경계에 걸친 로그 구간은 세지 않는다 (구간 하나, 약 9% 오차)
+         */
+        public long countAtOrBelow(long micros) {
+            long result = 0;
+            for (int i = 0; i < buckets.length && upperBound(i) <= micros; i++) {
+                result += buckets[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import com.venvas.pocamarket.common.util.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 수집 시스템 (Prometheus) 용 지표, SQL 추적 API, ADMIN 권한 필요
+ * /admin/metrics 는 수집용 Basic 인증 (metrics.scrape.*) 으로도 조회할 수 있다
+ */
+@Tag(name = "Metrics-Admin-API", description = "지표 수집 API")
+@RestController
+@RequiredArgsConstructor
+public class MetricsScrapeController {
+
+    private final MetricsScraper metricsScraper;
+    private final SqlTracer sqlTracer;
+
+    @GetMapping("/admin/metrics")
+    @Operation(summary = "지표 수집", description = "경로별 응답 시간 histogram, SQL 문장 수, DB 시간, 커넥션 대기 시간, 캐시 적중률을 Prometheus text 형식으로 조회 API")
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE)
+                .body(metricsScraper.scrape());
+    }
+
+    @GetMapping("/admin/sql-trace/slowest")
+    @Operation(summary = "가장 느린 SQL", description = "추적한 SQL 중 가장 느린 size 개를 bind 값 타입과 함께 조회 API (sql-trace.mode 가 OFF 면 빈 목록)")
+    public ResponseEntity<ApiResponse<List<SqlTraceRecord>>> getSlowestSql(
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(sqlTracer.getSlowest(Math.max(1, size))));
+    }
+
+    @GetMapping("/admin/sql-trace/stats")
+    @Operation(summary = "SQL 추적 통계", description = "추적 모드, 추적한 문장 수, 로그에 쓴 문장 수, 밀려서 버린 문장 수를 조회 API")
+    public ResponseEntity<ApiResponse<SqlTracer.SqlTraceStats>> getSqlTraceStats() {
+        return ResponseEntity.ok(ApiResponse.success(sqlTracer.getStats()));
+    }
+}
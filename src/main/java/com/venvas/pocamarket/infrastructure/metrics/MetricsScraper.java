@@ -0,0 +1,141 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import com.venvas.pocamarket.infrastructure.security.JwtTokenVerifier;
+import com.venvas.pocamarket.infrastructure.security.RateLimiter;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardService;
+import com.venvas.pocamarket.service.pokemon.infrastructure.cache.PokemonCardResponseCache;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserSummaryStatsDto;
+import com.venvas.pocamarket.service.trade.infrastructure.summary.TcgTradeUserSummaryReconcileJob;
+import com.venvas.pocamarket.service.user.application.dto.JwtVerifyStatsDto;
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenStatsDto;
+import com.venvas.pocamarket.service.user.infrastructure.token.RefreshTokenPurgeJob;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 수집용 지표를 Prometheus text 형식으로 모은다
+ * 경로별 응답 시간 / SQL, 전체 SQL, Hikari 풀, 캐시 적중률, 요청 제한 차단 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsScraper {
+
+    private final RequestMetrics requestMetrics;
+    private final SqlMetrics sqlMetrics;
+    private final DataSource dataSource;
+    private final PokemonCardService pokemonCardService;
+    private final PokemonCardResponseCache pokemonCardResponseCache;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final RefreshTokenPurgeJob refreshTokenPurgeJob;
+    private final TcgTradeUserSummaryReconcileJob tcgTradeUserSummaryReconcileJob;
+    private final RateLimiter rateLimiter;
+
+    public String scrape() {
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        writeRoutes(writer);
+        writeSql(writer);
+        writePool(writer);
+        writeCaches(writer);
+        writeRateLimit(writer);
+        return writer.toString();
+    }
+
+    private void writeRoutes(PrometheusTextWriter writer) {
+        var routes = requestMetrics.snapshot();
+
+        writer.type("http_server_requests_seconds", "histogram", "경로별 응답 시간");
+        routes.forEach((route, metrics) -> writer.histogram("http_server_requests_seconds", metrics.latency(), "route", route));
+        writer.type("http_server_requests_seconds_max", "gauge", "경로별 최대 응답 시간");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_seconds_max", metrics.latency().maxMicros() / 1e6, "route", route));
+        writer.type("http_server_requests_errors_total", "counter", "경로별 5xx 응답 수");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_errors_total", metrics.errors(), "route", route));
+        writer.type("http_server_requests_sql_statements_total", "counter", "경로별 실행한 SQL 문장 수");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_sql_statements_total", metrics.statements(), "route", route));
+        writer.type("http_server_requests_sql_statements_max", "gauge", "경로별 요청 하나의 최대 SQL 문장 수");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_sql_statements_max", metrics.maxStatements(), "route", route));
+        writer.type("http_server_requests_db_seconds_total", "counter", "경로별 DB 시간");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_db_seconds_total", metrics.statementNanos() / 1e9, "route", route));
+        writer.type("http_server_requests_db_rows_total", "counter", "경로별 읽은 row 수");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_db_rows_total", metrics.rows(), "route", route));
+        writer.type("http_server_requests_connection_wait_seconds_total", "counter", "경로별 커넥션 획득 대기 시간");
+        routes.forEach((route, metrics) -> writer.sample("http_server_requests_connection_wait_seconds_total", metrics.connectionWaitNanos() / 1e9, "route", route));
+    }
+
+    private void writeSql(PrometheusTextWriter writer) {
+        writer.type("db_statements_seconds", "histogram", "SQL 실행 시간").histogram("db_statements_seconds", sqlMetrics.getStatementLatency());
+        writer.type("db_rows_total", "counter", "읽은 row 수").sample("db_rows_total", sqlMetrics.getRows());
+        writer.type("db_connection_wait_seconds", "histogram", "커넥션 획득 대기 시간 (풀 대기)")
+                .histogram("db_connection_wait_seconds", sqlMetrics.getConnectionWait());
+    }
+
+    private void writePool(PrometheusTextWriter writer) {
+        HikariPoolMXBean pool = hikariPool();
+        if (pool == null) return;
+
+        writer.type("hikari_connections", "gauge", "Hikari 커넥션 수");
+        writer.sample("hikari_connections", pool.getActiveConnections(), "state", "active");
+        writer.sample("hikari_connections", pool.getIdleConnections(), "state", "idle");
+        writer.sample("hikari_connections", pool.getThreadsAwaitingConnection(), "state", "pending");
+        writer.sample("hikari_connections", pool.getTotalConnections(), "state", "total");
+    }
+
+    private void writeCaches(PrometheusTextWriter writer) {
+        PokemonCardCacheStatsDto detail = pokemonCardService.getCacheStats();
+        PokemonCardCacheStatsDto response = pokemonCardResponseCache.getStats();
+        JwtVerifyStatsDto jwt = jwtTokenVerifier.getStats();
+        RefreshTokenStatsDto refreshToken = refreshTokenPurgeJob.getStats();
+        TcgTradeUserSummaryStatsDto summary = tcgTradeUserSummaryReconcileJob.getStats();
+
+        writer.type("cache_hits_total", "counter", "캐시 적중 수");
+        writer.sample("cache_hits_total", detail.hits(), "cache", "pokemon_card_detail");
+        writer.sample("cache_hits_total", response.hits(), "cache", "pokemon_card_response");
+        writer.sample("cache_hits_total", jwt.hits(), "cache", "jwt_verify");
+        writer.sample("cache_hits_total", refreshToken.hits(), "cache", "refresh_token");
+        writer.sample("cache_hits_total", summary.hits(), "cache", "tcg_trade_user_summary");
+
+        writer.type("cache_misses_total", "counter", "캐시 미스 수 (원본 조회 수)");
+        writer.sample("cache_misses_total", detail.misses(), "cache", "pokemon_card_detail");
+        writer.sample("cache_misses_total", response.misses(), "cache", "pokemon_card_response");
+        writer.sample("cache_misses_total", jwt.misses(), "cache", "jwt_verify");
+        writer.sample("cache_misses_total", refreshToken.dbLookups(), "cache", "refresh_token");
+        writer.sample("cache_misses_total", summary.fallbacks(), "cache", "tcg_trade_user_summary");
+
+        writer.type("cache_hit_ratio", "gauge", "캐시 적중률");
+        writer.sample("cache_hit_ratio", ratio(detail.hits(), detail.misses()), "cache", "pokemon_card_detail");
+        writer.sample("cache_hit_ratio", ratio(response.hits(), response.misses()), "cache", "pokemon_card_response");
+        writer.sample("cache_hit_ratio", ratio(jwt.hits(), jwt.misses()), "cache", "jwt_verify");
+        writer.sample("cache_hit_ratio", ratio(refreshToken.hits(), refreshToken.dbLookups()), "cache", "refresh_token");
+        writer.sample("cache_hit_ratio", ratio(summary.hits(), summary.fallbacks()), "cache", "tcg_trade_user_summary");
+    }
+
+    private void writeRateLimit(PrometheusTextWriter writer) {
+        var routes = rateLimiter.getStats().routes();
+        writer.type("rate_limit_rejected_total", "counter", "요청 제한 정책별 차단 (429) 수");
+        routes.forEach((policy, route) -> writer.sample("rate_limit_rejected_total", route.rejected(), "policy", policy));
+        writer.type("rate_limit_allowed_total", "counter", "요청 제한 정책별 허용 수");
+        routes.forEach((policy, route) -> writer.sample("rate_limit_allowed_total", route.allowed(), "policy", policy));
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) return null;
+            return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        } catch (SQLException e) {
+            log.warn("Hikari 풀 정보 조회 실패", e);
+            return null;
+        }
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,81 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+/**
+ * Prometheus text 형식 (0.0.4) 작성
+ * 라벨은 name, value 순서로 받는다
+ */
+final class PrometheusTextWriter {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    // histogram 구간 경계 (초), 0.5ms ~ 10s
+    private static final String[] BUCKET_LABELS = {
+            "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+    private static final long[] BUCKET_MICROS = new long[BUCKET_LABELS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_LABELS.length; i++) {
+            BUCKET_MICROS[i] = Math.round(Double.parseDouble(BUCKET_LABELS[i]) * 1e6);
+        }
+    }
+
+    private final StringBuilder builder = new StringBuilder(8192);
+
+    PrometheusTextWriter type(String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    PrometheusTextWriter sample(String name, double value, String... labels) {
+        builder.append(name);
+        if (labels.length > 0) {
+            builder.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (i > 0) builder.append(',');
+                builder.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            builder.append('}');
+        }
+        builder.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            builder.append((long) value);
+        } else {
+            builder.append(value);
+        }
+        builder.append('\n');
+        return this;
+    }
+
+    /**
+     * 히스토그램을 Prometheus histogram (le 별 누적 _bucket, _sum, _count) 으로 작성, 단위는 초
+     * 누적 횟수만 내보내므로 수집 서버에서 rate() 구간을 정해 histogram_quantile 로 최근 백분위를 계산한다
+     */
+    PrometheusTextWriter histogram(String name, LatencyHistogram.Snapshot snapshot, String... labels) {
+        for (int i = 0; i < BUCKET_LABELS.length; i++) {
+            sample(name + "_bucket", snapshot.countAtOrBelow(BUCKET_MICROS[i]), with(labels, "le", BUCKET_LABELS[i]));
+        }
+        sample(name + "_bucket", snapshot.count(), with(labels, "le", "+Inf"));
+        sample(name + "_sum", snapshot.sumMicros() / 1e6, labels);
+        sample(name + "_count", snapshot.count(), labels);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+
+    private static String[] with(String[] labels, String name, String value) {
+        String[] result = new String[labels.length + 2];
+        System.arraycopy(labels, 0, result, 0, labels.length);
+        result[labels.length] = name;
+        result[labels.length + 1] = value;
+        return result;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,43 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개발용 SQL 수 응답 헤더 (metrics.query-count-header: true 일 때만 등록)
+ * 응답 본문을 쓰기 직전까지 요청에서 실행한 SQL 수와 실행 시간을 X-Query-Count, X-Query-Time-Ms 로 내려준다
+ * 본문 직렬화 중 지연 로딩으로 나가는 문장은 헤더를 쓴 뒤라서 포함되지 않는다
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "metrics.query-count-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlRequestContext.REQUEST_ATTRIBUTE) instanceof SqlRequestContext sql) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(sql.getStatements()));
+            response.getHeaders().set(QUERY_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(sql.getStatementNanos())));
+        }
+        return body;
+    }
+}
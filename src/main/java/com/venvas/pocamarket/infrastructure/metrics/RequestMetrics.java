@@ -0,0 +1,86 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 (method + 컨트롤러 경로 패턴) 별 요청 집계
+ * 응답 시간 히스토그램과 요청마다 실행한 SQL 문장 수, DB 시간, 읽은 row 수, 커넥션 대기 시간을 누적한다
+ * 경로 수는 컨트롤러 패턴 수로 제한되고, 혹시 MAX_ROUTES 를 넘으면 OTHER 로 모은다
+ */
+@Component
+public class RequestMetrics {
+
+    public static final int MAX_ROUTES = 512;
+    public static final String OTHER_ROUTE = "OTHER";
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, long nanos, int status, SqlRequestContext sql) {
+        RouteMetrics metrics = routes.get(route);
+        if (metrics == null) {
+            String key = routes.size() < MAX_ROUTES ? route : OTHER_ROUTE;
+            metrics = routes.computeIfAbsent(key, k -> new RouteMetrics());
+        }
+        metrics.record(nanos, status, sql);
+    }
+
+    /**
+     * 경로 이름 순 스냅샷
+     */
+    public Map<String, RouteSnapshot> snapshot() {
+        Map<String, RouteSnapshot> snapshot = new TreeMap<>();
+        routes.forEach((route, metrics) -> snapshot.put(route, metrics.snapshot()));
+        return snapshot;
+    }
+
+    private static final class RouteMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder statementNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder connectionWaitNanos = new LongAdder();
+
+        private void record(long nanos, int status, SqlRequestContext sql) {
+            latency.record(nanos);
+            if (status >= 500) errors.increment();
+            statements.add(sql.getStatements());
+            maxStatements.accumulateAndGet(sql.getStatements(), Math::max);
+            statementNanos.add(sql.getStatementNanos());
+            rows.add(sql.getRows());
+            connectionWaitNanos.add(sql.getConnectionWaitNanos());
+        }
+
+        private RouteSnapshot snapshot() {
+            return new RouteSnapshot(latency.snapshot(), errors.sum(), statements.sum(), maxStatements.get(),
+                    statementNanos.sum(), rows.sum(), connectionWaitNanos.sum());
+        }
+    }
+
+    /**
+     * @param latency 응답 시간
+     * @param errors 5xx 응답 수
+     * @param statements 실행한 SQL 문장 수 합계
+     * @param maxStatements 요청 하나에서 실행한 최대 SQL 문장 수
+     * @param statementNanos DB 시간 합계
+     * @param rows 읽은 row 수 합계
+     * @param connectionWaitNanos 커넥션 획득 대기 시간 합계
+     */
+    public record RouteSnapshot(
+            LatencyHistogram.Snapshot latency,
+            long errors,
+            long statements,
+            long maxStatements,
+            long statementNanos,
+            long rows,
+            long connectionWaitNanos
+    ) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 집계 필터
+ * 보안 필터 체인보다 먼저 실행해서 (요청 제한, 인증 실패 응답 포함) 경로별 응답 시간과 요청 동안 실행한 SQL 을 RequestMetrics 에 기록한다
+ * 요청마다 SqlTracer 샘플링 여부를 정해서 추적 대상 요청의 문장은 모두 남긴다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final RequestMetrics requestMetrics;
+    private final SqlTracer sqlTracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        SqlRequestContext sql = SqlRequestContext.open(false, sqlTracer.sampleRequest());
+        request.setAttribute(SqlRequestContext.REQUEST_ATTRIBUTE, sql);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sql.close();
+            requestMetrics.record(routeOf(request), System.nanoTime() - start, response.getStatus(), sql);
+        }
+    }
+
+    /**
+     * 컨트롤러 경로 패턴 (/tcg-trade/{tradeId}), 컨트롤러에 닿지 않은 요청은 UNMATCHED
+     */
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + ' ' + (pattern != null ? pattern : UNMATCHED);
+    }
+}
@@ -0,0 +1,66 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체 SQL 집계 (InstrumentedDataSource 에서 기록)
+ * 문장 수, 실행 시간, 읽은 row 수, 커넥션 획득 대기 시간 (Hikari 풀 대기) 을 누적하고 현재 요청 집계 (SqlRequestContext) 에도 더한다
+ * 실행한 문장은 SqlTracer 에도 넘겨서 추적 모드에 따라 남긴다
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlMetrics {
+
+    private final SqlTracer sqlTracer;
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram statementLatency = new LatencyHistogram();
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+
+    /**
+     * @param bindShape bind 값 타입 목록, 추적하지 않으면 null
+     */
+    void recordStatement(String sql, String bindShape, long nanos) {
+        statements.increment();
+        statementLatency.record(nanos);
+        SqlRequestContext.recordStatement(sql, nanos);
+        sqlTracer.onStatement(sql, bindShape, nanos, SqlRequestContext.isTraced());
+    }
+
+    /**
+     * bind 값 타입을 기록해야 하는지
+     */
+    boolean isTracing() {
+        return sqlTracer.isEnabled();
+    }
+
+    void recordRow() {
+        rows.increment();
+        SqlRequestContext.recordRow();
+    }
+
+    void recordConnection(long waitNanos) {
+        connectionWait.record(waitNanos);
+        SqlRequestContext.recordConnection(waitNanos);
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public LatencyHistogram.Snapshot getStatementLatency() {
+        return statementLatency.snapshot();
+    }
+
+    public LatencyHistogram.Snapshot getConnectionWait() {
+        return connectionWait.snapshot();
+    }
+}
@@ -0,0 +1,118 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 (또는 테스트) 하나 동안 실행한 SQL 집계
+ * 현재 스레드에서 열린 context 모두에 기록하므로 요청 집계 안에서 테스트 집계를 따로 열 수 있다
+ * 열었던 스레드에서만 쓰고 닫아야 한다 (try-finally)
+ */
+public final class SqlRequestContext implements AutoCloseable {
+
+    /**
+     * 요청 집계 필터가 요청 속성에 넣어 두는 이름 (응답 헤더 등에서 읽는다)
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlRequestContext.class.getName();
+
+    private static final ThreadLocal<List<SqlRequestContext>> ACTIVE = ThreadLocal.withInitial(() -> new ArrayList<>(2));
+
+    private final boolean keepStatements;
+    private final boolean traced;
+    private final List<String> sqls;
+
+    private int statements;
+    private long statementNanos;
+    private long rows;
+    private int connections;
+    private long connectionWaitNanos;
+
+    private SqlRequestContext(boolean keepStatements, boolean traced) {
+        this.keepStatements = keepStatements;
+        this.traced = traced;
+        this.sqls = keepStatements ? new ArrayList<>() : List.of();
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     *
+     * @param keepStatements 실행한 SQL 문장을 보관할지 (테스트용)
+     */
+    public static SqlRequestContext open(boolean keepStatements) {
+        return open(keepStatements, false);
+    }
+
+    /**
+     * @param traced 이 요청의 모든 문장을 추적할지 (SqlTracer 샘플링)
+     */
+    public static SqlRequestContext open(boolean keepStatements, boolean traced) {
+        SqlRequestContext context = new SqlRequestContext(keepStatements, traced);
+        ACTIVE.get().add(context);
+        return context;
+    }
+
+    @Override
+    public void close() {
+        List<SqlRequestContext> active = ACTIVE.get();
+        active.remove(this);
+        if (active.isEmpty()) ACTIVE.remove();
+    }
+
+    /**
+     * 현재 스레드에 추적 대상 요청이 열려 있는지
+     */
+    static boolean isTraced() {
+        for (SqlRequestContext context : ACTIVE.get()) {
+            if (context.traced) return true;
+        }
+        return false;
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        for (SqlRequestContext context : ACTIVE.get()) {
+            context.statements++;
+            context.statementNanos += nanos;
+            if (context.keepStatements) context.sqls.add(sql);
+        }
+    }
+
+    static void recordRow() {
+        for (SqlRequestContext context : ACTIVE.get()) {
+            context.rows++;
+        }
+    }
+
+    static void recordConnection(long waitNanos) {
+        for (SqlRequestContext context : ACTIVE.get()) {
+            context.connections++;
+            context.connectionWaitNanos += waitNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    /**
+     * 실행한 SQL 문장, keepStatements 로 열었을 때만
+     */
+    public List<String> getSqls() {
+        return List.copyOf(sqls);
+    }
+}
@@ -0,0 +1,13 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+/**
+ * SQL 추적 모드 (sql-trace.mode)
+ */
+public enum SqlTraceMode {
+    /** 추적하지 않음 (집계만) */
+    OFF,
+    /** sample-rate 요청 중 1 개의 모든 문장 + slow-threshold-ms 보다 느린 문장 */
+    SAMPLED,
+    /** 모든 문장 (로컬 개발용) */
+    FULL
+}
@@ -0,0 +1,21 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+/**
+ * 추적한 SQL 문장
+ *
+ * @param sequence ring buffer 순번
+ * @param sql SQL 문장 (bind 값 없이 ?)
+ * @param bindShape bind 값 타입 목록 (값은 남기지 않는다), 예) [String, Long, null]
+ * @param elapsedNanos 실행 시간
+ * @param capturedAtMillis 실행 시각 (epoch ms)
+ * @param thread 실행 스레드 이름
+ */
+public record SqlTraceRecord(
+        long sequence,
+        String sql,
+        String bindShape,
+        long elapsedNanos,
+        long capturedAtMillis,
+        String thread
+) {
+}
@@ -0,0 +1,79 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * 락 없는 ring buffer (여러 요청 스레드가 쓰고, 추적 appender 스레드 하나가 읽는다)
+ * 쓰는 쪽은 순번을 CAS 없이 getAndIncrement 로 받아 자리에 넣기만 하므로 기다리지 않고,
+ * 읽는 쪽이 capacity 만큼 밀리면 오래된 기록부터 덮어쓴다 (dropped 로 센다)
+ */
+final class SqlTraceRingBuffer {
+
+    private final AtomicReferenceArray<SqlTraceRecord> slots;
+    private final int mask;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // appender 스레드에서만 변경
+    private long readSequence;
+
+    /**
+     * @param capacity 2 의 거듭제곱
+     */
+    SqlTraceRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 의 거듭제곱이어야 합니다. capacity = " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 기록 추가, 순번을 받아 record 를 만든다
+     */
+    void offer(LongFunction<SqlTraceRecord> factory) {
+        long sequence = writeSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), factory.apply(sequence));
+    }
+
+    /**
+     * 쌓인 기록을 최대 max 개 꺼낸다 (appender 스레드 전용)
+     * 아직 쓰는 중인 자리를 만나면 멈추고 다음에 다시 읽는다
+     */
+    int drainTo(List<SqlTraceRecord> target, int max) {
+        long written = writeSequence.get();
+        if (written - readSequence > slots.length()) {
+            dropped.add(written - slots.length() - readSequence);
+            readSequence = written - slots.length();
+        }
+
+        int drained = 0;
+        while (readSequence < written && drained < max) {
+            int index = (int) (readSequence & mask);
+            SqlTraceRecord record = slots.get(index);
+            if (record == null || record.sequence() < readSequence) break;
+            if (record.sequence() > readSequence) {
+                // 읽기 전에 덮어써졌다
+                dropped.add(record.sequence() - readSequence);
+                readSequence = record.sequence();
+            }
+            slots.compareAndSet(index, record, null);
+            target.add(record);
+            readSequence++;
+            drained++;
+        }
+        return drained;
+    }
+
+    long getWritten() {
+        return writeSequence.get();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+}
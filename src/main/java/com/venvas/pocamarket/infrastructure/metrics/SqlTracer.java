@@ -0,0 +1,206 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SQL 추적 (p6spy 대체)
+ * OFF 면 아무것도 남기지 않고, SAMPLED 면 sample-rate 요청 중 1 개의 모든 문장과 slow-threshold-ms 보다 느린 문장, FULL 이면 모든 문장을 남긴다
+ * 요청 스레드는 SqlTraceRingBuffer 에 넣기만 하고, appender 스레드가 꺼내서 sql.trace 로그에 쓰고 가장 느린 문장 slowest-size 개를 보관한다
+ */
+@Slf4j
+@Component
+public class SqlTracer {
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("sql.trace");
+    private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int DRAIN_BATCH = 1024;
+
+    private final SqlTraceMode mode;
+    private final int sampleRate;
+    private final long slowThresholdNanos;
+    private final int slowestSize;
+    private final SqlTraceRingBuffer buffer;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final LongAdder traced = new LongAdder();
+    private final LongAdder logged = new LongAdder();
+
+    // elapsedNanos asc, 가장 빠른 기록이 먼저 빠진다. 접근은 slowest 로 동기화
+    private final PriorityQueue<SqlTraceRecord> slowest =
+            new PriorityQueue<>(Comparator.comparingLong(SqlTraceRecord::elapsedNanos));
+
+    private volatile boolean running = true;
+    private Thread appender;
+
+    public SqlTracer(@Value("${sql-trace.mode:OFF}") SqlTraceMode mode,
+                     @Value("${sql-trace.sample-rate:100}") int sampleRate,
+                     @Value("${sql-trace.slow-threshold-ms:200}") long slowThresholdMillis,
+                     @Value("${sql-trace.buffer-size:4096}") int bufferSize,
+                     @Value("${sql-trace.slowest-size:50}") int slowestSize) {
+        this.mode = mode;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowestSize = slowestSize;
+        this.buffer = new SqlTraceRingBuffer(bufferSize);
+    }
+
+    /**
+     * 애플리케이션 시작 후 appender 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if (mode == SqlTraceMode.OFF || appender != null) return;
+
+        appender = new Thread(this::runAppender, "sql-trace-appender");
+        appender.setDaemon(true);
+        appender.start();
+        log.info("SQL 추적 시작 mode = {}, sampleRate = {}, slowThresholdMs = {}", mode, sampleRate,
+                TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread = appender;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    public SqlTraceMode getMode() {
+        return mode;
+    }
+
+    /**
+     * bind 값 타입을 기록해야 하는지 (추적할 때만)
+     */
+    boolean isEnabled() {
+        return mode != SqlTraceMode.OFF;
+    }
+
+    /**
+     * 요청 시작 시 이 요청의 모든 문장을 추적할지 결정
+     */
+    public boolean sampleRequest() {
+        return switch (mode) {
+            case OFF -> false;
+            case FULL -> true;
+            case SAMPLED -> requests.getAndIncrement() % sampleRate == 0;
+        };
+    }
+
+    /**
+     * 문장 실행 후 호출, 추적 대상이면 ring buffer 에 넣는다
+     *
+     * @param sampled 현재 요청이 추적 대상인지
+     */
+    void onStatement(String sql, String bindShape, long elapsedNanos, boolean sampled) {
+        if (mode == SqlTraceMode.OFF) return;
+        if (mode == SqlTraceMode.SAMPLED && !sampled && elapsedNanos < slowThresholdNanos) return;
+
+        traced.increment();
+        String thread = Thread.currentThread().getName();
+        long now = System.currentTimeMillis();
+        buffer.offer(sequence -> new SqlTraceRecord(sequence, sql, bindShape, elapsedNanos, now, thread));
+    }
+
+    /**
+     * 가장 느린 문장, 느린 순
+     */
+    public List<SqlTraceRecord> getSlowest(int size) {
+        List<SqlTraceRecord> records;
+        synchronized (slowest) {
+            records = new ArrayList<>(slowest);
+        }
+        records.sort(Comparator.comparingLong(SqlTraceRecord::elapsedNanos).reversed());
+        return records.size() > size ? new ArrayList<>(records.subList(0, size)) : records;
+    }
+
+    public SqlTraceStats getStats() {
+        return new SqlTraceStats(mode, sampleRate, TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos),
+                traced.sum(), logged.sum(), buffer.getDropped());
+    }
+
+    /**
+     * ring buffer 에 쌓인 기록을 로그에 쓰고 가장 느린 문장에 반영
+     *
+     * @return 처리한 기록 수
+     */
+    synchronized int drain() {
+        List<SqlTraceRecord> records = new ArrayList<>(DRAIN_BATCH);
+        int total = 0;
+        while (buffer.drainTo(records, DRAIN_BATCH) > 0) {
+            for (SqlTraceRecord record : records) {
+                TRACE_LOG.info("{}µs | {} | {} | {}", TimeUnit.NANOSECONDS.toMicros(record.elapsedNanos()),
+                        record.thread(), record.sql(), record.bindShape());
+                keepSlowest(record);
+            }
+            logged.add(records.size());
+            total += records.size();
+            records.clear();
+        }
+        return total;
+    }
+
+    private void keepSlowest(SqlTraceRecord record) {
+        synchronized (slowest) {
+            if (slowest.size() < slowestSize) {
+                slowest.add(record);
+            } else if (slowestSize > 0 && slowest.peek().elapsedNanos() < record.elapsedNanos()) {
+                slowest.poll();
+                slowest.add(record);
+            }
+        }
+    }
+
+    private void runAppender() {
+        while (running) {
+            try {
+                if (drain() == 0) LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+            } catch (RuntimeException e) {
+                log.warn("SQL 추적 기록 실패", e);
+                LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * @param mode 추적 모드
+     * @param sampleRate 추적하는 요청 비율 (1 / sampleRate)
+     * @param slowThresholdMillis 느린 문장 기준 (ms)
+     * @param traced 추적한 문장 수
+     * @param logged 로그에 쓴 문장 수
+     * @param dropped appender 가 밀려서 버린 문장 수
+     */
+    public record SqlTraceStats(
+            SqlTraceMode mode,
+            int sampleRate,
+            long slowThresholdMillis,
+            long traced,
+            long logged,
+            long dropped
+    ) {
+    }
+}
@@ -29,7 +29,8 @@ import java.time.LocalDateTime;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtTokenProvider jwtTokenProvider; // 토큰 검증/파싱 유틸
+    private final JwtTokenProvider jwtTokenProvider; // 토큰 발급 유틸
+    private final JwtTokenVerifier jwtTokenVerifier; // 토큰 검증/파싱 (검증 결과 캐시)
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JwtProperties jwtProperties = new JwtProperties();
@@ -42,16 +43,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 1. Request Header에서 토큰 추출
         String token = resolveToken(request);
-        // 2. 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token) == null) {
-            // 토큰이 유효할 경우, 토큰에서 Authentication 객체를 가져와 SecurityContext에 저장
-            String uuid = jwtTokenProvider.getUuid(token);
-            UserGrade grade = UserGrade.valueOf(jwtTokenProvider.getGrade(token));
-
-            if (uuid == null) {
+        // 2. 토큰 유효성 검사 (한번만 파싱)
+        if (token != null) {
+            JwtVerification verification = jwtTokenVerifier.verify(token);
+            if (verification.errorCode() == JwtErrorCode.INVALID_INFO) {
                 throw new JwtCustomException(JwtErrorCode.INVALID_INFO);
             }
-            saveSecurityContextHolder(uuid, grade);
+            if (verification.isValid()) {
+                // 토큰이 유효할 경우, 토큰에서 Authentication 객체를 가져와 SecurityContext에 저장
+                JwtPrincipal principal = verification.principal();
+                saveSecurityContextHolder(principal.uuid(), UserGrade.valueOf(principal.grade()));
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,23 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰 정보 (불변)
+ *
+ * @param uuid 사용자 uuid 클레임
+ * @param grade 사용자 등급 클레임 (UserGrade 이름)
+ * @param subject 토큰 종류 (accessToken, refreshToken)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JwtPrincipal(
+        String uuid,
+        String grade,
+        String subject,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
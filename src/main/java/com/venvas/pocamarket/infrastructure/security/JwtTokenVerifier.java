@@ -0,0 +1,107 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
+import com.venvas.pocamarket.infrastructure.util.TokenDigestUtil;
+import com.venvas.pocamarket.service.user.application.dto.JwtVerifyStatsDto;
+import com.venvas.pocamarket.service.user.domain.exception.JwtErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JWT 검증 + 검증된 토큰 캐시
+ * 토큰 하나를 한번만 파싱해서 uuid, grade, 만료 시각을 JwtPrincipal 로 만들고,
+ * 검증에 성공한 토큰은 SHA-256 digest 를 키로 LRU 에 보관해서 같은 토큰의 다음 요청은 서명 검증 없이 처리한다
+ * 보관한 토큰은 토큰 자체의 만료 시각까지만 유효하고, 실패한 토큰은 보관하지 않는다
+ */
+@Component
+public class JwtTokenVerifier {
+
+    public static final int MAX_SIZE = 10_000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Clock clock;
+    private final int maxSize;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    // access-order LinkedHashMap, 접근은 모두 this 로 동기화
+    private final Map<String, JwtPrincipal> cache;
+
+    public JwtTokenVerifier(JwtTokenProvider jwtTokenProvider) {
+        this(jwtTokenProvider, Clock.systemUTC(), MAX_SIZE);
+    }
+
+    JwtTokenVerifier(JwtTokenProvider jwtTokenProvider, Clock clock, int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                return size() > JwtTokenVerifier.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 토큰 검증, 캐시에 있고 만료되지 않았으면 파싱하지 않는다
+     */
+    public JwtVerification verify(String token) {
+        verifications.increment();
+        if (token == null || token.isBlank()) {
+            failures.increment();
+            return JwtVerification.fail(JwtErrorCode.FAIL_AUTHENTICATION);
+        }
+
+        String key = TokenDigestUtil.sha256(token);
+        Instant now = clock.instant();
+
+        synchronized (this) {
+            JwtPrincipal cached = cache.get(key);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    hits.increment();
+                    return JwtVerification.success(cached);
+                }
+                cache.remove(key);
+                failures.increment();
+                return JwtVerification.fail(JwtErrorCode.TOKEN_EXPIRED);
+            }
+        }
+
+        misses.increment();
+        JwtVerification verification = jwtTokenProvider.verify(token);
+        if (!verification.isValid()) {
+            failures.increment();
+            return verification;
+        }
+
+        synchronized (this) {
+            cache.put(key, verification.principal());
+        }
+        return verification;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public JwtVerifyStatsDto getStats() {
+        int size;
+        synchronized (this) {
+            size = cache.size();
+        }
+        long total = verifications.sum();
+        long hit = hits.sum();
+        double hitRatio = total == 0 ? 0.0 : (double) hit / total;
+        return new JwtVerifyStatsDto(total, hit, misses.sum(), failures.sum(), hitRatio, size, maxSize);
+    }
+}
@@ -0,0 +1,22 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.venvas.pocamarket.service.user.domain.exception.JwtErrorCode;
+
+/**
+ * 토큰 검증 결과
+ * 성공하면 principal, 실패하면 errorCode 만 채워진다
+ */
+public record JwtVerification(JwtPrincipal principal, JwtErrorCode errorCode) {
+
+    public static JwtVerification success(JwtPrincipal principal) {
+        return new JwtVerification(principal, null);
+    }
+
+    public static JwtVerification fail(JwtErrorCode errorCode) {
+        return new JwtVerification(null, errorCode);
+    }
+
+    public boolean isValid() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 지표 수집 인증 필터
+ * GET /admin/metrics 요청의 Basic 인증이 MetricsScrapeCredential 과 같으면 METRICS 권한으로 인증한다
+ * 다른 경로에는 이 권한이 통하지 않고, 맞지 않으면 아무것도 하지 않아서 관리자 토큰 인증을 그대로 따른다
+ */
+@RequiredArgsConstructor
+public class MetricsScrapeAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String SCRAPE_PATH = "/admin/metrics";
+    public static final String ROLE = "METRICS";
+
+    private final MetricsScrapeCredential credential;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !credential.isEnabled() || !HttpMethod.GET.matches(request.getMethod()) || !SCRAPE_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (credential.matches(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "metrics-scraper", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 지표 수집 (Prometheus) 용 Basic 인증 정보
+ * 수집 서버는 1시간짜리 관리자 access token 을 계속 갱신할 수 없으므로 /admin/metrics 만 고정 계정으로 허용한다
+ * metrics.scrape.password 가 비어 있으면 사용하지 않는다 (관리자 토큰으로만 조회)
+ */
+@Component
+public class MetricsScrapeCredential {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final byte[] expected;
+
+    public MetricsScrapeCredential(@Value("${metrics.scrape.username:prometheus}") String username,
+                                   @Value("${metrics.scrape.password:}") String password) {
+        this.expected = StringUtils.hasText(password)
+                ? (username + ':' + password).getBytes(StandardCharsets.UTF_8)
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return expected != null;
+    }
+
+    /**
+     * Authorization 헤더가 수집용 계정인지 확인 (시간 차이로 값을 추측하지 못하게 MessageDigest.isEqual 로 비교)
+     */
+    public boolean matches(String authorization) {
+        if (expected == null || authorization == null || !authorization.startsWith(BASIC_PREFIX)) return false;
+        try {
+            byte[] actual = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.service.user.application.dto.UserDetailDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 필터
+ * JwtAuthenticationFilter 다음에 실행해서 로그인 사용자는 uuid, 아니면 IP 로 RateLimitPolicy 의 버킷을 확인한다
+ * 토큰이 없으면 컨트롤러 (DB 조회, BCrypt 비교) 전에 429 로 응답한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String ERROR_CODE = "RATE_LIMITED";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitPolicy policy = RateLimitPolicy.match(request.getMethod(), path);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = policy.keyOf(currentUuid(), request.getRemoteAddr(), path);
+        long waitNanos = rateLimiter.tryAcquire(policy, key);
+        if (waitNanos > 0) {
+            log.info("요청 제한 policy = {}, key = {}", policy, key);
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+
+        if (policy.isRefundOnError() && response.getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+            rateLimiter.refund(policy, key);
+        }
+    }
+
+    private String currentUuid() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailDto user) {
+            return user.getUuid();
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value()); // 429
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(
+                ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", ERROR_CODE)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+
+/**
+ * 경로별 요청 제한 정책 (token bucket)
+ * capacity 개까지 한번에 허용하고, refillPeriod 마다 refillTokens 개씩 다시 채운다
+ * 로그인한 요청은 uuid, 아니면 IP 를 키로 쓰고, 끌어올리기는 교환글마다 따로 센다
+ */
+public enum RateLimitPolicy {
+
+    /** 로그인, BCrypt 비교 전에 IP 별로 제한 */
+    LOGIN(HttpMethod.POST, "/login", 5, 5, Duration.ofMinutes(1), false, false),
+    /** 닉네임 중복 확인 */
+    NICKNAME_CHECK(HttpMethod.GET, "/user/checkNickname/*", 10, 1, Duration.ofSeconds(1), false, false),
+    /** 교환 요청 추가 */
+    TRADE_REQUEST(HttpMethod.POST, "/tcg-trade/*/request", 5, 1, Duration.ofSeconds(10), false, false),
+    /** 내 카드 리스트 끌어올리기, 교환글마다 1시간에 한번 (실패한 요청은 토큰을 돌려준다) */
+    TRADE_REFRESH(HttpMethod.PATCH, "/tcg-trade/refresh/*", 1, 1, Duration.ofHours(1), true, true),
+    /** 교환 리스트 검색 */
+    TRADE_SEARCH(HttpMethod.GET, "/tcg-trade", 30, 5, Duration.ofSeconds(1), false, false),
+    /** 내 교환 리스트 검색 */
+    TRADE_MY_SEARCH(HttpMethod.GET, "/tcg-trade/my", 30, 5, Duration.ofSeconds(1), false, false);
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final HttpMethod method;
+    private final String pattern;
+    private final int capacity;
+    private final int refillTokens;
+    private final long refillNanos;
+    private final boolean perPath;
+    private final boolean refundOnError;
+
+    RateLimitPolicy(HttpMethod method, String pattern, int capacity, int refillTokens, Duration refillPeriod,
+                    boolean perPath, boolean refundOnError) {
+        this.method = method;
+        this.pattern = pattern;
+        this.capacity = capacity;
+        this.refillTokens = refillTokens;
+        this.refillNanos = refillPeriod.toNanos();
+        this.perPath = perPath;
+        this.refundOnError = refundOnError;
+    }
+
+    /**
+     * 요청에 해당하는 정책, 없으면 null
+     */
+    public static RateLimitPolicy match(String method, String path) {
+        for (RateLimitPolicy policy : values()) {
+            if (policy.method.matches(method) && PATH_MATCHER.match(policy.pattern, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 버킷 키, 로그인 정책은 항상 IP
+     *
+     * @param uuid 로그인 사용자 UUID, 없으면 null
+     */
+    public String keyOf(String uuid, String remoteAddr, String path) {
+        String owner = this != LOGIN && uuid != null ? "u:" + uuid : "ip:" + remoteAddr;
+        return perPath ? owner + ':' + path : owner;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRefillTokens() {
+        return refillTokens;
+    }
+
+    public long getRefillNanos() {
+        return refillNanos;
+    }
+
+    public boolean isRefundOnError() {
+        return refundOnError;
+    }
+}
@@ -0,0 +1,171 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.venvas.pocamarket.service.user.application.dto.RateLimitStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 제한 (정책, 키별 token bucket)
+ * 버킷은 키 해시로 나눈 STRIPES 개 map 에 보관하고 stripe 단위로 락을 잡아서, 다른 사용자 요청끼리는 거의 경합하지 않는다
+ * 다 채워진 버킷은 없는 버킷과 같으므로 주기적으로 정리하고, stripe 마다 MAX_BUCKETS_PER_STRIPE 개를 넘으면 가장 오래 쓰지 않은 버킷부터 뺀다
+ */
+@Component
+public class RateLimiter {
+
+    public static final int STRIPES = 64;
+    public static final int MAX_BUCKETS_PER_STRIPE = 4096;
+
+    private final boolean enabled;
+    private final LongSupplier nanoClock;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Map<RateLimitPolicy, LongAdder[]> counts = new EnumMap<>(RateLimitPolicy.class);
+    private final LongAdder evictions = new LongAdder();
+
+    public RateLimiter(@Value("${rate-limit.enabled:true}") boolean enabled) {
+        this(enabled, System::nanoTime);
+    }
+
+    RateLimiter(boolean enabled, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            counts.put(policy, new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()});
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 허용이면 0, 차단이면 다음 토큰까지 남은 시간 (ns)
+     */
+    public long tryAcquire(RateLimitPolicy policy, String key) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripeOf(key);
+        long waitNanos;
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.buckets.computeIfAbsent(policy.name() + '|' + key,
+                    k -> new TokenBucket(policy, now));
+            waitNanos = bucket.tryAcquire(now);
+        }
+        counts.get(policy)[waitNanos == 0 ? 0 : 1].increment();
+        return waitNanos;
+    }
+
+    /**
+     * 사용한 토큰을 돌려준다 (실패한 요청)
+     */
+    public void refund(RateLimitPolicy policy, String key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.buckets.get(policy.name() + '|' + key);
+            if (bucket == null) return;
+            bucket.refund();
+        }
+        counts.get(policy)[2].increment();
+    }
+
+    /**
+     * 다 채워진 버킷 정리 (rate-limit.evict-millis 로 변경)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-millis:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<TokenBucket> iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().isFull(now)) {
+                        iterator.remove();
+                        evictions.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    public RateLimitStatsDto getStats() {
+        Map<String, RateLimitStatsDto.Route> routes = new LinkedHashMap<>();
+        counts.forEach((policy, values) -> routes.put(policy.name(),
+                new RateLimitStatsDto.Route(values[0].sum(), values[1].sum(), values[2].sum())));
+
+        int buckets = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                buckets += stripe.buckets.size();
+            }
+        }
+        return new RateLimitStatsDto(routes, buckets, evictions.sum());
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private final class Stripe {
+        // access-order LinkedHashMap, 접근은 모두 stripe 로 동기화
+        private final Map<String, TokenBucket> buckets = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                boolean evict = size() > MAX_BUCKETS_PER_STRIPE;
+                if (evict) evictions.increment();
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * 마지막으로 채운 시각부터 지난 시간만큼 토큰을 채우고 하나 사용한다
+     */
+    private static final class TokenBucket {
+        private final RateLimitPolicy policy;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(RateLimitPolicy policy, long now) {
+            this.policy = policy;
+            this.tokens = policy.getCapacity();
+            this.refilledAt = now;
+        }
+
+        private long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) ((1 - tokens) * policy.getRefillNanos() / policy.getRefillTokens()));
+        }
+
+        private void refund() {
+            tokens = Math.min(policy.getCapacity(), tokens + 1);
+        }
+
+        private boolean isFull(long now) {
+            refill(now);
+            return tokens >= policy.getCapacity();
+        }
+
+        private void refill(long now) {
+            long elapsed = now - refilledAt;
+            if (elapsed <= 0) return;
+            tokens = Math.min(policy.getCapacity(), tokens + (double) elapsed * policy.getRefillTokens() / policy.getRefillNanos());
+            refilledAt = now;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.venvas.pocamarket.infrastructure.security.oauth2;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 
@@ -17,13 +16,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.venvas.pocamarket.infrastructure.util.CookieUtil;
+import com.venvas.pocamarket.infrastructure.util.IssuedToken;
 import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
 import com.venvas.pocamarket.service.user.application.dto.SocialLoginResponse;
-import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
+import com.venvas.pocamarket.service.user.application.service.RefreshTokenService;
 import com.venvas.pocamarket.service.user.domain.entity.SocialUser;
 import com.venvas.pocamarket.service.user.domain.entity.User;
 import com.venvas.pocamarket.service.user.domain.enums.UserGrade;
-import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
 import com.venvas.pocamarket.service.user.domain.repository.SocialUserRepository;
 import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 
@@ -46,7 +45,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final SocialUserRepository socialUserRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final Environment environment;
 
     @Override
@@ -96,10 +95,11 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             
             // JWT 토큰 생성
             String accessToken = jwtTokenProvider.createAccessToken(user.getUuid(), user.getGrade().name());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getUuid(), user.getGrade().name());
+            IssuedToken issuedRefreshToken = jwtTokenProvider.issueRefreshToken(user.getUuid(), user.getGrade().name());
+            String refreshToken = issuedRefreshToken.token();
             
             // 리프레시 토큰 저장
-            saveRefreshToken(user.getUuid(), refreshToken);
+            refreshTokenService.save(user.getUuid(), issuedRefreshToken);
             
             // 로그인 이력 기록
             user.recordLoginAttempt(request.getRemoteAddr(), request.getHeader("User-Agent"), true);
@@ -158,24 +158,6 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         return null;
     }
 
-    /**
-     * 리프레시 토큰 저장
-     */
-    private void saveRefreshToken(String uuid, String refreshToken) {
-        // 기존 리프레시 토큰 삭제
-        refreshTokenRepository.revokeAllTokensByUuid(uuid);
-        
-        // 새로운 리프레시 토큰 저장
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .uuid(uuid)
-                .token(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .expiresAt(jwtTokenProvider.getRefreshTokenExpireTimeAsLocalDateTime())
-                .build();
-        
-        refreshTokenRepository.save(refreshTokenEntity);
-    }
-
     @Override
     protected String determineTargetUrl(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         // 현재 활성화된 프로파일 확인
@@ -0,0 +1,25 @@
+package com.venvas.pocamarket.infrastructure.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 발급한 토큰과 발급/만료 시각
+ * 토큰마다 만료 시각을 같이 돌려줘서 동시에 발급해도 다른 요청의 만료 시각을 읽지 않는다
+ *
+ * @param token 토큰 문자열
+ * @param issuedAt 발급 시각
+ * @param expiresAt 만료 시각
+ */
+public record IssuedToken(String token, Instant issuedAt, Instant expiresAt) {
+
+    // LocalDateTime 버전 (entity와 호환용)
+    public LocalDateTime issuedAtAsLocalDateTime() {
+        return LocalDateTime.ofInstant(issuedAt, ZoneId.systemDefault());
+    }
+
+    public LocalDateTime expiresAtAsLocalDateTime() {
+        return LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+    }
+}
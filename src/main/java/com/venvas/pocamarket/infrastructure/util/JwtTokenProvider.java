@@ -2,6 +2,8 @@ package com.venvas.pocamarket.infrastructure.util;
 
 
 import com.venvas.pocamarket.infrastructure.config.JwtProperties;
+import com.venvas.pocamarket.infrastructure.security.JwtPrincipal;
+import com.venvas.pocamarket.infrastructure.security.JwtVerification;
 import com.venvas.pocamarket.service.user.domain.exception.JwtErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -11,8 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 @Slf4j
@@ -23,53 +25,56 @@ public class JwtTokenProvider {
     public static final String REFRESH_TOKEN_NAME = "refreshToken";
 
     private final Key key;
+    // 불변, 스레드 안전한 parser 를 한번만 만들어서 재사용
+    private final JwtParser jwtParser;
 
     @Getter
     private final JwtProperties jwtProperties;
-    @Getter
-    private Date accessTokenExpireTime;
-    @Getter
-    private Date refreshTokenExpireTime;
-    
-    // LocalDateTime 버전의 getter 메서드들 (entity와 호환용)
-    public LocalDateTime getRefreshTokenExpireTimeAsLocalDateTime() {
-        return refreshTokenExpireTime.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-    }
-    
-    public LocalDateTime getAccessTokenExpireTimeAsLocalDateTime() {
-        return accessTokenExpireTime.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-    }
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
-        this.accessTokenExpireTime = new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenValidityInMs());
-        this.refreshTokenExpireTime = new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenValidityInMs());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    /**
+     * 엑세스 토큰 발급, 토큰과 만료 시각을 같이 반환
+     */
+    public IssuedToken issueAccessToken(String uuid, String grade) {
+        return issue(ACCESS_TOKEN_NAME, uuid, grade, jwtProperties.getAccessTokenValidityInMs());
+    }
+
+    /**
+     * 리프레시 토큰 발급, 토큰과 만료 시각을 같이 반환
+     */
+    public IssuedToken issueRefreshToken(String uuid, String grade) {
+        return issue(REFRESH_TOKEN_NAME, uuid, grade, jwtProperties.getRefreshTokenValidityInMs());
     }
 
     public String createAccessToken(String uuid, String grade) {
-        this.accessTokenExpireTime = new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenValidityInMs());
-
-        return Jwts.builder() // JWT 토큰 빌더 생성
-            .setSubject(ACCESS_TOKEN_NAME) // 토큰 제목(subject)으로 사용자 ID 설정
-            .claim("uuid", uuid) // 사용자 uuid를 클레임으로 추가
-            .claim("grade", grade) // 사용자 등급을 클레임으로 추가
-            .setIssuedAt(new Date()) // 토큰 발급 시간 설정
-            .setExpiration(accessTokenExpireTime) // 토큰 만료 시간 설정
-            .signWith(key, SignatureAlgorithm.HS256) // HS256 알고리즘과 시크릿 키로 서명
-            .compact(); // 최종적으로 토큰 문자열로 변환
+        return issueAccessToken(uuid, grade).token();
     }
 
     public String createRefreshToken(String uuid, String grade) {
-        this.refreshTokenExpireTime = new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenValidityInMs());
-        return Jwts.builder()
-                .setSubject(REFRESH_TOKEN_NAME)
+        return issueRefreshToken(uuid, grade).token();
+    }
+
+    private IssuedToken issue(String subject, String uuid, String grade, long validityInMs) {
+        // JWT 의 iat, exp 는 초 단위라 반환하는 시각도 토큰에 들어가는 값과 같게 맞춘다
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = issuedAt.plusMillis(validityInMs);
+
+        String token = Jwts.builder() // JWT 토큰 빌더 생성
+                .setSubject(subject) // 토큰 제목(subject)으로 토큰 종류 설정
                 .claim("uuid", uuid) // 사용자 uuid를 클레임으로 추가
                 .claim("grade", grade) // 사용자 등급을 클레임으로 추가
-                .setIssuedAt(new Date())
-                .setExpiration(refreshTokenExpireTime)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setIssuedAt(Date.from(issuedAt)) // 토큰 발급 시간 설정
+                .setExpiration(Date.from(expiresAt)) // 토큰 만료 시간 설정
+                .signWith(key, SignatureAlgorithm.HS256) // HS256 알고리즘과 시크릿 키로 서명
+                .compact(); // 최종적으로 토큰 문자열로 변환
+        return new IssuedToken(token, issuedAt, expiresAt);
     }
 
     public String getUuid(String token) {
@@ -83,10 +88,7 @@ public class JwtTokenProvider {
     // 3. 토큰 유효성 검증
     public JwtErrorCode validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = jwtParser.parseClaimsJws(token);
             if(claims.getBody().getExpiration().before(new Date())) {
                 return JwtErrorCode.TOKEN_EXPIRED;
             }
@@ -96,16 +98,33 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * 토큰을 한번만 파싱해서 검증하고 클레임을 꺼낸다
+     * uuid, grade, 만료 시각 클레임이 없으면 INVALID_INFO
+     */
+    public JwtVerification verify(String token) {
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            String uuid = claims.get("uuid", String.class);
+            String grade = claims.get("grade", String.class);
+            if (uuid == null || grade == null || claims.getExpiration() == null) {
+                return JwtVerification.fail(JwtErrorCode.INVALID_INFO);
+            }
+            return JwtVerification.success(
+                    new JwtPrincipal(uuid, grade, claims.getSubject(), claims.getExpiration().toInstant()));
+        } catch (ExpiredJwtException e) {
+            return JwtVerification.fail(JwtErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return JwtVerification.fail(JwtErrorCode.FAIL_AUTHENTICATION);
+        }
+    }
+
     // 4. Request에서 토큰 추출
     public String resolveToken(HttpServletRequest req, String tokenType) {
         return CookieUtil.getCookieValue(req, tokenType);
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
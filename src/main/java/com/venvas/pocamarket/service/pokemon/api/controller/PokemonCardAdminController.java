@@ -0,0 +1,48 @@
+package com.venvas.pocamarket.service.pokemon.api.controller;
+
+import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardTrendingStatsDto;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardService;
+import com.venvas.pocamarket.service.pokemon.infrastructure.cache.PokemonCardResponseCache;
+import com.venvas.pocamarket.service.pokemon.infrastructure.trending.PokemonCardTrending;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포켓몬 카드 관리자 컨트롤러
+ * 카드 캐시 상태 확인 등 운영용 API
+ */
+@Tag(name = "PokemonCard-Admin-API", description = "포켓몬 카드 관리자 API")
+@RestController
+@RequestMapping("/admin/pokemon-card")
+@RequiredArgsConstructor
+public class PokemonCardAdminController {
+
+    private final PokemonCardService pokemonCardService;
+    private final PokemonCardResponseCache pokemonCardResponseCache;
+    private final PokemonCardTrending pokemonCardTrending;
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "카드 상세 캐시 통계", description = "카드 상세 캐시의 hit/miss/eviction 수를 조회 API")
+    public ResponseEntity<ApiResponse<PokemonCardCacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(pokemonCardService.getCacheStats()));
+    }
+
+    @GetMapping("/cache/response/stats")
+    @Operation(summary = "카드 응답 캐시 통계", description = "직렬화된 카드 상세, 목록 응답 캐시의 hit/miss/eviction 수를 조회 API")
+    public ResponseEntity<ApiResponse<PokemonCardCacheStatsDto>> getResponseCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(pokemonCardResponseCache.getStats()));
+    }
+
+    @GetMapping("/trending/stats")
+    @Operation(summary = "인기 카드 집계 통계", description = "인기 카드 집계에 반영한 이벤트 수, 보관 중인 카운터 수를 조회 API")
+    public ResponseEntity<ApiResponse<PokemonCardTrendingStatsDto>> getTrendingStats() {
+        return ResponseEntity.ok(ApiResponse.success(pokemonCardTrending.getStats()));
+    }
+}
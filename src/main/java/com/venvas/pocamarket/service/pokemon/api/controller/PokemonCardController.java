@@ -8,19 +8,27 @@ import com.venvas.pocamarket.service.pokemon.api.validator.PokemonStrParam;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardDetailDto;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardTrendingDto;
 import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardService;
 import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardUpdateService;
 import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
 import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonErrorCode;
+import com.venvas.pocamarket.service.pokemon.infrastructure.cache.CachedJsonResponse;
+import com.venvas.pocamarket.service.pokemon.infrastructure.cache.PokemonCardResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 포켓몬 카드 컨트롤러 
@@ -35,26 +43,69 @@ public class PokemonCardController {
     
     private final PokemonCardService pokemonCardService;
     private final PokemonCardUpdateService pokemonCardUpdateService;
+    private final PokemonCardResponseCache pokemonCardResponseCache;
 
+    /**
+     * 응답 본문은 ApiResponse<PageResponse<PokemonCardListDto>> JSON
+     */
     @GetMapping("/list")
     @Operation(summary = "포켓몬 리스트", description = "filter 값에 따라 포켓몬 리스트를 조회 API")
-    public ResponseEntity<ApiResponse<PageResponse<PokemonCardListDto>>> getPokemonCardListData(
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PokemonCardListResponse.class)))
+    public ResponseEntity<byte[]> getPokemonCardListData(
             @ModelAttribute @Validated PokemonCardListFormDto condition,
             @PageableDefault(size = 10) PageRequest pageable
     ) {
-        return ResponseEntity.ok(ApiResponse.success(pokemonCardService.getListData(condition, pageable.toPageable())));
+        Supplier<ApiResponse<PageResponse<PokemonCardListDto>>> supplier =
+                () -> ApiResponse.success(pokemonCardService.getListData(condition, pageable.toPageable()));
+
+        // 이름 검색은 입력할 때마다 키가 달라지므로 보관하지 않고 ETag 만 적용
+        CachedJsonResponse response = StringUtils.hasText(condition.getNameKo())
+                ? pokemonCardResponseCache.serialize(supplier.get())
+                : pokemonCardResponseCache.get(listCacheKey(condition, pageable), supplier);
+
+        return jsonResponse(response);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "포켓몬 이름 자동완성", description = "이름 접두어(한글, 영문, 초성)로 카드를 rarityNum, 도감 번호 순으로 조회 API")
+    public ResponseEntity<ApiResponse<List<PokemonCardListDto>>> getPokemonCardSuggest(
+            @RequestParam("keyword")
+            @PokemonStrParam(
+                    errorCode = PokemonErrorCode.INVALID_SEARCH_VALUE,
+                    pattern = "^[가-힣ㄱ-ㅎㅏ-ㅣa-zA-Z0-9\\s]{1,30}$"
+            ) String keyword,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(pokemonCardService.getSuggestList(keyword, size)));
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "인기 카드", description = "최근 교환글에 많이 올라온 카드(offered), 많이 찾는 카드(wanted)를 조회 API")
+    public ResponseEntity<ApiResponse<PokemonCardTrendingDto>> getPokemonCardTrending(
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(pokemonCardService.getTrending(size)));
     }
 
+    /**
+     * 응답 본문은 ApiResponse<PokemonCardDetailDto> JSON
+     */
     @GetMapping("/detail/{code}")
     @Operation(summary = "포켓몬 디테일", description = "code로 포켓몬의 자세한 값을 가져오는 API")
-    public ResponseEntity<ApiResponse<PokemonCardDetailDto>> getPokemonDataByCode(
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PokemonCardDetailResponse.class)))
+    public ResponseEntity<byte[]> getPokemonDataByCode(
             @PathVariable("code")
             @PokemonStrParam(
                     errorCode = PokemonErrorCode.POKEMON_CODE_INVALID,
                     pattern = "^\\w{2,3}-[0-9]{3}$"
             ) String code
     ) {
-        return ResponseEntity.ok(ApiResponse.success(pokemonCardService.getCardByCode(code)));
+        CachedJsonResponse response = pokemonCardResponseCache.get("detail:" + code,
+                () -> ApiResponse.success(pokemonCardService.getCardByCode(code)));
+
+        return jsonResponse(response);
     }
 
     @PostMapping("/update/card/{fileName}/{packSet}")
@@ -75,6 +126,32 @@ public class PokemonCardController {
         return ResponseEntity.ok(ApiResponse.success(result, "카드가 데이터가 성공적으로 업데이트 되었습니다."));
     }
 
+    /**
+     * 직렬화된 JSON 응답
+     * ETag 헤더가 있으면 HttpEntityMethodProcessor 가 If-None-Match 를 비교해서 같으면 본문 없이 304 로 응답한다
+     */
+    private ResponseEntity<byte[]> jsonResponse(CachedJsonResponse response) {
+        return ResponseEntity.ok()
+                .eTag(response.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
+    private String listCacheKey(PokemonCardListFormDto condition, PageRequest pageable) {
+        return "list:" + condition + ":page=" + pageable.getPage() + ":size=" + pageable.getSize() + ":sort=" + pageable.getSort();
+    }
+
+    /**
+     * API 문서용 응답 스키마 (byte[] 로 응답하는 API 의 실제 JSON 구조, @Schema 는 제네릭 타입을 직접 받지 못한다)
+     */
+    @Schema(name = "ApiResponsePageResponsePokemonCardListDto")
+    static class PokemonCardListResponse extends ApiResponse<PageResponse<PokemonCardListDto>> {
+    }
+
+    @Schema(name = "ApiResponsePokemonCardDetailDto")
+    static class PokemonCardDetailResponse extends ApiResponse<PokemonCardDetailDto> {
+    }
+
 //    @PostMapping("/update/card2/{version}")
 //    public ResponseEntity<ApiResponse<List<PokemonCard>>> updateCard2(@PathVariable String version) {
 //        try {
@@ -0,0 +1,21 @@
+package com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard;
+
+/**
+ * 카드 캐시 통계
+ *
+ * @param hits 캐시 적중 수
+ * @param misses 캐시 미스 수 (DB 조회 수)
+ * @param evictions 용량 초과로 밀려난 수
+ * @param size 현재 보관 중인 항목 수
+ * @param maxSize 최대 항목 수
+ * @param version 캐시가 기준으로 삼는 카탈로그 버전
+ */
+public record PokemonCardCacheStatsDto(
+        long hits,
+        long misses,
+        long evictions,
+        int size,
+        int maxSize,
+        long version
+) {
+}
@@ -1,11 +1,12 @@
 package com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.venvas.pocamarket.service.pokemon.application.dto.TradeListCardDto;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Getter;
 
 @Getter
-public class PokemonCardListDto {
+public class PokemonCardListDto implements TradeListCardDto {
 
     @NotEmpty
     private final String code;
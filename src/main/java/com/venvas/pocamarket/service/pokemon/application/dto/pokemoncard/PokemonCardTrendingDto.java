@@ -0,0 +1,27 @@
+package com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard;
+
+import java.util.List;
+
+/**
+ * 인기 카드 (최근 교환글 기준)
+ *
+ * @param windowHours 집계 기간 (시간)
+ * @param offered 많이 올라온 내 카드
+ * @param wanted 많이 찾는 원하는 카드
+ */
+public record PokemonCardTrendingDto(
+        long windowHours,
+        List<Item> offered,
+        List<Item> wanted
+) {
+
+    /**
+     * @param code 카드 코드
+     * @param nameKo 카드 한글 이름, 카탈로그 적재 전이면 null
+     * @param packSet 확장팩
+     * @param rarity 레어도
+     * @param count 추정 교환글 수
+     */
+    public record Item(String code, String nameKo, String packSet, String rarity, long count) {
+    }
+}
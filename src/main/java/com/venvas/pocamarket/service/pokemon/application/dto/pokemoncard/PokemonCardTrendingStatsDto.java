@@ -0,0 +1,17 @@
+package com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard;
+
+/**
+ * 인기 카드 집계 통계
+ *
+ * @param events 반영한 교환글 카드 변경 이벤트 수
+ * @param counters 현재 보관 중인 카운터 수 (offered + wanted)
+ * @param capacity 구간별 sketch 최대 카운터 수
+ * @param windowHours 집계 기간 (시간)
+ */
+public record PokemonCardTrendingStatsDto(
+        long events,
+        int counters,
+        int capacity,
+        long windowHours
+) {
+}
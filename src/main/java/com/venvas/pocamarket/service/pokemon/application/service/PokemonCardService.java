@@ -1,19 +1,28 @@
 package com.venvas.pocamarket.service.pokemon.application.service;
 
 import com.venvas.pocamarket.common.dto.PageResponse;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardDetailDto;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
 import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardTrendingDto;
 import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonErrorCode;
 import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonException;
 import com.venvas.pocamarket.service.pokemon.domain.repository.PokemonCardRepository;
+import com.venvas.pocamarket.service.pokemon.infrastructure.cache.PokemonCardDetailCache;
+import com.venvas.pocamarket.service.pokemon.infrastructure.catalog.PokemonCardCatalog;
+import com.venvas.pocamarket.service.pokemon.infrastructure.trending.PokemonCardTrending;
+import com.venvas.pocamarket.service.pokemon.infrastructure.trending.TrendingCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 /**
  * 포켓몬 카드 서비스
@@ -26,28 +35,90 @@ import org.springframework.transaction.annotation.Transactional;
 public class PokemonCardService {
 
     private final PokemonCardRepository pokemonCardRepository;
+    private final PokemonCardCatalog pokemonCardCatalog;
+    private final PokemonCardDetailCache pokemonCardDetailCache;
+    private final PokemonCardTrending pokemonCardTrending;
+
+    // 인기 카드 최대 개수
+    private static final int MAX_TRENDING_SIZE = 50;
 
     /**
      * 카드 코드로 특정 포켓몬 카드를 조회
+     * 캐시에 있으면 DB 를 조회하지 않으므로 트랜잭션(커넥션)을 미리 잡지 않는다
      * @param code 카드 코드
      * @return 조회된 포켓몬 카드 (Optional)
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PokemonCardDetailDto getCardByCode(String code) {
-        return pokemonCardRepository.findByCodeDetailCard(code)
+        return pokemonCardDetailCache.get(code, pokemonCardRepository::findByCodeDetailCard)
                 .orElseThrow(() -> new PokemonException(PokemonErrorCode.POKEMON_NOT_FOUND, "유효하지 않은 코드입니다."));
     }
 
     /**
      * 필터값으로 카드를 조회
+     * 카탈로그가 적재되어 있으면 메모리에서 조회하고, 아니면 DB 에서 조회
      * @param condition 카드 필터값
      * @return 조회된 카드 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PageResponse<PokemonCardListDto> getListData(PokemonCardListFormDto condition, Pageable pageable) {
+        if (pokemonCardCatalog.isLoaded()) {
+            return PageResponse.of(pokemonCardCatalog.searchFilterList(condition, pageable));
+        }
         return PageResponse.of(pokemonCardRepository.searchFilterList(condition, pageable));
 //        noDataListCheck(listDto, condition);
     }
 
+    /**
+     * 카드 이름 자동완성
+     * DB 를 조회하지 않고 카탈로그에서만 찾는다, 카탈로그 적재 전에는 빈 목록
+     * @param keyword 이름 접두어
+     * @param size 최대 개수
+     * @return 자동완성 카드 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PokemonCardListDto> getSuggestList(String keyword, int size) {
+        return pokemonCardCatalog.suggest(keyword, size);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Slice<PokemonCardListDto> getListDataSlice(PokemonCardListFormDto condition, Pageable pageable) {
+        if (pokemonCardCatalog.isLoaded()) {
+            return pokemonCardCatalog.searchFilterSliceList(condition, pageable);
+        }
         return pokemonCardRepository.searchFilterSliceList(condition, pageable);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 최근 교환글 기준 인기 카드 (많이 올라온 내 카드, 많이 찾는 원하는 카드)
+     * DB 를 조회하지 않고 인기 카드 집계와 카탈로그에서만 찾는다
+     * @param size 종류별 최대 개수
+     * @return 인기 카드 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PokemonCardTrendingDto getTrending(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_TRENDING_SIZE));
+        return new PokemonCardTrendingDto(
+                pokemonCardTrending.getWindow().toHours(),
+                toTrendingItems(pokemonCardTrending.topOffered(limit)),
+                toTrendingItems(pokemonCardTrending.topWanted(limit)));
+    }
+
+    private List<PokemonCardTrendingDto.Item> toTrendingItems(List<TrendingCount> counts) {
+        return counts.stream()
+                .map(count -> {
+                    PokemonCardListDto card = pokemonCardCatalog.findByCode(count.key());
+                    return card == null
+                            ? new PokemonCardTrendingDto.Item(count.key(), null, null, null, count.count())
+                            : new PokemonCardTrendingDto.Item(count.key(), card.getNameKo(), card.getPackSet(), card.getRarity(), count.count());
+                })
+                .toList();
+    }
+
+    /**
+     * 카드 상세 캐시 통계
+     */
+    public PokemonCardCacheStatsDto getCacheStats() {
+        return pokemonCardDetailCache.getStats();
+    }
+}
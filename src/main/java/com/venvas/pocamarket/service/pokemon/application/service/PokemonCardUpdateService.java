@@ -6,11 +6,13 @@ import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.Pokemon
 import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonAbility;
 import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonAttack;
 import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.pokemon.domain.event.PokemonCardCatalogChangedEvent;
 import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonErrorCode;
 import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonException;
 import com.venvas.pocamarket.service.pokemon.domain.repository.PokemonCardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,8 @@ public class PokemonCardUpdateService {
 
     // JPA Repository 주입 (생성자 주입)
     private final PokemonCardRepository pokemonCardRepository;
+    // 커밋 후 카탈로그 재적재 이벤트 발행
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * JSON 파일에서 포켓몬 카드 데이터를 읽어와 데이터베이스에 저장하는 메서드
@@ -79,6 +83,8 @@ public class PokemonCardUpdateService {
             result.addAll(pokemonCardRepository.saveAll(insertList));
         }
 
+        eventPublisher.publishEvent(new PokemonCardCatalogChangedEvent(packSet));
+
         return result;
     }
 
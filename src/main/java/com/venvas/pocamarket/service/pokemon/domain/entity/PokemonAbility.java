@@ -22,7 +22,8 @@ public class PokemonAbility {
      * 자동 증가하는 기본키
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pokemon_ability_seq")
+    @SequenceGenerator(name = "pokemon_ability_seq", sequenceName = "pokemon_ability_seq", allocationSize = 50)
     @Column(name = "ability_id")
     private Long abilityId;
     
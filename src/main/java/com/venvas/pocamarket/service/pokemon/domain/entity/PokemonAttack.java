@@ -22,7 +22,8 @@ public class PokemonAttack {
      * 자동 증가하는 기본키
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pokemon_attack_seq")
+    @SequenceGenerator(name = "pokemon_attack_seq", sequenceName = "pokemon_attack_seq", allocationSize = 50)
     @Column(name = "attack_id")
     private Long attackId;
     
@@ -31,7 +31,8 @@ public class PokemonCard {
      * 자동 증가하는 기본키
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pokemon_card_seq")
+    @SequenceGenerator(name = "pokemon_card_seq", sequenceName = "pokemon_card_seq", allocationSize = 50)
     @Column(name = "card_id")
     private Long cardId;
     
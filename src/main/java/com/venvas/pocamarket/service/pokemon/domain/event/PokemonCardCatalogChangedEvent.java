@@ -0,0 +1,10 @@
+package com.venvas.pocamarket.service.pokemon.domain.event;
+
+/**
+ * 포켓몬 카드 데이터 변경 이벤트
+ * 카드 데이터가 upsert 된 후 인메모리 카탈로그를 다시 읽도록 알린다
+ *
+ * @param packSet 변경된 확장팩 코드 (예: A1)
+ */
+public record PokemonCardCatalogChangedEvent(String packSet) {
+}
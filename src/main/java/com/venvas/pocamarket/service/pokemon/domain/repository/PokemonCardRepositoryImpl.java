@@ -310,7 +310,7 @@ public class PokemonCardRepositoryImpl implements PokemonCardRepositoryCustom {
         return pokemonCard.element.in(elementList);
     }
 
-    private boolean validateAllValuesInList(List<String> inputList, List<String> allowedValues) {
+    static boolean validateAllValuesInList(List<String> inputList, List<String> allowedValues) {
         return inputList.stream()
                 .allMatch(input -> allowedValues.stream()
                         .anyMatch(allowed ->
@@ -0,0 +1,10 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.cache;
+
+/**
+ * 직렬화가 끝난 JSON 응답
+ *
+ * @param body UTF-8 JSON 바이트, 공유 객체라 수정하면 안 된다
+ * @param eTag 본문 해시로 만든 strong ETag (따옴표 포함)
+ */
+public record CachedJsonResponse(byte[] body, String eTag) {
+}
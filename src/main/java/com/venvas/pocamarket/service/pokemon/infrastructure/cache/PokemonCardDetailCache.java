@@ -0,0 +1,41 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.cache;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardDetailDto;
+import com.venvas.pocamarket.service.pokemon.infrastructure.catalog.PokemonCardCatalog;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 포켓몬 카드 상세 캐시
+ * 카드 코드별 상세 조회 결과를 LRU 로 보관, 없는 코드도 빈 값으로 보관해서 같은 코드로 DB 를 다시 조회하지 않는다
+ * 카탈로그 버전이 바뀌면 (카드 upsert 커밋 후) 전체를 비운다
+ */
+@Component
+public class PokemonCardDetailCache {
+
+    public static final int MAX_SIZE = 2048;
+
+    private final VersionedLruCache<String, Optional<PokemonCardDetailDto>> cache;
+
+    public PokemonCardDetailCache(PokemonCardCatalog pokemonCardCatalog) {
+        this.cache = new VersionedLruCache<>(MAX_SIZE, pokemonCardCatalog::getVersion);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader 로 조회 후 보관
+     */
+    public Optional<PokemonCardDetailDto> get(String code, Function<String, Optional<PokemonCardDetailDto>> loader) {
+        return cache.get(code, loader);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public PokemonCardCacheStatsDto getStats() {
+        return cache.getStats();
+    }
+}
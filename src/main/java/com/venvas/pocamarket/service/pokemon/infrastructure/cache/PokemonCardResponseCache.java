@@ -0,0 +1,55 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+import com.venvas.pocamarket.service.pokemon.infrastructure.catalog.PokemonCardCatalog;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 포켓몬 카드 응답 캐시
+ * 카드 상세, 목록 응답(ApiResponse)을 직렬화한 UTF-8 바이트와 ETag 를 보관해서 요청마다 Jackson 직렬화를 하지 않는다
+ * 카탈로그 버전이 바뀌면 전체를 비운다
+ */
+@Component
+public class PokemonCardResponseCache {
+
+    public static final int MAX_SIZE = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final VersionedLruCache<String, CachedJsonResponse> cache;
+
+    public PokemonCardResponseCache(ObjectMapper objectMapper, PokemonCardCatalog pokemonCardCatalog) {
+        this.objectMapper = objectMapper;
+        this.cache = new VersionedLruCache<>(MAX_SIZE, pokemonCardCatalog::getVersion);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 응답 객체를 만들어 직렬화 후 보관
+     * supplier 에서 발생한 예외는 그대로 전달되고 캐시하지 않는다
+     * @param key 요청을 구분하는 키 (경로 + 파라미터)
+     * @param supplier 응답 객체 생성
+     */
+    public CachedJsonResponse get(String key, Supplier<?> supplier) {
+        return cache.get(key, k -> serialize(supplier.get()));
+    }
+
+    /**
+     * 캐시하지 않고 직렬화와 ETag 만 생성
+     */
+    public CachedJsonResponse serialize(Object response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new CachedJsonResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    public PokemonCardCacheStatsDto getStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,85 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.cache;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 카탈로그 버전 기준 LRU 캐시
+ * 버전이 바뀌면 전체를 비우고, 값 조회(loader)는 락 밖에서 해서 느린 조회가 다른 요청을 막지 않게 한다
+ * 조회 중에 버전이 바뀌었으면 결과를 보관하지 않는다
+ */
+final class VersionedLruCache<K, V> {
+
+    private final int maxSize;
+    private final LongSupplier versionSupplier;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // access-order LinkedHashMap, 접근은 모두 this 로 동기화
+    private final Map<K, V> cache;
+    private long cachedVersion = -1;
+
+    VersionedLruCache(int maxSize, LongSupplier versionSupplier) {
+        this.maxSize = maxSize;
+        this.versionSupplier = versionSupplier;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                boolean evict = size() > VersionedLruCache.this.maxSize;
+                if (evict) evictions.increment();
+                return evict;
+            }
+        };
+    }
+
+    V get(K key, Function<K, V> loader) {
+        long version = versionSupplier.getAsLong();
+
+        synchronized (this) {
+            checkVersion(version);
+            V cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        V loaded = loader.apply(key);
+
+        synchronized (this) {
+            if (loaded != null && cachedVersion == version && versionSupplier.getAsLong() == version) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    synchronized void clear() {
+        cache.clear();
+    }
+
+    PokemonCardCacheStatsDto getStats() {
+        int size;
+        long version;
+        synchronized (this) {
+            size = cache.size();
+            version = cachedVersion;
+        }
+        return new PokemonCardCacheStatsDto(hits.sum(), misses.sum(), evictions.sum(), size, maxSize, version);
+    }
+
+    private void checkVersion(long version) {
+        if (cachedVersion != version) {
+            cache.clear();
+            cachedVersion = version;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import java.util.Arrays;
+
+/**
+ * 카탈로그 row 번호 비트맵
+ * 카드 수가 천 단위라 압축 없이 long 배열 하나로 충분하다 (카드 640장 = long 10개)
+ * 스냅샷 안에 들어가는 비트맵은 만든 뒤 수정하지 않고, and/or 는 항상 새 비트맵을 돌려준다
+ */
+final class CardBitmap {
+
+    private final long[] words;
+    private final int size;
+
+    private CardBitmap(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    static CardBitmap empty(int size) {
+        return new CardBitmap(new long[wordCount(size)], size);
+    }
+
+    static CardBitmap full(int size) {
+        long[] words = new long[wordCount(size)];
+        Arrays.fill(words, -1L);
+        int tail = size & 63;
+        if (tail != 0) {
+            words[words.length - 1] = (1L << tail) - 1;
+        }
+        return new CardBitmap(words, size);
+    }
+
+    /** 새로 만든 비트맵을 채울 때만 사용 */
+    void set(int row) {
+        words[row >>> 6] |= 1L << row;
+    }
+
+    boolean get(int row) {
+        return (words[row >>> 6] & (1L << row)) != 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    CardBitmap and(CardBitmap other) {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new CardBitmap(result, size);
+    }
+
+    CardBitmap or(CardBitmap other) {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new CardBitmap(result, size);
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * from 이상인 다음 row 번호, 없으면 -1
+     */
+    int nextSetBit(int from) {
+        if (from >= size) return -1;
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) return -1;
+            word = words[index];
+        }
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,153 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.common.util.HangulUtil;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 카드 이름 n-gram 역색인
+ * 한글 이름, 영문 이름, 한글 이름의 초성, 자모 분해 문자열을 1-gram, 2-gram 으로 색인한다
+ * posting 은 row 비트맵이라 검색어의 gram 비트맵을 and 해서 후보를 구하고, 3글자 이상은 contains 로 한번 더 확인한다
+ */
+final class CardNameIndex {
+
+    private final int size;
+    private final CardNameKeys[] keys;
+
+    private final Map<String, CardBitmap> nameKoGrams;
+    private final Map<String, CardBitmap> nameGrams;
+    private final Map<String, CardBitmap> chosungGrams;
+    private final Map<String, CardBitmap> jamoGrams;
+
+    /**
+     * @param previous 이전 스냅샷의 이름 색인, 없으면 null
+     * @param changedPackSet 변경된 확장팩 코드, 이 확장팩이 아닌 카드는 이전 분해 결과를 재사용한다 (null 이면 전체 재사용 가능)
+     */
+    CardNameIndex(List<PokemonCard> cards, String[] packSetCodes, CardNameIndex previous, String changedPackSet) {
+        this.size = cards.size();
+        this.keys = new CardNameKeys[size];
+
+        Map<String, CardNameKeys> reusable = previous != null ? previous.keysByCode() : Map.of();
+        String changed = CatalogFilter.upper(changedPackSet);
+
+        Map<String, CardBitmap> nameKo = new HashMap<>();
+        Map<String, CardBitmap> name = new HashMap<>();
+        Map<String, CardBitmap> chosung = new HashMap<>();
+        Map<String, CardBitmap> jamo = new HashMap<>();
+
+        for (int row = 0; row < size; row++) {
+            PokemonCard card = cards.get(row);
+            CardNameKeys cached = Objects.equals(changed, packSetCodes[row]) ? null : reusable.get(card.getCode());
+            CardNameKeys key = cached != null && cached.sameSource(card) ? cached : CardNameKeys.of(card);
+            keys[row] = key;
+
+            addGrams(nameKo, key.nameKo, row);
+            addGrams(name, key.name, row);
+            addGrams(chosung, key.chosung, row);
+            addGrams(jamo, key.jamo, row);
+        }
+
+        this.nameKoGrams = Map.copyOf(nameKo);
+        this.nameGrams = Map.copyOf(name);
+        this.chosungGrams = Map.copyOf(chosung);
+        this.jamoGrams = Map.copyOf(jamo);
+    }
+
+    /**
+     * 검색어에 맞는 row 비트맵
+     * 한글/영문 이름 부분 일치, 초성만 입력하면 초성 일치, 자모가 섞여 있으면 자모 분해 문자열 일치
+     */
+    CardBitmap search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) return CardBitmap.full(size);
+
+        CardBitmap result = lookup(nameKoGrams, q, key -> key.nameKo)
+                .or(lookup(nameGrams, q, key -> key.name));
+
+        if (HangulUtil.isChosungOnly(q)) {
+            result = result.or(lookup(chosungGrams, q, key -> key.chosung));
+        } else if (HangulUtil.containsJamo(q)) {
+            result = result.or(lookup(jamoGrams, HangulUtil.decompose(q), key -> key.jamo));
+        }
+        return result;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private CardBitmap lookup(Map<String, CardBitmap> grams, String q, Function<CardNameKeys, String> field) {
+        if (q.length() == 1) {
+            CardBitmap bitmap = grams.get(q);
+            return bitmap != null ? bitmap : CardBitmap.empty(size);
+        }
+
+        CardBitmap candidates = null;
+        for (int i = 0; i + 2 <= q.length(); i++) {
+            CardBitmap bitmap = grams.get(q.substring(i, i + 2));
+            if (bitmap == null) return CardBitmap.empty(size);
+            candidates = candidates == null ? bitmap : candidates.and(bitmap);
+        }
+
+        // 2-gram 교집합은 3글자 이상에서 오탐이 있을 수 있어 원문으로 확인
+        if (q.length() == 2) return candidates;
+        CardBitmap result = CardBitmap.empty(size);
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            String text = field.apply(keys[row]);
+            if (text != null && text.contains(q)) result.set(row);
+        }
+        return result;
+    }
+
+    private Map<String, CardNameKeys> keysByCode() {
+        Map<String, CardNameKeys> result = new HashMap<>(size * 2);
+        for (CardNameKeys key : keys) {
+            result.put(key.code, key);
+        }
+        return result;
+    }
+
+    private void addGrams(Map<String, CardBitmap> grams, String text, int row) {
+        if (text == null) return;
+        for (int i = 0; i < text.length(); i++) {
+            grams.computeIfAbsent(text.substring(i, i + 1), k -> CardBitmap.empty(size)).set(row);
+            if (i + 2 <= text.length()) {
+                grams.computeIfAbsent(text.substring(i, i + 2), k -> CardBitmap.empty(size)).set(row);
+            }
+        }
+    }
+
+    /**
+     * 카드 한장의 검색용 이름 문자열
+     */
+    private static final class CardNameKeys {
+        private final String code;
+        private final String sourceNameKo;
+        private final String sourceName;
+
+        private final String nameKo;
+        private final String name;
+        private final String chosung;
+        private final String jamo;
+
+        private CardNameKeys(String code, String sourceNameKo, String sourceName) {
+            this.code = code;
+            this.sourceNameKo = sourceNameKo;
+            this.sourceName = sourceName;
+            this.nameKo = sourceNameKo != null ? normalize(sourceNameKo) : null;
+            this.name = sourceName != null ? normalize(sourceName) : null;
+            this.chosung = nameKo != null ? HangulUtil.chosung(nameKo) : null;
+            this.jamo = nameKo != null ? HangulUtil.decompose(nameKo) : null;
+        }
+
+        static CardNameKeys of(PokemonCard card) {
+            return new CardNameKeys(card.getCode(), card.getNameKo(), card.getName());
+        }
+
+        boolean sameSource(PokemonCard card) {
+            return Objects.equals(sourceNameKo, card.getNameKo()) && Objects.equals(sourceName, card.getName());
+        }
+    }
+}
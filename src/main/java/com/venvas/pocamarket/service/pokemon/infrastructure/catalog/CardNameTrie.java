@@ -0,0 +1,161 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.common.util.HangulUtil;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+
+import java.util.*;
+
+/**
+ * 카드 이름 자동완성용 prefix trie
+ * 한글 이름, 영문 이름, 초성, 자모 분해 문자열의 접두어로 카드를 찾는다
+ * 노드마다 상위 MAX_SIZE 개 결과 리스트를 미리 만들어 두어 조회 시에는 배열만 따라가고 새 객체를 만들지 않는다
+ * 순위는 rarityNum 오름차순, 도감 번호 오름차순, card_id 오름차순
+ */
+final class CardNameTrie {
+
+    static final int MAX_SIZE = 10;
+
+    // 노드별 자식 라벨(정렬), 자식 노드 번호, 상위 결과
+    private final char[][] labels;
+    private final int[][] children;
+    private final List<List<PokemonCardListDto>> tops;
+
+    CardNameTrie(List<PokemonCard> cards, PokemonCardListDto[] listRows, int[] rarityNums, int[] dexIds) {
+        int size = cards.size();
+
+        // row 순위 (작을수록 앞)
+        Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) sorted[i] = i;
+        Arrays.sort(sorted, Comparator.<Integer>comparingInt(row -> rarityNums[row])
+                .thenComparingInt(row -> dexIds[row])
+                .thenComparingInt(row -> row));
+        int[] rank = new int[size];
+        for (int i = 0; i < size; i++) rank[sorted[i]] = i;
+
+        List<BuildNode> nodes = new ArrayList<>();
+        nodes.add(new BuildNode());
+        for (int row = 0; row < size; row++) {
+            for (String key : keysOf(cards.get(row))) {
+                insert(nodes, key, row, rank[row]);
+            }
+        }
+
+        this.labels = new char[nodes.size()][];
+        this.children = new int[nodes.size()][];
+        List<List<PokemonCardListDto>> topList = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            BuildNode node = nodes.get(i);
+            int childCount = node.children.size();
+            labels[i] = new char[childCount];
+            children[i] = new int[childCount];
+            int c = 0;
+            for (Map.Entry<Character, Integer> entry : node.children.entrySet()) {
+                labels[i][c] = entry.getKey();
+                children[i][c] = entry.getValue();
+                c++;
+            }
+
+            PokemonCardListDto[] top = new PokemonCardListDto[node.topCount];
+            for (int t = 0; t < node.topCount; t++) top[t] = listRows[node.topRows[t]];
+            topList.add(List.of(top));
+        }
+        this.tops = topList;
+    }
+
+    /**
+     * 접두어로 시작하는 카드 상위 결과
+     * 앞뒤 공백은 무시하고 대소문자 구분 없음
+     */
+    List<PokemonCardListDto> suggest(String prefix, int limit) {
+        int begin = 0;
+        int end = prefix.length();
+        while (begin < end && Character.isWhitespace(prefix.charAt(begin))) begin++;
+        while (end > begin && Character.isWhitespace(prefix.charAt(end - 1))) end--;
+        if (begin == end) return List.of();
+
+        int node = walk(prefix, begin, end);
+        if (node < 0) {
+            // 입력 중인 글자는 받침이 다음 글자 초성일 수 있어 ("피캋" -> "피카츄") 자모로 분해해서 다시 찾는다
+            String jamo = HangulUtil.decompose(prefix.substring(begin, end));
+            node = walk(jamo, 0, jamo.length());
+            if (node < 0) return List.of();
+        }
+
+        List<PokemonCardListDto> top = tops.get(node);
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    /**
+     * 문자열을 따라간 노드 번호, 없으면 -1
+     */
+    private int walk(String text, int begin, int end) {
+        int node = 0;
+        for (int i = begin; i < end; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int index = Arrays.binarySearch(labels[node], c);
+            if (index < 0) return -1;
+            node = children[node][index];
+        }
+        return node;
+    }
+
+    private static Set<String> keysOf(PokemonCard card) {
+        // 같은 카드가 같은 노드에 두번 들어가지 않도록 중복 제거
+        Set<String> keys = new LinkedHashSet<>();
+        if (card.getNameKo() != null) {
+            String nameKo = CardNameIndex.normalize(card.getNameKo());
+            keys.add(nameKo);
+            keys.add(HangulUtil.chosung(nameKo));
+            keys.add(HangulUtil.decompose(nameKo));
+        }
+        if (card.getName() != null) {
+            keys.add(CardNameIndex.normalize(card.getName()));
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static void insert(List<BuildNode> nodes, String key, int row, int rank) {
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            BuildNode current = nodes.get(node);
+            Integer next = current.children.get(key.charAt(i));
+            if (next == null) {
+                next = nodes.size();
+                nodes.add(new BuildNode());
+                current.children.put(key.charAt(i), next);
+            }
+            node = next;
+            nodes.get(node).offer(row, rank);
+        }
+    }
+
+    /**
+     * 생성 중에만 쓰는 노드
+     */
+    private static final class BuildNode {
+        private final TreeMap<Character, Integer> children = new TreeMap<>();
+        private final int[] topRows = new int[MAX_SIZE];
+        private final int[] topRanks = new int[MAX_SIZE];
+        private int topCount = 0;
+
+        /** 순위가 높은 MAX_SIZE 개만 유지 (삽입 정렬) */
+        void offer(int row, int rank) {
+            for (int i = 0; i < topCount; i++) {
+                if (topRows[i] == row) return;
+            }
+            if (topCount == MAX_SIZE && rank >= topRanks[MAX_SIZE - 1]) return;
+
+            int i = Math.min(topCount, MAX_SIZE - 1);
+            while (i > 0 && topRanks[i - 1] > rank) {
+                topRows[i] = topRows[i - 1];
+                topRanks[i] = topRanks[i - 1];
+                i--;
+            }
+            topRows[i] = row;
+            topRanks[i] = rank;
+            if (topCount < MAX_SIZE) topCount++;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonErrorCode;
+import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonException;
+import com.venvas.pocamarket.service.pokemon.domain.value.*;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카탈로그 검색 조건
+ * PokemonCardListFormDto 값을 검증하고 비교하기 쉽게 정규화한 값
+ * PokemonCardRepositoryImpl 의 where 조건과 같은 규칙을 따른다 (대소문자 구분 없음)
+ */
+final class CatalogFilter {
+
+    /** 한글 이름 부분 일치 (소문자) */
+    final String nameKo;
+    /** 카드 대분류 (대문자) */
+    final String type;
+    /** 카드 소분류 목록, type 조건이 있을 때만 적용 (대문자) */
+    final List<String> subtypes;
+    /** 속성 목록 (대문자) */
+    final List<String> elements;
+    /** 확장팩 코드 (대문자) */
+    final String packSet;
+    /** 팩 이름 (대문자) */
+    final String pack;
+    /** 레어도 목록 (대문자) */
+    final List<String> rarities;
+
+    private CatalogFilter(String nameKo, String type, List<String> subtypes, List<String> elements,
+                          String packSet, String pack, List<String> rarities) {
+        this.nameKo = nameKo;
+        this.type = type;
+        this.subtypes = subtypes;
+        this.elements = elements;
+        this.packSet = packSet;
+        this.pack = pack;
+        this.rarities = rarities;
+    }
+
+    static CatalogFilter from(PokemonCardListFormDto condition) {
+        String type = typeOf(condition.getType());
+
+        return new CatalogFilter(
+                hasText(condition.getNameKo()) ? condition.getNameKo().toLowerCase(Locale.ROOT) : null,
+                type,
+                type != null ? valuesOf(condition.getSubtype(), CardSubType.getList(), "잘못된 서브타입 값 입니다. value = ") : null,
+                valuesOf(condition.getElement(), CardElement.getList(), "잘못된 속성 값 입니다. value = "),
+                packSetOf(condition.getPackSet()),
+                hasText(condition.getPack()) ? upper(condition.getPack()) : null,
+                valuesOf(condition.getRarity(), CardRarity.getList(), "잘못된 레어도 값 입니다. value = ")
+        );
+    }
+
+    /**
+     * 카드의 packSet 컬럼 값에서 확장팩 코드를 꺼낸다
+     * 예: "Genetic Apex (A1)" -> "A1"
+     */
+    static String packSetCode(String packSet) {
+        if (packSet == null) return null;
+        int open = packSet.lastIndexOf('(');
+        int close = packSet.lastIndexOf(')');
+        if (open < 0 || close <= open) return null;
+        return upper(packSet.substring(open + 1, close));
+    }
+
+    static String upper(String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+
+    private static String typeOf(String type) {
+        if (!hasText(type)) return null;
+
+        boolean result = CardType.getList().stream().anyMatch(cardType -> cardType.equalsIgnoreCase(type));
+        if (!result) {
+            throw new PokemonException(PokemonErrorCode.INVALID_SEARCH_VALUE, "잘못된 타입 값 입니다. value = " + type);
+        }
+        return upper(type);
+    }
+
+    private static String packSetOf(String packSet) {
+        if (!hasText(packSet)) return null;
+
+        boolean result = CardPackSet.getList().stream().anyMatch(cardType -> cardType.equalsIgnoreCase(packSet));
+        if (!result) {
+            throw new PokemonException(PokemonErrorCode.INVALID_SEARCH_VALUE, "잘못된 확장팩 값 입니다. value = " + packSet);
+        }
+        return upper(packSet);
+    }
+
+    private static List<String> valuesOf(String value, List<String> allowedValues, String errorMessage) {
+        if (!hasText(value)) return null;
+
+        List<String> values = Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(CatalogFilter::upper)
+                .toList();
+
+        boolean result = values.stream().allMatch(input -> allowedValues.stream().anyMatch(allowed -> allowed.equalsIgnoreCase(input)));
+        if (!result) {
+            throw new PokemonException(PokemonErrorCode.INVALID_SEARCH_VALUE, errorMessage + value);
+        }
+        return values;
+    }
+
+    private static boolean hasText(String text) {
+        return StringUtils.hasText(text);
+    }
+}
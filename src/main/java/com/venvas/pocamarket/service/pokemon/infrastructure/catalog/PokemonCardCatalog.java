@@ -0,0 +1,152 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.infrastructure.util.QueryUtil;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.pokemon.domain.event.PokemonCardCatalogChangedEvent;
+import com.venvas.pocamarket.service.pokemon.domain.repository.PokemonCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포켓몬 카드 인메모리 카탈로그
+ * 카드 데이터는 upsert 할 때만 바뀌므로 전체 카드를 메모리에 올려두고 목록 조회를 DB 없이 처리한다
+ * 스냅샷은 불변 객체이고 upsert 커밋 후 새 스냅샷으로 통째로 교체한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PokemonCardCatalog {
+
+    public static final int MAX_SUGGEST_SIZE = CardNameTrie.MAX_SIZE;
+
+    private final PokemonCardRepository pokemonCardRepository;
+
+    private final AtomicReference<PokemonCardCatalogSnapshot> snapshot = new AtomicReference<>(PokemonCardCatalogSnapshot.EMPTY);
+    private volatile boolean loaded = false;
+
+    /**
+     * 애플리케이션 시작 후 카탈로그 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 카드 upsert 커밋 후 카탈로그 재적재
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(PokemonCardCatalogChangedEvent event) {
+        log.info("카드 데이터 변경으로 카탈로그 재적재 packSet = {}", event.packSet());
+        reload(event.packSet());
+    }
+
+    /**
+     * DB 에서 전체 카드를 읽어 새 스냅샷으로 교체
+     */
+    public void reload() {
+        reload(null);
+    }
+
+    /**
+     * 읽기와 교체를 한 번에 잠가서 겹친 재적재 (시작 시 적재와 변경 이벤트, 연속 upsert) 가 늦게 끝난 이전 읽기로 덮어쓰지 않게 한다
+     *
+     * @param changedPackSet 변경된 확장팩 코드, 나머지 확장팩 카드는 이전 스냅샷의 이름 색인 분해 결과를 재사용
+     */
+    public synchronized void reload(String changedPackSet) {
+        List<PokemonCard> cards = pokemonCardRepository.findAll(Sort.by(Sort.Order.asc("cardId")));
+        replace(cards, changedPackSet);
+    }
+
+    synchronized void replace(List<PokemonCard> cards, String changedPackSet) {
+        PokemonCardCatalogSnapshot previous = snapshot.get();
+        PokemonCardCatalogSnapshot next = new PokemonCardCatalogSnapshot(cards, previous.getVersion() + 1, previous, changedPackSet);
+        snapshot.set(next);
+        loaded = true;
+        log.info("카드 카탈로그 적재 완료 size = {}, version = {}", next.size(), next.getVersion());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 카탈로그 버전, 재적재 될 때마다 증가
+     */
+    public long getVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    /**
+     * 카드 코드로 카드 목록 row 조회 (코드, 한글 이름, 확장팩 등), 없으면 null
+     * 교환 리스트처럼 카드 표시 정보만 필요한 곳에서 DB 조회 대신 사용
+     */
+    public PokemonCardListDto findByCode(String code) {
+        if (code == null) return null;
+        return snapshot.get().findByCode(code);
+    }
+
+    /**
+     * 이름 접두어로 시작하는 카드 목록, rarityNum, 도감 번호 순
+     * @param prefix 한글/영문 이름, 초성, 입력 중인 글자
+     * @param size 최대 개수 (1 ~ MAX_SUGGEST_SIZE)
+     */
+    public List<PokemonCardListDto> suggest(String prefix, int size) {
+        if (prefix == null) return List.of();
+        int limit = (int) QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, MAX_SUGGEST_SIZE, size);
+        return snapshot.get().suggest(prefix, limit);
+    }
+
+    /**
+     * PokemonCardRepositoryImpl.searchFilterList 와 같은 결과를 메모리에서 조회
+     */
+    public Page<PokemonCardListDto> searchFilterList(PokemonCardListFormDto condition, Pageable pageable) {
+
+        long pageSize = QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
+        long offset = QueryUtil.checkOffsetMax(pageable.getOffset());
+
+        // default 정렬
+        if(pageable.getSort().isEmpty()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Order.asc("code")));
+        }
+
+        CatalogFilter filter = CatalogFilter.from(condition);
+        List<PokemonCardListDto> content = new ArrayList<>((int) pageSize);
+        long total = snapshot.get().search(filter, pageable.getSort(), offset, pageSize, content);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> total);
+    }
+
+    /**
+     * PokemonCardRepositoryImpl.searchFilterSliceList 와 같은 결과를 메모리에서 조회
+     */
+    public Slice<PokemonCardListDto> searchFilterSliceList(PokemonCardListFormDto condition, Pageable pageable) {
+
+        long pageSize = QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
+        long offset = QueryUtil.checkOffsetMax(pageable.getOffset());
+
+        CatalogFilter filter = CatalogFilter.from(condition);
+        List<PokemonCardListDto> content = new ArrayList<>((int) pageSize);
+        long total = snapshot.get().search(filter, pageable.getSort(), offset, pageSize, content);
+
+        boolean hasNext = total > offset + pageSize;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
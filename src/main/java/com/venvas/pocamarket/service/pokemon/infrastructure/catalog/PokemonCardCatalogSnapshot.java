@@ -0,0 +1,260 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.pokemon.domain.value.UseOrder;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+
+/**
+ * 카드 카탈로그 스냅샷
+ * 전체 카드를 컬럼별 배열로 들고 있는 읽기 전용 객체, 생성 이후에는 변경되지 않는다
+ * row 번호는 card_id 오름차순 순서
+ */
+final class PokemonCardCatalogSnapshot {
+
+    static final PokemonCardCatalogSnapshot EMPTY = new PokemonCardCatalogSnapshot(List.of(), 0L);
+
+    private final long version;
+    private final int size;
+
+    // 검색, 정렬용 컬럼
+    private final String[] codes;
+    private final String[] nameKos;
+    private final int[] rarityNums;
+    private final int[] dexIds;
+
+    // 필터 값별 row 비트맵 (키는 대문자로 정규화)
+    private final CardBitmap all;
+    private final Map<String, CardBitmap> elementIndex;
+    private final Map<String, CardBitmap> rarityIndex;
+    private final Map<String, CardBitmap> packSetIndex;
+    private final Map<String, CardBitmap> typeIndex;
+    private final Map<String, CardBitmap> subtypeIndex;
+    private final Map<String, CardBitmap> packIndex;
+
+    // 이름 검색 색인
+    private final CardNameIndex nameIndex;
+    // 이름 자동완성
+    private final CardNameTrie nameTrie;
+
+    // 응답용 row, 불변 객체라 그대로 재사용
+    private final PokemonCardListDto[] listRows;
+    private final Map<String, PokemonCardListDto> listRowByCode;
+
+    // 정렬 필드별 row 순위, 오름차순 row 순서
+    private final Map<String, int[]> sortRanks;
+    private final Map<String, int[]> sortOrders;
+
+    PokemonCardCatalogSnapshot(List<PokemonCard> cards, long version) {
+        this(cards, version, null, null);
+    }
+
+    /**
+     * @param previous 이전 스냅샷, 바뀌지 않은 카드의 이름 분해 결과를 재사용한다
+     * @param changedPackSet 변경된 확장팩 코드
+     */
+    PokemonCardCatalogSnapshot(List<PokemonCard> cards, long version, PokemonCardCatalogSnapshot previous, String changedPackSet) {
+        this.version = version;
+        this.size = cards.size();
+
+        this.codes = new String[size];
+        this.nameKos = new String[size];
+        this.rarityNums = new int[size];
+        this.dexIds = new int[size];
+        this.listRows = new PokemonCardListDto[size];
+        this.listRowByCode = new HashMap<>(size * 2);
+
+        this.all = CardBitmap.full(size);
+        Map<String, CardBitmap> elements = new HashMap<>();
+        Map<String, CardBitmap> rarities = new HashMap<>();
+        Map<String, CardBitmap> packSets = new HashMap<>();
+        Map<String, CardBitmap> types = new HashMap<>();
+        Map<String, CardBitmap> subtypes = new HashMap<>();
+        Map<String, CardBitmap> packs = new HashMap<>();
+        String[] packSetCodes = new String[size];
+
+        for (int row = 0; row < size; row++) {
+            PokemonCard card = cards.get(row);
+            codes[row] = card.getCode();
+            nameKos[row] = card.getNameKo();
+            index(elements, CatalogFilter.upper(card.getElement()), row);
+            index(rarities, CatalogFilter.upper(card.getRarity()), row);
+            packSetCodes[row] = CatalogFilter.packSetCode(card.getPackSet());
+            index(packSets, packSetCodes[row], row);
+            index(types, CatalogFilter.upper(card.getType()), row);
+            index(subtypes, CatalogFilter.upper(card.getSubtype()), row);
+            index(packs, CatalogFilter.upper(card.getPack()), row);
+            rarityNums[row] = card.getRarityNum() != null ? card.getRarityNum() : Integer.MIN_VALUE;
+            dexIds[row] = card.getDexId() != null ? card.getDexId() : Integer.MAX_VALUE;
+            listRows[row] = new PokemonCardListDto(
+                    card.getCode(),
+                    card.getNameKo(),
+                    card.getElement(),
+                    card.getType(),
+                    card.getSubtype(),
+                    card.getPackSet(),
+                    card.getPack(),
+                    card.getRarity()
+            );
+            listRowByCode.put(card.getCode(), listRows[row]);
+        }
+
+        Map<String, Comparator<Integer>> comparators = Map.of(
+                "code", Comparator.comparing((Integer row) -> codes[row], Comparator.nullsFirst(Comparator.naturalOrder())),
+                "nameKo", Comparator.comparing((Integer row) -> nameKos[row], Comparator.nullsFirst(Comparator.naturalOrder())),
+                "rarityNum", Comparator.comparingInt((Integer row) -> rarityNums[row])
+        );
+
+        Map<String, int[]> ranks = new HashMap<>();
+        Map<String, int[]> orders = new HashMap<>();
+        for (String property : UseOrder.getList()) {
+            Comparator<Integer> comparator = comparators.get(property);
+            if (comparator == null) continue;
+
+            int[] order = sortedRows(comparator);
+            int[] rank = new int[size];
+            for (int i = 1; i < size; i++) {
+                // 같은 값은 같은 순위
+                boolean tie = comparator.compare(order[i - 1], order[i]) == 0;
+                rank[order[i]] = tie ? rank[order[i - 1]] : i;
+            }
+            ranks.put(property, rank);
+            orders.put(property, order);
+        }
+        this.sortRanks = Map.copyOf(ranks);
+        this.sortOrders = Map.copyOf(orders);
+
+        this.elementIndex = Map.copyOf(elements);
+        this.rarityIndex = Map.copyOf(rarities);
+        this.packSetIndex = Map.copyOf(packSets);
+        this.typeIndex = Map.copyOf(types);
+        this.subtypeIndex = Map.copyOf(subtypes);
+        this.packIndex = Map.copyOf(packs);
+
+        this.nameIndex = new CardNameIndex(cards, packSetCodes, previous != null ? previous.nameIndex : null, changedPackSet);
+        this.nameTrie = new CardNameTrie(cards, listRows, rarityNums, dexIds);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 카드 코드로 row 조회, 없으면 null
+     */
+    PokemonCardListDto findByCode(String code) {
+        return listRowByCode.get(code);
+    }
+
+    /**
+     * 조건에 맞는 row 를 정렬 순서대로 훑으면서 [offset, offset + limit) 구간만 담는다
+     * 필터는 비트맵 and/or 로 처리하고, 전체 수는 비트맵 popcount 로 구한다
+     * @param result 페이지 row 를 담을 리스트
+     * @return 조건에 맞는 전체 row 수
+     */
+    long search(CatalogFilter filter, Sort sort, long offset, long limit, List<PokemonCardListDto> result) {
+        CardBitmap candidates = candidates(filter);
+
+        List<Sort.Order> orders = sort.stream()
+                .filter(order -> sortRanks.containsKey(order.getProperty()))
+                .toList();
+
+        if (orders.size() > 1) {
+            return collect(sortMatches(candidates, orders), offset, limit, result);
+        }
+
+        int[] order = orders.isEmpty() ? null : sortOrders.get(orders.get(0).getProperty());
+        boolean descending = !orders.isEmpty() && orders.get(0).isDescending();
+        long end = offset + limit;
+
+        long index = 0;
+        if (order == null) {
+            for (int row = candidates.nextSetBit(0); row >= 0 && index < end; row = candidates.nextSetBit(row + 1)) {
+                if (index++ >= offset) result.add(listRows[row]);
+            }
+        } else {
+            for (int i = 0; i < size && index < end; i++) {
+                int row = order[descending ? size - 1 - i : i];
+                if (!candidates.get(row)) continue;
+                if (index++ >= offset) result.add(listRows[row]);
+            }
+        }
+        return candidates.cardinality();
+    }
+
+    /**
+     * 이름 접두어 자동완성
+     */
+    List<PokemonCardListDto> suggest(String prefix, int limit) {
+        return nameTrie.suggest(prefix, limit);
+    }
+
+    /**
+     * 필터를 비트맵 연산으로 계산한 결과 row
+     * 같은 필터 안의 여러 값은 or, 필터끼리는 and
+     */
+    CardBitmap candidates(CatalogFilter filter) {
+        CardBitmap result = all;
+        if (filter.nameKo != null) result = result.and(nameIndex.search(filter.nameKo));
+        if (filter.type != null) result = result.and(anyOf(typeIndex, List.of(filter.type)));
+        if (filter.subtypes != null) result = result.and(anyOf(subtypeIndex, filter.subtypes));
+        if (filter.elements != null) result = result.and(anyOf(elementIndex, filter.elements));
+        if (filter.packSet != null) result = result.and(anyOf(packSetIndex, List.of(filter.packSet)));
+        if (filter.pack != null) result = result.and(anyOf(packIndex, List.of(filter.pack)));
+        if (filter.rarities != null) result = result.and(anyOf(rarityIndex, filter.rarities));
+        return result;
+    }
+
+    private CardBitmap anyOf(Map<String, CardBitmap> index, List<String> values) {
+        CardBitmap result = CardBitmap.empty(size);
+        for (String value : values) {
+            CardBitmap bitmap = index.get(value);
+            if (bitmap != null) result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    /** 다중 정렬은 조건에 맞는 row 만 모아서 정렬 */
+    private int[] sortMatches(CardBitmap candidates, List<Sort.Order> orders) {
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : orders) {
+            int[] rank = sortRanks.get(order.getProperty());
+            Comparator<Integer> next = Comparator.comparingInt(row -> rank[row]);
+            if (order.isDescending()) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            matches.add(row);
+        }
+        matches.sort(comparator);
+        return matches.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private long collect(int[] rows, long offset, long limit, List<PokemonCardListDto> result) {
+        for (long i = offset; i < rows.length && i < offset + limit; i++) {
+            result.add(listRows[rows[(int) i]]);
+        }
+        return rows.length;
+    }
+
+    private void index(Map<String, CardBitmap> index, String value, int row) {
+        if (value == null) return;
+        index.computeIfAbsent(value, key -> CardBitmap.empty(size)).set(row);
+    }
+
+    private int[] sortedRows(Comparator<Integer> comparator) {
+        Integer[] rows = new Integer[size];
+        for (int i = 0; i < size; i++) rows[i] = i;
+        // 안정 정렬이라 값이 같으면 card_id 순서 유지
+        Arrays.sort(rows, comparator);
+        return Arrays.stream(rows).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.trending;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardTrendingStatsDto;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeCardDemandEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 카드 집계 (많이 올라온 내 카드 = offered, 많이 찾는 원하는 카드 = wanted)
+ * 교환글 생성, 카드 수정, 삭제가 커밋되면 (TcgTradeCardDemandEvent) 카드 코드별로 +1 / -1 하고,
+ * GROUP BY 대신 sliding window Space-Saving sketch 로 최근 window 동안의 상위 카드만 보관한다
+ * 메모리는 교환글 수와 관계없이 2 * buckets * capacity 개 카운터로 고정
+ */
+@Slf4j
+@Component
+public class PokemonCardTrending {
+
+    private final SlidingTopK offered;
+    private final SlidingTopK wanted;
+    private final Duration window;
+    private final int capacity;
+
+    private final LongAdder events = new LongAdder();
+
+    public PokemonCardTrending(
+            @Value("${pokemon-card.trending.window-hours:24}") int windowHours,
+            @Value("${pokemon-card.trending.buckets:24}") int buckets,
+            @Value("${pokemon-card.trending.capacity:200}") int capacity) {
+        this.window = Duration.ofHours(windowHours);
+        this.capacity = capacity;
+        long bucketMillis = window.toMillis() / buckets;
+        this.offered = new SlidingTopK(buckets, bucketMillis, capacity, System::currentTimeMillis);
+        this.wanted = new SlidingTopK(buckets, bucketMillis, capacity, System::currentTimeMillis);
+    }
+
+    /**
+     * 교환글 카드 변경 커밋 후 집계에 반영
+     */
+    @TransactionalEventListener
+    public void onCardDemand(TcgTradeCardDemandEvent event) {
+        events.increment();
+        offered.add(event.addedMyCardCode(), 1);
+        offered.add(event.removedMyCardCode(), -1);
+        event.addedWantCardCodes().forEach(code -> wanted.add(code, 1));
+        event.removedWantCardCodes().forEach(code -> wanted.add(code, -1));
+    }
+
+    /**
+     * 최근 window 동안 많이 올라온 내 카드
+     */
+    public List<TrendingCount> topOffered(int size) {
+        return offered.top(size);
+    }
+
+    /**
+     * 최근 window 동안 많이 찾는 원하는 카드
+     */
+    public List<TrendingCount> topWanted(int size) {
+        return wanted.top(size);
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public PokemonCardTrendingStatsDto getStats() {
+        return new PokemonCardTrendingStatsDto(events.sum(), offered.size() + wanted.size(), capacity, window.toHours());
+    }
+}
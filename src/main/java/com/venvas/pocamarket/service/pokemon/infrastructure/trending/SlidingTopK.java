@@ -0,0 +1,105 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 구간별 Space-Saving sketch 를 원형으로 돌려 쓰는 sliding window top-K
+ * window 를 bucketCount 개 구간으로 나누고, 구간이 지나면 가장 오래된 sketch 를 비워 다시 쓴다
+ * 메모리는 bucketCount * capacity 개 카운터로 고정이고, 조회는 살아있는 구간을 합친 뒤 상위 size 개를 고른다
+ */
+final class SlidingTopK {
+
+    private final SpaceSavingSketch[] buckets;
+    private final long[] bucketStarts;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+
+    SlidingTopK(int bucketCount, long bucketMillis, int capacity, LongSupplier clock) {
+        this.buckets = new SpaceSavingSketch[bucketCount];
+        this.bucketStarts = new long[bucketCount];
+        this.bucketMillis = bucketMillis;
+        this.clock = clock;
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new SpaceSavingSketch(capacity);
+            bucketStarts[i] = -1;
+        }
+    }
+
+    /**
+     * amount 가 음수면 (교환글 삭제, 카드 수정) 최근 구간부터 거슬러 올라가며 그 키를 센 구간에서 뺀다
+     */
+    synchronized void add(String key, long amount) {
+        if (key == null || key.isBlank()) return;
+        if (amount >= 0) {
+            current().add(key, amount);
+            return;
+        }
+
+        long remaining = -amount;
+        long start = windowStart();
+        int index = currentIndex();
+        for (int i = 0; i < buckets.length && remaining > 0; i++) {
+            int bucket = Math.floorMod(index - i, buckets.length);
+            if (bucketStarts[bucket] < start) continue;
+            remaining -= buckets[bucket].subtract(key, remaining);
+        }
+    }
+
+    /**
+     * window 안의 상위 size 개, count desc, key asc
+     */
+    synchronized List<TrendingCount> top(int size) {
+        long start = windowStart();
+
+        Map<String, long[]> merged = new HashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (bucketStarts[i] >= start) buckets[i].mergeInto(merged);
+        }
+
+        List<TrendingCount> counts = new ArrayList<>(merged.size());
+        merged.forEach((key, value) -> {
+            if (value[0] > 0) counts.add(new TrendingCount(key, value[0], value[1]));
+        });
+        counts.sort(Comparator.comparingLong(TrendingCount::count).reversed().thenComparing(TrendingCount::key));
+        return counts.size() > size ? new ArrayList<>(counts.subList(0, size)) : counts;
+    }
+
+    synchronized int size() {
+        int size = 0;
+        for (SpaceSavingSketch bucket : buckets) size += bucket.size();
+        return size;
+    }
+
+    /**
+     * 현재 시각 구간의 sketch, 지난 구간을 쓰던 자리면 비우고 다시 쓴다
+     */
+    private SpaceSavingSketch current() {
+        return buckets[currentIndex()];
+    }
+
+    private int currentIndex() {
+        long start = bucketStart(clock.getAsLong());
+        int index = (int) Math.floorMod(start / bucketMillis, (long) buckets.length);
+        if (bucketStarts[index] != start) {
+            buckets[index].clear();
+            bucketStarts[index] = start;
+        }
+        return index;
+    }
+
+    /**
+     * window 에 들어가는 가장 오래된 구간의 시작 시각
+     */
+    private long windowStart() {
+        return bucketStart(clock.getAsLong()) - (long) (buckets.length - 1) * bucketMillis;
+    }
+
+    private long bucketStart(long now) {
+        return now - Math.floorMod(now, bucketMillis);
+    }
+}
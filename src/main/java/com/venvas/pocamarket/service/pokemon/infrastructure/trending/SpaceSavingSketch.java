@@ -0,0 +1,103 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.trending;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy hitter sketch
+ * 최대 capacity 개의 키만 보관하고, 가득 찼을 때 새 키가 들어오면 가장 작은 카운터를 빼앗아 (count = min + 1, error = min) 이어서 센다
+ * 실제 횟수는 count - error 이상 count 이하이고, capacity 보다 많이 나온 키 (전체의 1/capacity 초과) 는 반드시 남는다
+ * 감소 (교환글 삭제, 카드 수정) 는 보관 중인 키만 반영하고, 0 이 되면 자리를 비운다
+ * 동기화는 하지 않으므로 SlidingTopK 에서 락을 잡고 사용
+ */
+final class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong((Counter counter) -> counter.count)
+            .thenComparing(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    // count asc, 가장 작은 카운터를 O(log capacity) 로 찾는다
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(String key, long amount) {
+        if (amount <= 0) return;
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += amount;
+            ordered.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(key, amount, 0);
+        } else {
+            Counter min = ordered.pollFirst();
+            counters.remove(min.key);
+            counter = new Counter(key, min.count + amount, min.count);
+        }
+        counters.put(key, counter);
+        ordered.add(counter);
+    }
+
+    /**
+     * 보관 중인 키면 최대 amount 만큼 빼고, 0 이 되면 자리를 비운다
+     *
+     * @return 실제로 뺀 값
+     */
+    long subtract(String key, long amount) {
+        Counter counter = counters.get(key);
+        if (counter == null || amount <= 0) return 0;
+
+        ordered.remove(counter);
+        long subtracted = Math.min(amount, counter.count);
+        counter.count -= subtracted;
+        if (counter.count == 0) {
+            counters.remove(key);
+        } else {
+            ordered.add(counter);
+        }
+        return subtracted;
+    }
+
+    /**
+     * 보관 중인 키별 (count, error) 를 target 에 더한다
+     */
+    void mergeInto(Map<String, long[]> target) {
+        for (Counter counter : counters.values()) {
+            long[] value = target.computeIfAbsent(counter.key, key -> new long[2]);
+            value[0] += counter.count;
+            value[1] += counter.error;
+        }
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    void clear() {
+        counters.clear();
+        ordered.clear();
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
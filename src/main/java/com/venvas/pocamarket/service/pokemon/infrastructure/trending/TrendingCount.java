@@ -0,0 +1,11 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.trending;
+
+/**
+ * 인기 카드 집계 결과
+ *
+ * @param key 카드 코드
+ * @param count 추정 횟수 (실제 이상)
+ * @param error 최대 과대 추정치, 실제 횟수는 count - error 이상
+ */
+public record TrendingCount(String key, long count, long error) {
+}
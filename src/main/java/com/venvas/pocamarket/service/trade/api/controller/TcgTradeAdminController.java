@@ -0,0 +1,62 @@
+package com.venvas.pocamarket.service.trade.api.controller;
+
+import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeHistoryStatsDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserCounterStatsDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserSummaryStatsDto;
+import com.venvas.pocamarket.service.trade.infrastructure.counter.TcgTradeUserCounter;
+import com.venvas.pocamarket.service.trade.infrastructure.history.TcgTradeHistoryDispatcher;
+import com.venvas.pocamarket.service.trade.infrastructure.summary.TcgTradeUserSummaryReconcileJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 카드 교환 관리자 컨트롤러
+ * 교환 히스토리 저장, 거래 유저 카운터, 유저 교환 요약 상태 확인 등 운영용 API
+ */
+@Tag(name = "TcgTrade-Admin-API", description = "카드 교환 관리자 API")
+@RestController
+@RequestMapping("/admin/tcg-trade")
+@RequiredArgsConstructor
+public class TcgTradeAdminController {
+
+    private final TcgTradeHistoryDispatcher tcgTradeHistoryDispatcher;
+    private final TcgTradeUserCounter tcgTradeUserCounter;
+    private final TcgTradeUserSummaryReconcileJob tcgTradeUserSummaryReconcileJob;
+
+    @GetMapping("/history/stats")
+    @Operation(summary = "교환 히스토리 저장 통계", description = "교환 히스토리 큐 크기, 일괄 저장 수, 동기 저장 수, spool 보관 수를 조회 API")
+    public ResponseEntity<ApiResponse<TcgTradeHistoryStatsDto>> getHistoryStats() {
+        return ResponseEntity.ok(ApiResponse.success(tcgTradeHistoryDispatcher.getStats()));
+    }
+
+    @PostMapping("/history/replay")
+    @Operation(summary = "교환 히스토리 spool 재저장", description = "저장에 실패해 파일에 보관된 교환 히스토리를 다시 저장하는 API")
+    public ResponseEntity<ApiResponse<Integer>> replayHistorySpool() {
+        return ResponseEntity.ok(ApiResponse.success(tcgTradeHistoryDispatcher.replaySpool(), "교환 히스토리 재저장에 성공하였습니다."));
+    }
+
+    @GetMapping("/user-counter/stats")
+    @Operation(summary = "거래 유저 카운터 통계", description = "거래 횟수, 보상 카운터의 바로 반영 수, 모아서 반영한 수, 반영 대기 유저 수를 조회 API")
+    public ResponseEntity<ApiResponse<TcgTradeUserCounterStatsDto>> getUserCounterStats() {
+        return ResponseEntity.ok(ApiResponse.success(tcgTradeUserCounter.getStats()));
+    }
+
+    @GetMapping("/user-summary/stats")
+    @Operation(summary = "유저 교환 요약 통계", description = "내 카드 교환 정보 요약의 보관 유저 수, 조회 수, 마지막 대사 drift 를 조회 API")
+    public ResponseEntity<ApiResponse<TcgTradeUserSummaryStatsDto>> getUserSummaryStats() {
+        return ResponseEntity.ok(ApiResponse.success(tcgTradeUserSummaryReconcileJob.getStats()));
+    }
+
+    @PostMapping("/user-summary/reconcile")
+    @Operation(summary = "유저 교환 요약 대사", description = "DB 에서 유저 교환 요약을 바로 다시 읽고 값이 달랐던 유저 수를 반환하는 API")
+    public ResponseEntity<ApiResponse<Integer>> reconcileUserSummary() {
+        return ResponseEntity.ok(ApiResponse.success(tcgTradeUserSummaryReconcileJob.reconcile(), "유저 교환 요약 대사에 성공하였습니다."));
+    }
+}
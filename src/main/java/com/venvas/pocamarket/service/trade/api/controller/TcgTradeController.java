@@ -47,7 +47,7 @@ public class TcgTradeController {
     }
 
     @GetMapping("")
-    @Operation(summary = "카드 교환 리스트", description = "카드 교환 리스트를 가져옵니다.")
+    @Operation(summary = "카드 교환 리스트", description = "카드 교환 리스트를 가져옵니다. cursor 를 보내면 (빈 값이면 첫 페이지) page 대신 응답의 nextCursor 로 다음 페이지를 가져옵니다.")
     public ResponseEntity<ApiResponse<PageResponse<TcgTradeListResponse>>> getTcgTradeList(
             @Validated @ModelAttribute TcgTradeListRequest request,
             @PageableDefault(size = 10) PageRequest pageable,
@@ -82,6 +82,26 @@ public class TcgTradeController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/leaderboard")
+    @Operation(summary = "카드 교환 리더보드", description = "경험치(거래점수), 거래 횟수 순 상위 사용자를 가져옵니다. size 최대 100")
+    public ResponseEntity<ApiResponse<TcgTradeLeaderboardResponse>> getTcgTradeLeaderboard(
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetailDto userDetailDto) {
+        String uuid = userDetailDto != null ? userDetailDto.getUuid() : null;
+
+        TcgTradeLeaderboardResponse response = tcgTradeUserService.getLeaderboard(size, uuid);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/my/leaderboard")
+    @Operation(summary = "내 카드 교환 순위", description = "내 리더보드 순위와 앞뒤 range 명을 가져옵니다. range 최대 10, 인증 필요함")
+    public ResponseEntity<ApiResponse<TcgTradeLeaderboardResponse>> getMyTcgTradeLeaderboard(
+            @RequestParam(name = "range", defaultValue = "3") int range,
+            @AuthenticationPrincipal UserDetailDto userDetailDto) {
+        TcgTradeLeaderboardResponse response = tcgTradeUserService.getMyLeaderboard(userDetailDto.getUuid(), range);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PatchMapping("/refresh/{tradeId}")
     @Operation(summary = "내 카드 리스트 끌어올리기", description = "내 교환 카드 리스트 중 하나의 sorted_at을 최신으로 갱신합니다.")
     public ResponseEntity<ApiResponse<Boolean>> patchMyListRefresh(
@@ -101,6 +121,17 @@ public class TcgTradeController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{tradeId}/matches")
+    @Operation(summary = "카드 교환 매칭", description = "내가 원하는 카드를 갖고 있고 내 카드를 원하는 교환글(1:1 교환)과 3자 교환 조합을 가져옵니다.")
+    public ResponseEntity<ApiResponse<TcgTradeMatchResponse>> getTcgTradeMatches(
+            @PathVariable("tradeId") Long tradeId,
+            @AuthenticationPrincipal UserDetailDto userDetailDto) {
+        String uuid = userDetailDto != null ? userDetailDto.getUuid() : null;
+
+        TcgTradeMatchResponse response = tcgTradeService.getTradeMatches(tradeId, uuid);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PutMapping("/{tradeId}")
     @Operation(summary = "카드 교환 내용 수정", description = "카드 교환 내용을 수정합니다.")
     public ResponseEntity<ApiResponse<Boolean>> putTcgTrade(
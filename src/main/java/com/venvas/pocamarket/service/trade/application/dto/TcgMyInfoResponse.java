@@ -2,6 +2,8 @@ package com.venvas.pocamarket.service.trade.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserSummary;
 
 import lombok.Getter;
 
@@ -38,4 +40,28 @@ public class TcgMyInfoResponse {
         this.exp = tcgTradeUser.getExp();
         this.point = tcgTradeUser.getPoint();
     }
+
+    public TcgMyInfoResponse(TcgTradeUserSummary summary, Integer tradingCount, Integer requestCount) {
+        this(summary);
+        this.tradingCount = tradingCount;
+        this.requestCount = requestCount;
+    }
+
+    public TcgMyInfoResponse(TcgTradeUserSummary summary) {
+        this.tradeCount = summary.tradeCount();
+        this.reportCount = summary.reportCount();
+        this.exp = summary.exp();
+        this.point = summary.point();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 카운터 증가량을 더한다
+     */
+    public TcgMyInfoResponse addPending(TcgTradeUserDelta pending) {
+        this.tradeCount += pending.tradeCount();
+        this.reportCount += pending.reportCount();
+        this.exp += pending.exp();
+        this.point += pending.point();
+        return this;
+    }
 }
@@ -4,12 +4,26 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+/**
+ * 카드 코드 색인 적재용 교환글 카드 행
+ */
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-public class TcgTradeCardCodeDto {
+public class TcgTradeCardIndexDto {
+
+    private Long tradeId;
+
+    private String uuid;
+
+    private Integer status;
+
+    private LocalDateTime sortedAt;
 
     private String cardCode;
+
     /** 1: 내카드, 2: 원하는 카드 */
     private Integer type;
 }
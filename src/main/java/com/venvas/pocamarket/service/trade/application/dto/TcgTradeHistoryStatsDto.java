@@ -0,0 +1,27 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+/**
+ * 교환 히스토리 비동기 저장 통계
+ *
+ * @param published 받은 히스토리 이벤트 수
+ * @param queued 현재 큐에 남아있는 이벤트 수
+ * @param queueCapacity 큐 최대 크기
+ * @param flushes 백그라운드 일괄 저장 횟수
+ * @param flushedRows 백그라운드로 저장한 행 수
+ * @param syncWrites 큐가 가득 차거나 종료 중이라 요청 스레드에서 바로 저장한 수
+ * @param failures 저장 실패 횟수
+ * @param spooledRows 저장 실패로 파일에 보관한 행 수
+ * @param replayedRows 파일에서 다시 저장한 행 수
+ */
+public record TcgTradeHistoryStatsDto(
+        long published,
+        int queued,
+        int queueCapacity,
+        long flushes,
+        long flushedRows,
+        long syncWrites,
+        long failures,
+        long spooledRows,
+        long replayedRows
+) {
+}
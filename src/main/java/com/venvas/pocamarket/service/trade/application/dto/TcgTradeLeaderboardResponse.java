@@ -0,0 +1,42 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 유저 리더보드 (경험치, 거래 횟수 순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TcgTradeLeaderboardResponse {
+
+    /** 내 순위, 내 리더보드 조회에서만 포함 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer myRank;
+
+    /** 리더보드 전체 유저 수 */
+    private Integer total;
+
+    private List<Entry> entries = new ArrayList<>();
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        /** 1 부터 시작하는 순위 */
+        private Integer rank;
+        private String nickname;
+        // 경험치(거래점수)
+        private Integer exp;
+        // 완료된 교환
+        private Integer tradeCount;
+        /** 본인 여부 */
+        private Boolean myFlag;
+    }
+}
@@ -25,4 +25,12 @@ public class TcgTradeListRequest {
             String> wantCardCode;
 
     private Integer status;
+
+    /**
+     * 커서 조회용 값, null 이면 기존 페이지 조회
+     * 빈 문자열이면 첫 페이지, 이후에는 응답의 nextCursor 를 그대로 전달
+     */
+    @Size(max = 100, message = "커서는 100자를 초과할 수 없습니다.")
+    @Pattern(regexp = "^[a-zA-Z0-9_\\-]*$", message = "잘못된 커서 값 입니다.")
+    private String cursor;
 }
@@ -1,5 +1,6 @@
 package com.venvas.pocamarket.service.trade.application.dto;
 
+import com.venvas.pocamarket.service.pokemon.application.dto.TradeListCardDto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,6 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
@@ -29,31 +29,22 @@ public class TcgTradeListResponse {
     private List<CardData> wantCardInfo = new ArrayList<>();
 
     /**
-     * TcgTradeListDto를 TcgTradeListResponse로 변환하는 생성자
+     * 교환 리스트 조회 행의 교환글 정보로 생성, 카드 정보는 updateMyCardInfo, addWantCardInfo 로 채운다
      */
-    public TcgTradeListResponse(TcgTradeListDto dto) {
-        this.tradeId = dto.getTradeId();
-        this.nickname = dto.getNickname();
-        this.status = dto.getStatus();
-        this.sorted_at = dto.getSorted_at();
-        this.isMyList = dto.getIsMyList();
-        
-        // myCardInfo 변환
-        this.myCardInfo = dto.getMyCardInfo() != null ? 
-            new CardData(
-                dto.getMyCardInfo().getCardCode(),
-                dto.getMyCardInfo().getCardName(),
-                dto.getMyCardInfo().getCardPackSet()
-            ) : null;
-            
-        // wantCardInfo 변환
-        this.wantCardInfo = dto.getWantCardInfo().stream()
-            .map(cardData -> new CardData(
-                cardData.getCardCode(),
-                cardData.getCardName(),
-                cardData.getCardPackSet()
-            ))
-            .collect(Collectors.toList());
+    public TcgTradeListResponse(TcgTradeListRowDto row, Boolean isMyList) {
+        this.tradeId = row.getTradeId();
+        this.nickname = row.getNickname();
+        this.status = row.getStatus();
+        this.sorted_at = row.getSortedAt();
+        this.isMyList = isMyList;
+    }
+
+    public void updateMyCardInfo(TradeListCardDto cardInfo) {
+        this.myCardInfo = new CardData(cardInfo.getCode(), cardInfo.getNameKo(), cardInfo.getPackSet());
+    }
+
+    public void addWantCardInfo(TradeListCardDto cardInfo) {
+        this.wantCardInfo.add(new CardData(cardInfo.getCode(), cardInfo.getNameKo(), cardInfo.getPackSet()));
     }
 
     @Getter
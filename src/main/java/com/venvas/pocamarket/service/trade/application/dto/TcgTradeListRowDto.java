@@ -0,0 +1,31 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 교환 리스트 조회 행, 교환글 하나에 카드 코드 수 만큼 나온다
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TcgTradeListRowDto {
+
+    private Long tradeId;
+
+    private String nickname;
+
+    private Integer status;
+
+    private LocalDateTime sortedAt;
+
+    private String uuid;
+
+    private String cardCode;
+
+    /** 1: 내카드, 2: 원하는 카드 */
+    private Integer type;
+}
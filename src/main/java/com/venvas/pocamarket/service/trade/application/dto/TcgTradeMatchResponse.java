@@ -0,0 +1,39 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 교환글 매칭 결과
+ * 교환 가능한 (거래 등록, 거래 선택중) 다른 사용자의 교환글만 포함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TcgTradeMatchResponse {
+
+    private Long tradeId;
+
+    /** 내가 원하는 카드를 갖고 있고 내 카드를 원하는 교환글 (1:1 교환) */
+    private List<TcgTradeListResponse> directMatches = new ArrayList<>();
+
+    /** 3자 교환 */
+    private List<CycleMatch> cycleMatches = new ArrayList<>();
+
+    /**
+     * 3자 교환, 내 카드는 receiver 에게, receiver 카드는 giver 에게, giver 카드는 나에게
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CycleMatch {
+        /** 내가 원하는 카드를 갖고 있는 교환글 */
+        private TcgTradeListResponse giver;
+        /** 내 카드를 원하는 교환글 */
+        private TcgTradeListResponse receiver;
+    }
+}
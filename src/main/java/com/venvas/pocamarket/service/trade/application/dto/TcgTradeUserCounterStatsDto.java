@@ -0,0 +1,21 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+/**
+ * 거래 유저 카운터 통계
+ *
+ * @param directUpserts 요청 트랜잭션 안에서 바로 반영한 수
+ * @param deferredIncrements 자주 바뀌는 유저라 메모리에 모아둔 증가 수
+ * @param flushes 모아둔 증가량 일괄 반영 횟수
+ * @param flushedUsers 일괄 반영한 유저 수 (반영 횟수마다 누적)
+ * @param flushFailures 일괄 반영 실패 횟수 (실패한 증가량은 다음 반영에 다시 시도)
+ * @param pendingUsers 현재 반영 대기 중인 유저 수
+ */
+public record TcgTradeUserCounterStatsDto(
+        long directUpserts,
+        long deferredIncrements,
+        long flushes,
+        long flushedUsers,
+        long flushFailures,
+        int pendingUsers
+) {
+}
@@ -0,0 +1,20 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 요약 적재용 유저별, 상태별 교환글 (또는 교환 요청) 수
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TcgTradeUserStatusCountDto {
+
+    private String uuid;
+
+    private Integer status;
+
+    private Long count;
+}
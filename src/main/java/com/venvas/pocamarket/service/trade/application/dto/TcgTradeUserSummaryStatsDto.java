@@ -0,0 +1,21 @@
+package com.venvas.pocamarket.service.trade.application.dto;
+
+/**
+ * 유저 요약 통계
+ *
+ * @param size 보관 중인 유저 수
+ * @param hits 요약으로 응답한 수
+ * @param fallbacks 적재 전이라 DB 로 조회한 수
+ * @param reconciles 재적재 (대사) 횟수
+ * @param lastDriftUsers 마지막 재적재에서 값이 달랐던 유저 수
+ * @param lastReconcileMillis 마지막 재적재 소요 시간
+ */
+public record TcgTradeUserSummaryStatsDto(
+        int size,
+        long hits,
+        long fallbacks,
+        long reconciles,
+        long lastDriftUsers,
+        long lastReconcileMillis
+) {
+}
@@ -0,0 +1,40 @@
+package com.venvas.pocamarket.service.trade.application.service;
+
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeHistory;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeHistoryEvent;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeHistoryRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TcgTradeHistoryService {
+    private final TcgTradeHistoryRepository tcgTradeHistoryRepository;
+    private final TcgTradeRepository tcgTradeRepository;
+    private final TcgTradeRequestRepository tcgTradeRequestRepository;
+
+    /**
+     * 히스토리 이벤트 일괄 저장
+     * 커밋 후 (다른 트랜잭션이 끝난 뒤) 호출되므로 항상 새 트랜잭션으로 저장하고,
+     * 교환글, 교환 요청은 조회 없이 참조만 걸어서 pooled 시퀀스 + JDBC 배치로 한번에 insert 한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAll(List<TcgTradeHistoryEvent> events) {
+        List<TcgTradeHistory> histories = events.stream()
+                .map(event -> new TcgTradeHistory(
+                        tcgTradeRepository.getReferenceById(event.tradeId()),
+                        event.tradeRequestId() == null ? null : tcgTradeRequestRepository.getReferenceById(event.tradeRequestId()),
+                        event.uuid(), event.type(), event.params(), event.createAt()))
+                .toList();
+        tcgTradeHistoryRepository.saveAll(histories);
+    }
+}
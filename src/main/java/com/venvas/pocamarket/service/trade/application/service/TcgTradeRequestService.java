@@ -5,11 +5,13 @@ import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestDelete
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestGetResponse;
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestPatchRequest;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTrade;
-import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeHistory;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeRequest;
-import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeHistoryType;
 import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
 import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeChangedEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeHistoryEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeStatusChangedEvent;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeErrorCode;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeException;
 import com.venvas.pocamarket.service.trade.domain.repository.*;
@@ -19,6 +21,7 @@ import com.venvas.pocamarket.service.user.domain.exception.UserException;
 import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,11 +35,10 @@ import java.util.Optional;
 public class TcgTradeRequestService {
     private final TcgCodeRepository tcgCodeRepository;
     private final TcgTradeRequestRepository tcgTradeRequestRepository;
-    private final TcgTradeHistoryRepository tcgTradeHistoryRepository;
     private final TcgTradeRepository tcgTradeRepository;
-    private final TcgTradeUserRepository tcgTradeUserRepository;
     private final UserRepository userRepository;
     private final TcgTradeUserService tcgTradeUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Integer STATUS_ACTIVE = 1;
 
@@ -88,15 +90,19 @@ public class TcgTradeRequestService {
                 request.getCardCode(), TcgTradeRequestStatus.REQUEST.getCode()
         ));
 
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.request(userUuid, null, savedTradeRequest.getStatus()));
+
         // 히스토리 저장
-        String historyContent = String.format("%s님이 %s (%s)카드로 교환을 요청했습니다.",
+        publishHistory(trade, savedTradeRequest, userUuid, TcgTradeHistoryType.REQUEST_CREATED,
                 user.getNickname(), request.getCardName(), request.getCardCode());
-        saveHistory(trade, savedTradeRequest, userUuid, historyContent);
 
         // 교환 글에 요청이 없었으면 (삭제된 요청 제외, 요청글 추가되기 전에 검사) 상태 변경
         if(!tradeHasRequest) {
+            Integer prevTradeStatus = trade.getStatus();
             trade.updateStatus(TradeStatus.SELECT.getCode());
-            saveHistory(trade, savedTradeRequest, trade.getUuid(), "교환글의 상태가 (교환 선택)으로 변경 되었습니다.");
+            eventPublisher.publishEvent(TcgTradeStatusChangedEvent.trade(trade.getUuid(), prevTradeStatus, trade.getStatus()));
+            publishHistory(trade, savedTradeRequest, trade.getUuid(), TcgTradeHistoryType.TRADE_STATUS_CHANGED, "(교환 선택)");
+            eventPublisher.publishEvent(new TcgTradeChangedEvent(trade.getId()));
         }
 
         return true;
@@ -142,31 +148,32 @@ public class TcgTradeRequestService {
         }
 
         // 다음 단계로 상태 업데이트
-        Integer nextStatus = getNextRequestStatusSafely(tcgTradeRequest.getStatus());
+        Integer prevStatus = tcgTradeRequest.getStatus();
+        Integer nextStatus = getNextRequestStatusSafely(prevStatus);
         tcgTradeRequest.updateStatus(nextStatus);
         TcgTradeRequest savedTradeRequest = tcgTradeRequestRepository.save(tcgTradeRequest);
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.request(tcgTradeRequest.getUuid(), prevStatus, nextStatus));
 
         // 게시글 상태도 업데이트
-        Integer nextTradeStatus = getNextTradeStatusSafely(trade.getStatus());
+        Integer prevTradeStatus = trade.getStatus();
+        Integer nextTradeStatus = getNextTradeStatusSafely(prevTradeStatus);
         trade.updateStatus(nextTradeStatus);
         tcgTradeRepository.save(trade);
+        eventPublisher.publishEvent(new TcgTradeChangedEvent(trade.getId()));
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.trade(trade.getUuid(), prevTradeStatus, nextTradeStatus));
 
         // 히스토리 저장
         // 교환글
-        String tradeHistoryMessage = trade.getStatus().equals(TradeStatus.PROCESS.getCode()) ?
-                "교환글의 상태가 (교환 진행)으로 변경 되었습니다." : "교환글의 상태가 (교환 완료)으로 변경 되었습니다.";
-        saveHistory(trade, savedTradeRequest, trade.getUuid(), tradeHistoryMessage);
+        String tradeStatusLabel = trade.getStatus().equals(TradeStatus.PROCESS.getCode()) ? "(교환 진행)" : "(교환 완료)";
+        publishHistory(trade, savedTradeRequest, trade.getUuid(), TcgTradeHistoryType.TRADE_STATUS_CHANGED, tradeStatusLabel);
 
         // 교환 요청
-        String historyContent = createStatusChangeHistoryContent(nextStatus, tcgTradeRequest.getNickname());
-        saveHistory(tcgTradeRequest.getTrade(), savedTradeRequest, userUuid, historyContent);
+        publishHistory(trade, savedTradeRequest, userUuid, getStatusChangeHistoryType(nextStatus), tcgTradeRequest.getNickname());
 
-        // 교환 완료 시 거래 횟수 증가 및 보상 지급
+        // 교환 완료 시 거래 횟수 증가 및 보상 지급 (포인트, 경험치), 유저별로 한번에 원자적으로 반영
         if (nextStatus.equals(TcgTradeRequestStatus.COMPLETE.getCode())) {
-            updateTradeCount(tcgTradeRequest.getUuid(), tcgTradeRequest.getTrade().getUuid());
-            // 완료처리시 포인트 지급, 경험치 지급
-            tcgTradeUserService.giveRewardToUser(tcgTradeRequest.getUuid()); 
-            tcgTradeUserService.giveRewardToUser(tcgTradeRequest.getTrade().getUuid());
+            tcgTradeUserService.completeTrade(tcgTradeRequest.getUuid());
+            tcgTradeUserService.completeTrade(tcgTradeRequest.getTrade().getUuid());
         }
 
         return savedTradeRequest.getStatus();
@@ -190,8 +197,10 @@ public class TcgTradeRequestService {
         TcgTrade trade = findTrade(tradeId);
 
         // 삭제 처리
+        Integer prevStatus = tcgTradeRequest.getStatus();
         tcgTradeRequest.updateStatus(TcgTradeRequestStatus.DELETE.getCode());
         TcgTradeRequest savedTradeRequest = tcgTradeRequestRepository.save(tcgTradeRequest);
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.request(tcgTradeRequest.getUuid(), prevStatus, savedTradeRequest.getStatus()));
 
         // 삭제 이후, 교환글에 가장 상태가 큰 요청을 기준으로 교환글 상태 변경
         Optional<TcgTradeRequest> topStatusRequest = tcgTradeRequestRepository.findFirstByTradeIdOrderByStatusDesc(trade.getId());
@@ -207,12 +216,15 @@ public class TcgTradeRequestService {
 
         // 히스토리 저장
         // 요청
-        String historyContent = createDeleteHistoryContent(tcgTradeRequest.getNickname(), isAdmin);
-        saveHistory(tcgTradeRequest.getTrade(), savedTradeRequest, userUuid, historyContent);
+        publishHistory(trade, savedTradeRequest, userUuid, TcgTradeHistoryType.REQUEST_CANCELLED,
+                isAdmin ? "관리자" : tcgTradeRequest.getNickname());
         // 교환글
+        Integer prevTradeStatus = trade.getStatus();
         trade.updateStatus(tradeStatus);
-        String message = String.format("교환글의 상태가 %s으로 변경 되었습니다.", TradeStatus.fromDbCode(tradeStatus).getDescription());
-        saveHistory(tcgTradeRequest.getTrade(), savedTradeRequest, trade.getUuid(), message);
+        eventPublisher.publishEvent(new TcgTradeChangedEvent(trade.getId()));
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.trade(trade.getUuid(), prevTradeStatus, tradeStatus));
+        publishHistory(trade, savedTradeRequest, trade.getUuid(), TcgTradeHistoryType.TRADE_STATUS_CHANGED,
+                TradeStatus.fromDbCode(tradeStatus).getDescription());
 
         return true;
     }
@@ -251,10 +263,10 @@ public class TcgTradeRequestService {
     }
 
     /* 히스토리를 저장합니다. */
-    private void saveHistory(TcgTrade trade, TcgTradeRequest tradeRequest, String userUuid, String content) {
-        tcgTradeHistoryRepository.save(
-            new TcgTradeHistory(trade, tradeRequest, userUuid, content)
-        );
+    /* 히스토리 이벤트를 발행합니다. (커밋 후 TcgTradeHistoryDispatcher 가 모아서 저장) */
+    private void publishHistory(TcgTrade trade, TcgTradeRequest tradeRequest, String userUuid,
+                                TcgTradeHistoryType type, String... params) {
+        eventPublisher.publishEvent(TcgTradeHistoryEvent.of(trade.getId(), tradeRequest.getId(), userUuid, type, params));
     }
 
     /* 요청된 상태가 다음 값으로 유효한지 검증합니다. */
@@ -298,12 +310,12 @@ public class TcgTradeRequestService {
         }
     }
 
-    /* 교환글 상태 변경 히스토리 내용을 생성합니다. */
-    private String createStatusChangeHistoryContent(Integer nextStatus, String nickname) {
+    /* 교환 요청 상태 변경 히스토리 유형을 가져옵니다. */
+    private TcgTradeHistoryType getStatusChangeHistoryType(Integer nextStatus) {
         if (nextStatus.equals(TcgTradeRequestStatus.PROCESS.getCode())) {
-            return String.format("%s님이 교환을 진행 상태로 변경했습니다.", nickname);
+            return TcgTradeHistoryType.REQUEST_PROCESS;
         } else if (nextStatus.equals(TcgTradeRequestStatus.COMPLETE.getCode())) {
-            return String.format("%s님이 교환을 완료했습니다.", nickname);
+            return TcgTradeHistoryType.REQUEST_COMPLETE;
         } else {
             throw new TcgTradeException(TcgTradeErrorCode.INVALID_REQUEST_DATA, "유효하지 않은 상태 값입니다.");
         }
@@ -325,49 +337,4 @@ public class TcgTradeRequestService {
             throw new TcgTradeException(TcgTradeErrorCode.TRADE_REQUEST_ALREADY_COMPLETED);
         }
     }
-
-    /* 삭제 히스토리 내용을 생성합니다. */
-    private String createDeleteHistoryContent(String nickname, Boolean isAdmin) {
-        return String.format("%s 님이 교환 요청을 취소했습니다.",
-            isAdmin ? "관리자" : nickname);
-    }
-
-    /* 거래 횟수를 업데이트합니다. */
-    private void updateTradeCount(String requestUserUuid, String tradeOwnerUuid) {
-        // 업데이트할 UUID 리스트 생성 (중복 제거)
-        List<String> uuidsToUpdate = requestUserUuid.equals(tradeOwnerUuid) 
-            ? List.of(requestUserUuid)
-            : List.of(requestUserUuid, tradeOwnerUuid);
-        
-        // 한 번에 조회
-        List<TcgTradeUser> existingUsers = tcgTradeUserRepository.findAllById(uuidsToUpdate);
-        
-        // 존재하는 사용자들의 UUID 추출
-        List<String> existingUuids = existingUsers.stream()
-                .map(TcgTradeUser::getUuid)
-                .toList();
-        
-        // 기존 사용자들의 거래 횟수 증가
-        existingUsers.forEach(TcgTradeUser::incrementTradeCount);
-        
-        // 새로 생성해야 할 사용자들 추가
-        List<TcgTradeUser> newUsers = uuidsToUpdate.stream()
-                .filter(uuid -> !existingUuids.contains(uuid))
-                .map(uuid -> {
-                    TcgTradeUser newUser = new TcgTradeUser(uuid);
-                    newUser.incrementTradeCount();
-                    return newUser;
-                })
-                .toList();
-        
-        // 기존 사용자 업데이트
-        if (!existingUsers.isEmpty()) {
-            tcgTradeUserRepository.saveAll(existingUsers);
-        }
-        
-        // 새 사용자 생성
-        if (!newUsers.isEmpty()) {
-            tcgTradeUserRepository.saveAll(newUsers);
-        }
-    }
 }
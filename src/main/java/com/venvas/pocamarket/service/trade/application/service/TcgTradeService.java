@@ -1,22 +1,32 @@
 package com.venvas.pocamarket.service.trade.application.service;
 
 import com.venvas.pocamarket.common.dto.PageResponse;
+import com.venvas.pocamarket.infrastructure.util.QueryUtil;
 import com.venvas.pocamarket.service.pokemon.application.dto.TradeListCardDto;
 import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
 import com.venvas.pocamarket.service.pokemon.domain.repository.PokemonCardRepository;
+import com.venvas.pocamarket.service.pokemon.infrastructure.catalog.PokemonCardCatalog;
 import com.venvas.pocamarket.service.trade.application.dto.*;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTrade;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeCardCode;
-import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeHistory;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeRequest;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeHistoryType;
 import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
 import com.venvas.pocamarket.service.trade.domain.enums.TradeCardCodeStatus;
 import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeCardDemandEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeChangedEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeHistoryEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeStatusChangedEvent;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeErrorCode;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeException;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeCardCodeRepository;
-import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeHistoryRepository;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
+import com.venvas.pocamarket.service.trade.infrastructure.index.TcgTradeCardIndex;
+import com.venvas.pocamarket.service.trade.infrastructure.index.TcgTradeIdPage;
+import com.venvas.pocamarket.service.trade.infrastructure.index.TradeMatches;
 import com.venvas.pocamarket.service.user.application.dto.UserDetailDto;
 import com.venvas.pocamarket.service.user.domain.entity.User;
 import com.venvas.pocamarket.service.user.domain.exception.UserErrorCode;
@@ -24,8 +34,15 @@ import com.venvas.pocamarket.service.user.domain.exception.UserException;
 import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +53,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -52,8 +70,10 @@ public class TcgTradeService {
     private final TcgTradeCardCodeRepository tcgTradeCardCodeRepository;
     private final PokemonCardRepository pokemonCardRepository;
     private final TcgTradeRequestRepository tcgTradeRequestRepository;
-    private final TcgTradeHistoryRepository tcgTradeHistoryRepository;
     private final TcgTradeUserService tcgTradeUserService;
+    private final TcgTradeCardIndex tcgTradeCardIndex;
+    private final PokemonCardCatalog pokemonCardCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -80,6 +100,10 @@ public class TcgTradeService {
         
         // 4. TcgTrade 테이블 result id 를 가지고 TcgTradeCardCode 테이블 insert 내카드 1, 원하는 카드 2 코드 저장
         saveTcgTradeCardCodes(savedTrade, processedRequest);
+
+        eventPublisher.publishEvent(new TcgTradeChangedEvent(savedTrade.getId()));
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.trade(userUuid, null, savedTrade.getStatus()));
+        eventPublisher.publishEvent(TcgTradeCardDemandEvent.created(processedRequest.getMyCardCode(), processedRequest.getWantCardCode()));
         
         return true;
     }
@@ -130,6 +154,13 @@ public class TcgTradeService {
             tcgTrade.updateTcgCode(processedRequest.getTcgCode());
         }
 
+        if (hasChanges) {
+            eventPublisher.publishEvent(new TcgTradeChangedEvent(tcgTrade.getId()));
+            eventPublisher.publishEvent(TcgTradeCardDemandEvent.changed(
+                    myCardCodeOf(existingCardCodes), wantCardCodesOf(existingCardCodes),
+                    processedRequest.getMyCardCode(), processedRequest.getWantCardCode()));
+        }
+
         return true;
     }
 
@@ -143,52 +174,190 @@ public class TcgTradeService {
         // 원하는 카드 중복 제거
         ProcessDuplicateCardCodes(myCardCode, wantCardCode);
 
-        TcgTradeListRequest tcgTradeRequest = new TcgTradeListRequest(myCardCode, wantCardCode, request.getStatus());
+        TcgTradeListRequest tcgTradeRequest = new TcgTradeListRequest(myCardCode, wantCardCode, request.getStatus(), request.getCursor());
+
+        // 커서 조회
+        if(request.getCursor() != null) {
+            return getTradeCursorList(tcgTradeRequest, pageable, userUuid, isAdmin, isMy);
+        }
+
+        // default 정렬
+        if(pageable.getSort().isEmpty()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Order.desc("sortedAt")));
+        }
+        boolean isAsc = isSortedAtAsc(pageable);
 
 //     TcgTrade 검색 isMy가 true면 userUuid 값 전달
-        Page<TcgTradeListDto> tcgTradeListDto = tcgTradeRepository.searchFilterList(tcgTradeRequest, pageable, isMy ? userUuid : null, isAdmin);
+        Page<Long> tradeIdPage = canSearchCardIndex(tcgTradeRequest, isAdmin)
+                ? searchCardIndexIdList(tcgTradeRequest, pageable, isMy ? userUuid : null, isAsc)
+                : tcgTradeRepository.searchFilterIdList(tcgTradeRequest, pageable, isMy ? userUuid : null, isAdmin);
+
+        List<TcgTradeListResponse> content = getTradeListResponses(tradeIdPage.getContent(), isAsc, userUuid);
+
+        return PageResponse.of(new PageImpl<>(content, tradeIdPage.getPageable(), tradeIdPage.getTotalElements()));
+    }
+
+    /**
+     * 커서(sortedAt, tradeId) 기준 교환 리스트 조회
+     * count 쿼리 없이 다음 페이지 여부만 확인하고, 다음 페이지가 있으면 마지막 교환글로 nextCursor 를 만든다
+     */
+    private PageResponse<TcgTradeListResponse> getTradeCursorList(TcgTradeListRequest request, Pageable pageable, String userUuid, boolean isAdmin, boolean isMy) {
+        // 빈 문자열이면 첫 페이지
+        TcgTradeCursor cursor = request.getCursor().isBlank() ? null : TcgTradeCursor.decode(request.getCursor());
+        boolean isAsc = isSortedAtAsc(pageable);
+
+        Slice<Long> tradeIdSlice = canSearchCardIndex(request, isAdmin)
+                ? searchCardIndexCursorIdList(request, cursor, pageable, isMy ? userUuid : null, isAsc)
+                : tcgTradeRepository.searchFilterCursorIdList(request, cursor, pageable, isMy ? userUuid : null, isAdmin);
+
+        List<TcgTradeListResponse> content = getTradeListResponses(tradeIdSlice.getContent(), isAsc, userUuid);
+
+        String nextCursor = null;
+        if(tradeIdSlice.hasNext() && !content.isEmpty()) {
+            TcgTradeListResponse last = content.get(content.size() - 1);
+            nextCursor = new TcgTradeCursor(last.getSorted_at(), last.getTradeId()).encode();
+        }
+
+        return PageResponse.ofCursor(new SliceImpl<>(content, tradeIdSlice.getPageable(), tradeIdSlice.hasNext()), cursor == null, nextCursor);
+    }
+
+    /**
+     * 교환글 매칭 조회 (1:1 교환, 3자 교환)
+     * 매칭은 카드 코드 색인에서 미리 계산된 결과를 쓰고, DB 에서는 결과 교환글만 조회
+     *
+     * @param tradeId 기준 교환글 ID
+     * @param userUuid 조회하는 사용자 UUID (내 글 여부 표시용)
+     */
+    public TcgTradeMatchResponse getTradeMatches(Long tradeId, String userUuid) {
+        TradeMatches matches;
+        if (tcgTradeCardIndex.isLoaded()) {
+            matches = tcgTradeCardIndex.getMatches(tradeId)
+                    .orElseThrow(() -> new TcgTradeException(TcgTradeErrorCode.TRADE_NOT_FOUND));
+        } else {
+            // 색인 적재 전에는 매칭 없이 응답
+            if (!tcgTradeRepository.existsById(tradeId)) throw new TcgTradeException(TcgTradeErrorCode.TRADE_NOT_FOUND);
+            matches = TradeMatches.EMPTY;
+        }
+
+        List<Long> tradeIds = new ArrayList<>(matches.directTradeIds());
+        for (TradeMatches.Cycle cycle : matches.cycles()) {
+            tradeIds.add(cycle.giverTradeId());
+            tradeIds.add(cycle.receiverTradeId());
+        }
+        if (tradeIds.isEmpty()) {
+            return new TcgTradeMatchResponse(tradeId, new ArrayList<>(), new ArrayList<>());
+        }
+
+        Map<Long, TcgTradeListResponse> responseMap = getTradeListResponses(tradeIds.stream().distinct().toList(), false, userUuid).stream()
+                .collect(Collectors.toMap(TcgTradeListResponse::getTradeId, response -> response));
+
+        // 색인 갱신과 조회 사이에 바뀐 교환글은 빠질 수 있어 조회된 것만 담는다
+        List<TcgTradeListResponse> directMatches = matches.directTradeIds().stream()
+                .map(responseMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        List<TcgTradeMatchResponse.CycleMatch> cycleMatches = matches.cycles().stream()
+                .filter(cycle -> responseMap.containsKey(cycle.giverTradeId()) && responseMap.containsKey(cycle.receiverTradeId()))
+                .map(cycle -> new TcgTradeMatchResponse.CycleMatch(responseMap.get(cycle.giverTradeId()), responseMap.get(cycle.receiverTradeId())))
+                .toList();
+
+        return new TcgTradeMatchResponse(tradeId, directMatches, cycleMatches);
+    }
+
+    /**
+     * 카드 조건이 있고 색인이 처리할 수 있는 상태 조건이면 카드 코드 색인으로 검색
+     */
+    private boolean canSearchCardIndex(TcgTradeListRequest request, boolean isAdmin) {
+        boolean hasMyCard = request.getMyCardCode() != null && !request.getMyCardCode().isBlank();
+        boolean hasWantCard = request.getWantCardCode() != null && !request.getWantCardCode().isEmpty();
+        return (hasMyCard || hasWantCard) && tcgTradeCardIndex.supports(request.getStatus(), isAdmin);
+    }
+
+    /**
+     * 카드 코드 색인으로 페이지의 교환글 ID 와 전체 수를 구한다
+     */
+    private Page<Long> searchCardIndexIdList(TcgTradeListRequest request, Pageable pageable, String ownerUuid, boolean isAsc) {
+        int pageSize = (int) QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
+        long offset = QueryUtil.checkOffsetMax(pageable.getOffset());
 
-        tcgTradeListDto.getContent().forEach((TcgTradeListDto response) -> {
-            if(userUuid != null && !userUuid.isBlank()) {
-                response.updateIsMyList(response.getUuid().equals(userUuid));
+        TcgTradeIdPage idPage = tcgTradeCardIndex.searchPage(cardCodeOrNull(request.getMyCardCode()), request.getWantCardCode(),
+                request.getStatus(), ownerUuid, isAsc, offset, pageSize);
+
+        return PageableExecutionUtils.getPage(idPage.tradeIds(), pageable, idPage::total);
+    }
+
+    /**
+     * 카드 코드 색인으로 커서 다음 교환글 ID 를 구한다
+     */
+    private Slice<Long> searchCardIndexCursorIdList(TcgTradeListRequest request, TcgTradeCursor cursor, Pageable pageable, String ownerUuid, boolean isAsc) {
+        int pageSize = (int) QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
+
+        TcgTradeIdPage idPage = tcgTradeCardIndex.searchCursor(cardCodeOrNull(request.getMyCardCode()), request.getWantCardCode(),
+                request.getStatus(), ownerUuid, isAsc, cursor, pageSize);
+
+        Sort sort = Sort.by(isAsc ? Sort.Direction.ASC : Sort.Direction.DESC, "sortedAt");
+        return new SliceImpl<>(idPage.tradeIds(), PageRequest.of(0, pageSize, sort), idPage.hasNext());
+    }
+
+    private boolean isSortedAtAsc(Pageable pageable) {
+        Sort.Order sortOrder = pageable.getSort().getOrderFor("sortedAt");
+        return sortOrder != null && sortOrder.isAscending();
+    }
+
+    private String cardCodeOrNull(String cardCode) {
+        return cardCode == null || cardCode.isBlank() ? null : cardCode;
+    }
+
+    /**
+     * 교환글 ID 목록으로 교환 리스트 응답 생성
+     * 교환글과 카드 코드를 한번에 조회하고, 행을 한번 훑으면서 카드 표시 정보 (한글 이름, 확장팩) 는 카드 카탈로그에서 채운다
+     */
+    private List<TcgTradeListResponse> getTradeListResponses(List<Long> tradeIds, boolean isAsc, String userUuid) {
+        List<TcgTradeListRowDto> rows = tcgTradeRepository.findTradeListRows(tradeIds, isAsc);
+        Function<String, TradeListCardDto> cardInfoResolver = getCardInfoResolver(rows);
+        boolean hasUser = userUuid != null && !userUuid.isBlank();
+
+        List<TcgTradeListResponse> responses = new ArrayList<>(tradeIds.size());
+        TcgTradeListResponse current = null;
+        for (TcgTradeListRowDto row : rows) {
+            // 같은 교환글 행은 연속으로 나온다
+            if (current == null || !current.getTradeId().equals(row.getTradeId())) {
+                current = new TcgTradeListResponse(row, hasUser && userUuid.equals(row.getUuid()));
+                responses.add(current);
             }
-        });
-
-        // 가져온 리스트에서 card code 추출
-        List<String> allCardCodes = tcgTradeListDto.getContent().stream()
-            .filter(tcgTrade -> !tcgTrade.getTradeCardCodeList().isEmpty())
-            .flatMap(tcgTrade -> tcgTrade.getTradeCardCodeList().stream())
-            .map(TcgTradeCardCodeDto::getCardCode)
-            .distinct()
-            .toList();
-
-        // 카드 코드 및 한글 이름 가져오기
-        List<TradeListCardDto> findCardList = pokemonCardRepository.findByCodeInGetTradeListCardInfo(allCardCodes);
-
-        // 카드 코드를 Map으로 변환하여 빠른 조회가 가능하도록 함
-        Map<String, TradeListCardDto> cardCodeMap = findCardList.stream()
-                .collect(Collectors.toMap(TradeListCardDto::getCode, card -> card));
-
-        // 가져온 카드 데이터 response에 주입
-        tcgTradeListDto.getContent().stream()
-                .filter(tcgTrade -> !tcgTrade.getTradeCardCodeList().isEmpty())
-                .forEach(tcgTrade -> {
-                    List<TcgTradeCardCodeDto> cardList = tcgTrade.getTradeCardCodeList();
-                    for (TcgTradeCardCodeDto codeType : cardList) {
-                        TradeListCardDto cardInfo = cardCodeMap.get(codeType.getCardCode());
-                        if (cardInfo != null) {
-                            if (codeType.getType() == 1) {
-                                tcgTrade.updateMyCardInfo(cardInfo);
-                            } else {
-                                tcgTrade.updateWantCardInfo(cardInfo);
-                            }
-                        }
-                    }
-                    cardList.clear();
-                });
-
-        // TcgTradeListDto를 TcgTradeListResponse로 변환
-        return PageResponse.of(tcgTradeListDto.map(TcgTradeListResponse::new));
+            if (row.getCardCode() == null) continue;
+
+            TradeListCardDto cardInfo = cardInfoResolver.apply(row.getCardCode());
+            if (cardInfo == null) continue;
+
+            if (Objects.equals(row.getType(), TradeCardCodeStatus.MY.getCode())) {
+                current.updateMyCardInfo(cardInfo);
+            } else {
+                current.addWantCardInfo(cardInfo);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 카드 코드 -> 카드 표시 정보
+     * 카드 카탈로그가 적재 전이면 (애플리케이션 시작 직후) 행의 카드 코드를 한번에 DB 에서 조회
+     */
+    private Function<String, TradeListCardDto> getCardInfoResolver(List<TcgTradeListRowDto> rows) {
+        if (pokemonCardCatalog.isLoaded()) {
+            return pokemonCardCatalog::findByCode;
+        }
+
+        List<String> cardCodes = rows.stream()
+                .map(TcgTradeListRowDto::getCardCode)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (cardCodes.isEmpty()) return cardCode -> null;
+
+        Map<String, TradeListCardDto> cardCodeMap = pokemonCardRepository.findByCodeInGetTradeListCardInfo(cardCodes).stream()
+                .collect(Collectors.toMap(TradeListCardDto::getCode, card -> card, (a, b) -> a));
+        return cardCodeMap::get;
     }
 
     @Transactional
@@ -227,6 +396,8 @@ public class TcgTradeService {
         }
         tcgTrade.refresh();
 
+        eventPublisher.publishEvent(new TcgTradeChangedEvent(tcgTrade.getId()));
+
         return true;
     }
 
@@ -357,9 +528,11 @@ public class TcgTradeService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 3. PokemonCard 상세 정보 한번에 조회 (기존과 동일)
-        Map<String, PokemonCard> pokemonCardMap = pokemonCardRepository.findByCodeIn(cardCodes).stream()
+        // 3. PokemonCard 상세 정보 조회, 공격과 특성을 fetch join 으로 나눠서 두 번 조회 (카드마다 지연 로딩하지 않게)
+        Map<String, PokemonCard> pokemonCardMap = pokemonCardRepository.findByCodeInWithAttacks(cardCodes).stream()
                 .collect(Collectors.toMap(PokemonCard::getCode, card -> card));
+        // 같은 영속성 컨텍스트의 카드 엔티티에 abilities 를 채운다
+        pokemonCardRepository.findByCodeInWithAbilities(cardCodes);
 
 
         // 4. '내 카드'와 '원하는 카드' DTO 리스트 생성 (기존과 동일)
@@ -410,16 +583,44 @@ public class TcgTradeService {
             throw new TcgTradeException(TcgTradeErrorCode.UNAUTHORIZED_TRADE_ACCESS);
         }
 
+        Integer prevStatus = tcgTrade.getStatus();
         tcgTrade.updateStatus(TradeStatus.DELETED.getCode());
         tcgTradeRepository.save(tcgTrade);
+        eventPublisher.publishEvent(TcgTradeStatusChangedEvent.trade(userUuid, prevStatus, tcgTrade.getStatus()));
         
-        // 2. 해당 거래에 대한 요청들 상태 DELETED 로 변경
+        // 2. 해당 거래에 대한 요청들 상태 DELETED 로 변경 (일괄 변경 전 요청자별 이전 상태를 유저 요약에 알린다)
+        for (TcgTradeRequest request : tcgTradeRequestRepository.findByTradeIdAndStatusNot(tradeId, TcgTradeRequestStatus.DELETE.getCode())) {
+            eventPublisher.publishEvent(TcgTradeStatusChangedEvent.request(request.getUuid(), request.getStatus(), TcgTradeRequestStatus.DELETE.getCode()));
+        }
         tcgTradeRequestRepository.updateStatusByTradeId(tradeId, TcgTradeRequestStatus.DELETE.getCode());
 
         // 3. 삭제에 대한 히스토리 로그 추가
-        String historyContent = String.format("%s 님이 거래 글을 삭제했습니다.", user.getNickname());
-        tcgTradeHistoryRepository.save(new TcgTradeHistory(tcgTrade, null, userUuid, historyContent));
+        eventPublisher.publishEvent(TcgTradeHistoryEvent.of(tcgTrade.getId(), null, userUuid,
+                TcgTradeHistoryType.TRADE_DELETED, user.getNickname()));
+
+        eventPublisher.publishEvent(new TcgTradeChangedEvent(tcgTrade.getId()));
+
+        // 이미 삭제된 교환글은 인기 카드 집계에서 다시 빼지 않는다
+        if (!Objects.equals(prevStatus, TradeStatus.DELETED.getCode())) {
+            List<TcgTradeCardCode> cardCodes = tcgTradeCardCodeRepository.findByTrade(tcgTrade);
+            eventPublisher.publishEvent(TcgTradeCardDemandEvent.deleted(myCardCodeOf(cardCodes), wantCardCodesOf(cardCodes)));
+        }
 
         return true;
     }
+
+    private static String myCardCodeOf(List<TcgTradeCardCode> cardCodes) {
+        return cardCodes.stream()
+                .filter(cardCode -> Objects.equals(cardCode.getType(), TradeCardCodeStatus.MY.getCode()))
+                .map(TcgTradeCardCode::getCardCode)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<String> wantCardCodesOf(List<TcgTradeCardCode> cardCodes) {
+        return cardCodes.stream()
+                .filter(cardCode -> Objects.equals(cardCode.getType(), TradeCardCodeStatus.WANT.getCode()))
+                .map(TcgTradeCardCode::getCardCode)
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.venvas.pocamarket.service.trade.application.service;
+
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TcgTradeUserCounterService {
+    private final TcgTradeUserRepository tcgTradeUserRepository;
+
+    /**
+     * 유저 한명의 카운터 증가량 반영 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void apply(String uuid, TcgTradeUserDelta delta) {
+        upsert(uuid, delta);
+    }
+
+    /**
+     * 모아둔 유저별 증가량 일괄 반영
+     * 커밋 후 모은 값을 스케줄러에서 반영하므로 항상 새 트랜잭션으로 저장한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyAll(Map<String, TcgTradeUserDelta> deltas) {
+        deltas.forEach(this::upsert);
+    }
+
+    private void upsert(String uuid, TcgTradeUserDelta delta) {
+        if (delta.isZero()) return;
+        tcgTradeUserRepository.upsertCounters(uuid, delta.tradeCount(), delta.reportCount(), delta.exp(), delta.point());
+    }
+}
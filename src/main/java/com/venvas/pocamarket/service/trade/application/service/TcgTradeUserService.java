@@ -1,19 +1,30 @@
 package com.venvas.pocamarket.service.trade.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
 import com.venvas.pocamarket.service.trade.application.dto.TcgMyInfoResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeLeaderboardResponse;
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
 import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
 import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
 import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
-import com.venvas.pocamarket.service.trade.domain.value.TcgTradeReward;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserSummary;
+import com.venvas.pocamarket.service.trade.infrastructure.counter.TcgTradeUserCounter;
+import com.venvas.pocamarket.service.trade.infrastructure.leaderboard.RankedLeaderboardEntry;
+import com.venvas.pocamarket.service.trade.infrastructure.leaderboard.TcgTradeLeaderboard;
+import com.venvas.pocamarket.service.trade.infrastructure.summary.TcgTradeUserSummaryStore;
+import com.venvas.pocamarket.service.user.domain.entity.User;
+import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,14 +38,29 @@ public class TcgTradeUserService {
     private final TcgTradeUserRepository tcgTradeUserRepository;
     private final TcgTradeRepository tcgTradeRepository;
     private final TcgTradeRequestRepository tcgTradeRequestRepository;
+    private final TcgTradeUserCounter tcgTradeUserCounter;
+    private final TcgTradeUserSummaryStore tcgTradeUserSummaryStore;
+    private final TcgTradeLeaderboard tcgTradeLeaderboard;
+    private final UserRepository userRepository;
+
+    // 리더보드 한번에 조회 가능한 최대 인원, 내 순위 앞뒤 최대 인원
+    private static final int LEADERBOARD_MAX_SIZE = 100;
+    private static final int LEADERBOARD_MAX_RANGE = 10;
 
     /**
      * 사용자(my)의 TCG 거래 정보를 조회합니다.
+     * 유저 요약이 적재되어 있으면 uuid 하나로 조회하고, 적재 전에만 DB 에서 집계합니다.
      * 
      * @param userUuid 사용자 UUID
      * @return TCG 거래 정보 응답 DTO
      */
     public TcgMyInfoResponse getMyTcgTradeInfo(String userUuid) {
+        Optional<TcgTradeUserSummary> summary = tcgTradeUserSummaryStore.get(userUuid);
+        if (summary.isPresent()) {
+            return new TcgMyInfoResponse(summary.get(), summary.get().tradingCount(), summary.get().requestCount())
+                    .addPending(tcgTradeUserCounter.pending(userUuid));
+        }
+
         TcgTradeUser tcgTradeUser = tcgTradeUserRepository.findByUuid(userUuid)
                 .orElseGet(() -> createDefaultTcgTradeUser(userUuid));
 
@@ -43,7 +69,8 @@ public class TcgTradeUserService {
         Integer requestCount = tcgTradeRequestRepository.countByUuidAndStatusIn(userUuid,
                 List.of(TcgTradeRequestStatus.REQUEST.getCode(), TcgTradeRequestStatus.PROCESS.getCode()));
 
-        return new TcgMyInfoResponse(tcgTradeUser, tradingCount, requestCount);
+        return new TcgMyInfoResponse(tcgTradeUser, tradingCount, requestCount)
+                .addPending(tcgTradeUserCounter.pending(userUuid));
     }
 
     /**
@@ -53,12 +80,74 @@ public class TcgTradeUserService {
      * @return TCG 거래 정보 응답 DTO
      */
     public TcgMyInfoResponse getTcgTradeUser(String userUuid) {
+        Optional<TcgTradeUserSummary> summary = tcgTradeUserSummaryStore.get(userUuid);
+        if (summary.isPresent()) {
+            return new TcgMyInfoResponse(summary.get())
+                    .addPending(tcgTradeUserCounter.pending(userUuid));
+        }
+
         TcgTradeUser tcgTradeUser = tcgTradeUserRepository.findByUuid(userUuid)
                 .orElseGet(() -> createDefaultTcgTradeUser(userUuid));
 
-        return new TcgMyInfoResponse(tcgTradeUser);
+        return new TcgMyInfoResponse(tcgTradeUser)
+                .addPending(tcgTradeUserCounter.pending(userUuid));
     }
 
+    /**
+     * 리더보드 상위 사용자를 조회합니다.
+     * 
+     * @param size 조회할 인원 (최대 100)
+     * @param userUuid 로그인 사용자 UUID, 없으면 null
+     * @return 리더보드 응답 DTO
+     */
+    public TcgTradeLeaderboardResponse getLeaderboard(int size, String userUuid) {
+        List<RankedLeaderboardEntry> entries = tcgTradeLeaderboard.top(Math.max(1, Math.min(size, LEADERBOARD_MAX_SIZE)));
+        return new TcgTradeLeaderboardResponse(null, tcgTradeLeaderboard.size(), toLeaderboardEntries(entries, userUuid));
+    }
+
+    /**
+     * 사용자(my)의 리더보드 순위와 앞뒤 사용자를 조회합니다.
+     * 아직 거래 기록이 없는 사용자는 순위 없이 빈 목록을 반환합니다.
+     * 
+     * @param userUuid 사용자 UUID
+     * @param range 앞뒤로 조회할 인원 (최대 10)
+     * @return 리더보드 응답 DTO
+     */
+    public TcgTradeLeaderboardResponse getMyLeaderboard(String userUuid, int range) {
+        int total = tcgTradeLeaderboard.size();
+        Optional<List<RankedLeaderboardEntry>> entries = tcgTradeLeaderboard.around(userUuid,
+                Math.max(0, Math.min(range, LEADERBOARD_MAX_RANGE)));
+        if (entries.isEmpty()) {
+            return new TcgTradeLeaderboardResponse(null, total, List.of());
+        }
+
+        Integer myRank = entries.get().stream()
+                .filter(entry -> entry.entry().uuid().equals(userUuid))
+                .map(RankedLeaderboardEntry::rank)
+                .findFirst()
+                .orElse(null);
+        return new TcgTradeLeaderboardResponse(myRank, total, toLeaderboardEntries(entries.get(), userUuid));
+    }
+
+    /**
+     * 리더보드 항목에 닉네임을 붙입니다. 닉네임은 한번의 IN 쿼리로 조회합니다.
+     */
+    private List<TcgTradeLeaderboardResponse.Entry> toLeaderboardEntries(List<RankedLeaderboardEntry> entries, String userUuid) {
+        if (entries.isEmpty()) return List.of();
+
+        Map<String, String> nicknames = userRepository.findByUuidIn(
+                        entries.stream().map(entry -> entry.entry().uuid()).toList()).stream()
+                .collect(Collectors.toMap(User::getUuid, User::getNickname, (a, b) -> a));
+
+        return entries.stream()
+                .map(entry -> new TcgTradeLeaderboardResponse.Entry(
+                        entry.rank(),
+                        nicknames.get(entry.entry().uuid()),
+                        entry.entry().exp(),
+                        entry.entry().tradeCount(),
+                        entry.entry().uuid().equals(userUuid)))
+                .toList();
+    }
 
     /**
      * 특정 사용자에게 거래 완료 보상을 지급합니다.
@@ -67,26 +156,27 @@ public class TcgTradeUserService {
      */
     @Transactional
     public void giveRewardToUser(String userUuid) {
-        TcgTradeUser tcgTradeUser = tcgTradeUserRepository.findByUuid(userUuid)
-                .orElseGet(() -> createAndSaveDefaultTcgTradeUser(userUuid));
-
-        // 기본 보상 계산
-        Integer pointToAdd = TcgTradeReward.TRADE_COMPLETE_POINT;
-        Integer expToAdd = TcgTradeReward.TRADE_COMPLETE_EXP;
-
-        // 첫 거래 여부 확인 후 보너스 지급
-        // if (tcgTradeUser.getTradeCount() == 0) {
-        //     pointToAdd += TcgTradeReward.FIRST_TRADE_BONUS_POINT;
-        //     expToAdd += TcgTradeReward.FIRST_TRADE_BONUS_EXP;
-        //     log.info("첫 거래 보너스 지급: userUuid={}, bonusPoint={}, bonusExp={}", 
-        //             userUuid, TcgTradeReward.FIRST_TRADE_BONUS_POINT, TcgTradeReward.FIRST_TRADE_BONUS_EXP);
-        // }
-
-        // 포인트 지급
-        tcgTradeUser.addPoint(pointToAdd);
-        // 경험치 지급
-        tcgTradeUser.addExp(expToAdd);
-        tcgTradeUserRepository.save(tcgTradeUser);
+        tcgTradeUserCounter.add(userUuid, TcgTradeUserDelta.reward());
+    }
+
+    /**
+     * 거래 완료 처리, 거래 횟수 증가와 보상 지급을 한번에 반영합니다.
+     * 
+     * @param userUuid 사용자 UUID
+     */
+    @Transactional
+    public void completeTrade(String userUuid) {
+        tcgTradeUserCounter.add(userUuid, TcgTradeUserDelta.tradeComplete());
+    }
+
+    /**
+     * 사용자의 신고당한 횟수를 증가합니다.
+     * 
+     * @param userUuid 사용자 UUID
+     */
+    @Transactional
+    public void incrementReportCount(String userUuid) {
+        tcgTradeUserCounter.add(userUuid, TcgTradeUserDelta.report());
     }
 
     /**
@@ -101,15 +191,4 @@ public class TcgTradeUserService {
         // 별도로 setter나 생성자로 값을 설정할 필요가 없습니다.
         return defaultUser;
     }
-
-    /**
-     * 기본값을 가진 TcgTradeUser 객체를 생성하고 저장합니다.
-     * 
-     * @param userUuid 사용자 UUID
-     * @return 저장된 TcgTradeUser 객체
-     */
-    private TcgTradeUser createAndSaveDefaultTcgTradeUser(String userUuid) {
-        TcgTradeUser newUser = new TcgTradeUser(userUuid);
-        return tcgTradeUserRepository.save(newUser);
-    }
 }
@@ -18,11 +18,14 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tcg_trade")
+@Table(name = "tcg_trade", indexes = {
+    @Index(name = "idx_tcg_trade_sorted_at", columnList = "sorted_at, trade_id")
+})
 public class TcgTrade {
     /** 거래번호 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tcg_trade_seq")
+    @SequenceGenerator(name = "tcg_trade_seq", sequenceName = "tcg_trade_seq", allocationSize = 50)
     @Column(name = "trade_id")
     private Long id;
 
@@ -16,7 +16,8 @@ import lombok.NoArgsConstructor;
 public class TcgTradeCardCode {
     /** 거래 카드 코드 id */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tcg_trade_card_code_seq")
+    @SequenceGenerator(name = "tcg_trade_card_code_seq", sequenceName = "tcg_trade_card_code_seq", allocationSize = 50)
     @Column(name = "trade_card_code_id")
     private Long id;
 
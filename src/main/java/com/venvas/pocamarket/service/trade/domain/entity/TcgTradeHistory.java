@@ -1,22 +1,31 @@
 package com.venvas.pocamarket.service.trade.domain.entity;
 
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeHistoryType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 거래 히스토리 엔티티
+ * 문구는 저장하지 않고 유형과 인자만 저장한다 (getMessage 에서 조회 시 생성)
  */
 @Getter
 @NoArgsConstructor
 @Entity
 @Table(name = "tcg_trade_history")
 public class TcgTradeHistory {
+
+    // 인자 구분자 (닉네임, 카드 이름에 쓰이지 않는 제어 문자)
+    private static final String PARAM_SEPARATOR = "\u001F";
+
     /** 히스토리 번호 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tcg_trade_history_seq")
+    @SequenceGenerator(name = "tcg_trade_history_seq", sequenceName = "tcg_trade_history_seq", allocationSize = 50)
     @Column(name = "trade_history_id")
     private Long id;
 
@@ -34,7 +43,15 @@ public class TcgTradeHistory {
     @Column(name = "uuid", length = 50)
     private String uuid;
 
-    /** 내용 */
+    /** 히스토리 유형 (TcgTradeHistoryType 코드) */
+    @Column(name = "history_type")
+    private Integer type;
+
+    /** 문구 인자 (PARAM_SEPARATOR 로 구분) */
+    @Column(name = "params", columnDefinition = "TEXT")
+    private String params;
+
+    /** 내용 (유형 도입 전 히스토리) */
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
@@ -43,13 +60,29 @@ public class TcgTradeHistory {
     private LocalDateTime createAt;
 
     /**
-     * 거래 히스토리 엔티티 생성자 (ID와 타임스탬프 제외)
+     * 거래 히스토리 엔티티 생성자 (ID 제외)
      */
-    public TcgTradeHistory(TcgTrade trade, TcgTradeRequest tradeRequest, String uuid, String content) {
+    public TcgTradeHistory(TcgTrade trade, TcgTradeRequest tradeRequest, String uuid,
+                           TcgTradeHistoryType type, List<String> params, LocalDateTime createAt) {
         this.trade = trade;
         this.tradeRequest = tradeRequest;
         this.uuid = uuid;
-        this.content = content;
-        this.createAt = LocalDateTime.now();
+        this.type = type.getCode();
+        this.params = String.join(PARAM_SEPARATOR, params);
+        this.createAt = createAt;
+    }
+
+    /**
+     * 히스토리 문구, 유형이 없는 이전 히스토리는 저장된 내용 그대로
+     */
+    public String getMessage() {
+        TcgTradeHistoryType historyType = TcgTradeHistoryType.fromCode(type);
+        if (historyType == null) {
+            return content;
+        }
+        List<String> values = params == null || params.isEmpty()
+                ? List.of()
+                : Arrays.asList(params.split(PARAM_SEPARATOR, -1));
+        return historyType.render(values);
     }
-} 
\ No newline at end of file
+}
@@ -41,25 +41,6 @@ public class TcgTradeUser {
         this.point = 0;
     }
 
-    public void incrementTradeCount() {
-        this.tradeCount++;
-    }
-
-    public void addPoint(Integer point) {
-        this.point += point;
-    }
-
-    public void addExp(Integer exp) {
-        this.exp += exp;
-    }
-
-    /**
-     * 신고 횟수 증가
-     */
-    public void incrementReportCount() {
-        this.reportCount++;
-    }
-
     /**
      * 신고 횟수 감소
      */
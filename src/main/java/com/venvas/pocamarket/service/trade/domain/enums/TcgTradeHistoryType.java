@@ -0,0 +1,52 @@
+package com.venvas.pocamarket.service.trade.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 교환 히스토리 유형
+ * 히스토리에는 유형 코드와 인자만 저장하고, 문구는 조회할 때 template 으로 만든다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TcgTradeHistoryType {
+    /** 인자: 닉네임, 카드 이름, 카드 코드 */
+    REQUEST_CREATED(1, "%s님이 %s (%s)카드로 교환을 요청했습니다."),
+    /** 인자: 변경된 교환글 상태 문구 */
+    TRADE_STATUS_CHANGED(2, "교환글의 상태가 %s으로 변경 되었습니다."),
+    /** 인자: 닉네임 */
+    REQUEST_PROCESS(3, "%s님이 교환을 진행 상태로 변경했습니다."),
+    /** 인자: 닉네임 */
+    REQUEST_COMPLETE(4, "%s님이 교환을 완료했습니다."),
+    /** 인자: 닉네임 (관리자가 취소하면 "관리자") */
+    REQUEST_CANCELLED(5, "%s 님이 교환 요청을 취소했습니다."),
+    /** 인자: 닉네임 */
+    TRADE_DELETED(6, "%s 님이 거래 글을 삭제했습니다.");
+
+    private final Integer code;
+    private final String template;
+
+    /**
+     * 코드 값으로 유형 찾기
+     *
+     * @return 해당 코드 값에 맞는 유형, 없으면 null
+     */
+    public static TcgTradeHistoryType fromCode(Integer code) {
+        if (code == null) return null;
+        for (TcgTradeHistoryType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인자로 히스토리 문구 생성
+     */
+    public String render(List<String> params) {
+        return String.format(template, params.toArray());
+    }
+}
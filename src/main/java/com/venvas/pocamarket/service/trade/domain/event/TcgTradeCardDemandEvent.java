@@ -0,0 +1,41 @@
+package com.venvas.pocamarket.service.trade.domain.event;
+
+import java.util.List;
+
+/**
+ * 교환글 카드 수요 변경 이벤트
+ * 교환글 생성, 카드 수정, 삭제 시 올라오거나 내려간 내 카드 (offered), 원하는 카드 (wanted) 를 인기 카드 집계에 알린다
+ *
+ * @param addedMyCardCode 새로 올린 내 카드, 없으면 null
+ * @param addedWantCardCodes 새로 올린 원하는 카드
+ * @param removedMyCardCode 내린 내 카드, 없으면 null
+ * @param removedWantCardCodes 내린 원하는 카드
+ */
+public record TcgTradeCardDemandEvent(
+        String addedMyCardCode,
+        List<String> addedWantCardCodes,
+        String removedMyCardCode,
+        List<String> removedWantCardCodes
+) {
+
+    public static TcgTradeCardDemandEvent created(String myCardCode, List<String> wantCardCodes) {
+        return new TcgTradeCardDemandEvent(myCardCode, List.copyOf(wantCardCodes), null, List.of());
+    }
+
+    /**
+     * 카드 수정, 바뀐 카드만 담는다
+     */
+    public static TcgTradeCardDemandEvent changed(String beforeMyCardCode, List<String> beforeWantCardCodes,
+                                                  String afterMyCardCode, List<String> afterWantCardCodes) {
+        boolean myChanged = !afterMyCardCode.equals(beforeMyCardCode);
+        return new TcgTradeCardDemandEvent(
+                myChanged ? afterMyCardCode : null,
+                afterWantCardCodes.stream().filter(code -> !beforeWantCardCodes.contains(code)).toList(),
+                myChanged ? beforeMyCardCode : null,
+                beforeWantCardCodes.stream().filter(code -> !afterWantCardCodes.contains(code)).toList());
+    }
+
+    public static TcgTradeCardDemandEvent deleted(String myCardCode, List<String> wantCardCodes) {
+        return new TcgTradeCardDemandEvent(null, List.of(), myCardCode, List.copyOf(wantCardCodes));
+    }
+}
@@ -0,0 +1,10 @@
+package com.venvas.pocamarket.service.trade.domain.event;
+
+/**
+ * 교환글 변경 이벤트
+ * 교환글 생성, 카드 수정, 끌어올리기, 삭제, 교환 요청에 따른 상태 변경 후 인메모리 색인을 갱신하도록 알린다
+ *
+ * @param tradeId 변경된 교환글 ID
+ */
+public record TcgTradeChangedEvent(Long tradeId) {
+}
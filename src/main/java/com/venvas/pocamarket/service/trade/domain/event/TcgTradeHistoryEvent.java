@@ -0,0 +1,34 @@
+package com.venvas.pocamarket.service.trade.domain.event;
+
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeHistoryType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 교환 히스토리 이벤트
+ * 교환글, 교환 요청 상태 변경 시 발행하고, 커밋 후 TcgTradeHistoryDispatcher 가 모아서 저장한다
+ *
+ * @param tradeId 교환글 ID
+ * @param tradeRequestId 교환 요청 ID, 교환글 자체 히스토리면 null
+ * @param uuid 히스토리 주체 유저
+ * @param type 히스토리 유형
+ * @param params 문구 인자 (type 의 template 순서)
+ * @param createAt 발생 시간
+ */
+public record TcgTradeHistoryEvent(
+        Long tradeId,
+        Long tradeRequestId,
+        String uuid,
+        TcgTradeHistoryType type,
+        List<String> params,
+        LocalDateTime createAt
+) {
+
+    public static TcgTradeHistoryEvent of(Long tradeId, Long tradeRequestId, String uuid,
+                                          TcgTradeHistoryType type, String... params) {
+        return new TcgTradeHistoryEvent(tradeId, tradeRequestId, uuid, type,
+                Arrays.stream(params).map(String::valueOf).toList(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,25 @@
+package com.venvas.pocamarket.service.trade.domain.event;
+
+/**
+ * 교환글, 교환 요청 상태 변경 이벤트
+ * 커밋 후 유저 요약 (TcgTradeUserSummaryStore) 의 상태별 수를 옮긴다
+ *
+ * @param target 교환글인지 교환 요청인지
+ * @param uuid 교환글 작성자 또는 교환 요청자
+ * @param fromStatus 이전 상태, 새로 생성했으면 null
+ * @param toStatus 바뀐 상태
+ */
+public record TcgTradeStatusChangedEvent(Target target, String uuid, Integer fromStatus, Integer toStatus) {
+
+    public enum Target {
+        TRADE, REQUEST
+    }
+
+    public static TcgTradeStatusChangedEvent trade(String uuid, Integer fromStatus, Integer toStatus) {
+        return new TcgTradeStatusChangedEvent(Target.TRADE, uuid, fromStatus, toStatus);
+    }
+
+    public static TcgTradeStatusChangedEvent request(String uuid, Integer fromStatus, Integer toStatus) {
+        return new TcgTradeStatusChangedEvent(Target.REQUEST, uuid, fromStatus, toStatus);
+    }
+}
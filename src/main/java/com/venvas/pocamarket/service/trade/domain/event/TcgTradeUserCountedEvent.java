@@ -0,0 +1,13 @@
+package com.venvas.pocamarket.service.trade.domain.event;
+
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+
+/**
+ * 거래 유저 카운터 반영 이벤트
+ * 카운터 증가량이 DB 에 반영된 뒤 (바로 반영은 커밋 후, 모아서 반영은 일괄 반영 후) 유저 요약에 더한다
+ *
+ * @param uuid 유저 UUID
+ * @param delta 반영된 증가량
+ */
+public record TcgTradeUserCountedEvent(String uuid, TcgTradeUserDelta delta) {
+}
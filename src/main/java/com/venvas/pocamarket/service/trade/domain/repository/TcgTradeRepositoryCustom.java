@@ -1,11 +1,25 @@
 package com.venvas.pocamarket.service.trade.domain.repository;
 
-import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCardIndexDto;
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListRowDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface TcgTradeRepositoryCustom {
 
-    Page<TcgTradeListDto> searchFilterList(TcgTradeListRequest request, Pageable pageable, String userUuid, boolean isAdmin);
+    Page<Long> searchFilterIdList(TcgTradeListRequest request, Pageable pageable, String userUuid, boolean isAdmin);
+
+    Slice<Long> searchFilterCursorIdList(TcgTradeListRequest request, TcgTradeCursor cursor, Pageable pageable, String userUuid, boolean isAdmin);
+
+    List<TcgTradeListRowDto> findTradeListRows(List<Long> tradeIds, boolean isAsc);
+
+    List<TcgTradeCardIndexDto> findCardIndexRows(Long tradeId);
+
+    List<TcgTradeUserStatusCountDto> findUserStatusCounts(List<Integer> statuses);
 }
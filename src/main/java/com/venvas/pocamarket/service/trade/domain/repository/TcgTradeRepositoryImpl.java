@@ -1,26 +1,31 @@
 package com.venvas.pocamarket.service.trade.domain.repository;
 
-import com.querydsl.core.group.GroupBy;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.venvas.pocamarket.infrastructure.util.QueryUtil;
-import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCardCodeDto;
-import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCardIndexDto;
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListRowDto;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
 import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeErrorCode;
 import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeException;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
 import com.venvas.pocamarket.service.trade.domain.value.UseOrder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,84 +37,178 @@ import static com.venvas.pocamarket.service.trade.domain.entity.QTcgTradeCardCod
 public class TcgTradeRepositoryImpl implements TcgTradeRepositoryCustom{
 
     private final JPAQueryFactory queryFactory;
-    private boolean isAdmin = false;
-    private boolean isMy = false;
 
     public TcgTradeRepositoryImpl(JPAQueryFactory queryFactory) {
         this.queryFactory = queryFactory;
     }
 
+    /**
+     * 조건에 맞는 교환글 ID 페이지, 교환글과 카드 정보는 findTradeListRows 로 조회
+     */
     @Override
-    public Page<TcgTradeListDto> searchFilterList(TcgTradeListRequest request, Pageable pageable, String userUuid, boolean isAdmin) {
-        this.isAdmin = isAdmin;
-        this.isMy = userUuid != null;
-
+    public Page<Long> searchFilterIdList(TcgTradeListRequest request, Pageable pageable, String userUuid, boolean isAdmin) {
         // default 정렬
         if(pageable.getSort().isEmpty()) {
             pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Order.desc("sortedAt")));
         }
 
-        List<TcgTradeListDto> content = getTradeListQuery(request, userUuid, pageable);
+        List<Long> content = getTradeIdListQuery(request, userUuid, isAdmin, pageable);
 
-        JPAQuery<Long> countQuery = getCountQuery(request, userUuid);
+        JPAQuery<Long> countQuery = getCountQuery(request, userUuid, isAdmin);
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
-    private JPAQuery<Long> getCountQuery(TcgTradeListRequest request, String userUuid) {
+    /**
+     * 커서(sortedAt, tradeId) 기준 교환글 ID 조회, count 쿼리를 안날리고 다음 페이지가 있는지만 확인
+     * offset 대신 seek 조건을 써서 몇 번째 페이지든 page size 만큼만 읽는다
+     * 정렬은 sortedAt 방향(기본 desc)을 따르고 같은 sortedAt 은 tradeId 로 구분
+     */
+    @Override
+    public Slice<Long> searchFilterCursorIdList(TcgTradeListRequest request, TcgTradeCursor cursor, Pageable pageable, String userUuid, boolean isAdmin) {
+        boolean isAsc = isSortedAtAsc(pageable);
+        Sort sort = Sort.by(isAsc ? Sort.Direction.ASC : Sort.Direction.DESC, "sortedAt");
+
+        long pageSize = QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
+
+        List<Long> content = queryFactory
+                .select(tcgTrade.id)
+                .from(tcgTrade)
+                .where(
+                    statusEq(request.getStatus(), isAdmin),
+                    myCardEq(userUuid, userUuid != null),
+                    hasMatchingCards(request.getMyCardCode(), request.getWantCardCode()),
+                    cursorSeek(cursor, isAsc)
+                )
+                .orderBy(tradeOrder(isAsc))
+                .limit(pageSize + 1)
+                .fetch();
+
+        boolean hasNext = false;
+
+        if(content.size() > pageSize) {
+            content.remove((int) pageSize);
+            hasNext = true;
+        }
+
+        return new SliceImpl<>(content, PageRequest.of(0, (int) pageSize, sort), hasNext);
+    }
+
+    /**
+     * ID 목록에 해당하는 교환글과 카드 코드를 교환글 순서 (sortedAt, tradeId) 대로 조회
+     * 교환글 하나에 카드 수 만큼 행이 나오며 같은 교환글 행은 연속으로 나온다
+     */
+    @Override
+    public List<TcgTradeListRowDto> findTradeListRows(List<Long> tradeIds, boolean isAsc) {
+        if(tradeIds.isEmpty()) return new ArrayList<>();
+
+        return queryFactory
+                .select(Projections.constructor(
+                    TcgTradeListRowDto.class,
+                    tcgTrade.id,
+                    tcgTrade.nickname,
+                    tcgTrade.status,
+                    tcgTrade.sortedAt,
+                    tcgTrade.uuid,
+                    tcgTradeCardCode.cardCode,
+                    tcgTradeCardCode.type
+                ))
+                .from(tcgTrade)
+                .leftJoin(tcgTradeCardCode)
+                .on(tcgTradeCardCode.trade.id.eq(tcgTrade.id))
+                .where(tcgTrade.id.in(tradeIds))
+                .orderBy(tradeOrder(isAsc))
+                .fetch();
+    }
+
+    /**
+     * 카드 코드 색인 적재용 교환글 카드 행
+     * @param tradeId null 이면 삭제되지 않은 전체 교환글, 있으면 상태와 관계없이 해당 교환글만
+     */
+    @Override
+    public List<TcgTradeCardIndexDto> findCardIndexRows(Long tradeId) {
+        return queryFactory
+                .select(Projections.constructor(
+                    TcgTradeCardIndexDto.class,
+                    tcgTrade.id,
+                    tcgTrade.uuid,
+                    tcgTrade.status,
+                    tcgTrade.sortedAt,
+                    tcgTradeCardCode.cardCode,
+                    tcgTradeCardCode.type
+                ))
+                .from(tcgTradeCardCode)
+                .join(tcgTradeCardCode.trade, tcgTrade)
+                .where(tradeId == null ? tcgTrade.status.ne(TradeStatus.DELETED.getCode()) : tcgTrade.id.eq(tradeId))
+                .orderBy(tcgTrade.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 유저별, 상태별 교환글 수 (유저 요약 적재용)
+     */
+    @Override
+    public List<TcgTradeUserStatusCountDto> findUserStatusCounts(List<Integer> statuses) {
+        return queryFactory
+                .select(Projections.constructor(
+                    TcgTradeUserStatusCountDto.class,
+                    tcgTrade.uuid,
+                    tcgTrade.status,
+                    tcgTrade.count()
+                ))
+                .from(tcgTrade)
+                .where(tcgTrade.status.in(statuses))
+                .groupBy(tcgTrade.uuid, tcgTrade.status)
+                .fetch();
+    }
+
+    private JPAQuery<Long> getCountQuery(TcgTradeListRequest request, String userUuid, boolean isAdmin) {
         return queryFactory
             .select(tcgTrade.count())
             .from(tcgTrade)
             .where(
-                statusEq(request.getStatus()),
-                myCardEq(userUuid),
+                statusEq(request.getStatus(), isAdmin),
+                myCardEq(userUuid, userUuid != null),
                 hasMatchingCards(request.getMyCardCode(), request.getWantCardCode())
         );
     }
 
-    private List<TcgTradeListDto> getTradeListQuery(TcgTradeListRequest request, String userUuid, Pageable pageable) {
+    private List<Long> getTradeIdListQuery(TcgTradeListRequest request, String userUuid, boolean isAdmin, Pageable pageable) {
         long pageSize = QueryUtil.checkMinMax(QueryUtil.MIN_PAGE_SIZE, QueryUtil.MAX_PAGE_SIZE, pageable.getPageSize());
         long offset = QueryUtil.checkOffsetMax(pageable.getOffset());
         // 조건에 맞는 거래 ID를 먼저 찾습니다
-        List<Long> fetch = queryFactory
+        return queryFactory
                 .select(tcgTrade.id)
                 .from(tcgTrade)
                 .where(
-                    statusEq(request.getStatus()),
-                    myCardEq(userUuid),
+                    statusEq(request.getStatus(), isAdmin),
+                    myCardEq(userUuid, userUuid != null),
                     hasMatchingCards(request.getMyCardCode(), request.getWantCardCode())
                 )
-                .orderBy(QueryUtil.getOrderSpecifier(pageable, tcgTrade, UseOrder.getList()))
+                .orderBy(tradeOrder(isSortedAtAsc(pageable)))
                 .offset(offset)
                 .limit(pageSize)
                 .fetch();
+    }
 
-        // 찾은 ID에 해당하는 모든 거래와 카드 정보를 조회합니다
-        return queryFactory
-                .from(tcgTrade)
-                .leftJoin(tcgTradeCardCode)
-                .on(tcgTradeCardCode.trade.id.eq(tcgTrade.id))
-                .where(tcgTrade.id.in(fetch))
-                .orderBy(QueryUtil.getOrderSpecifier(pageable, tcgTrade, UseOrder.getList()))
-                .transform(GroupBy.groupBy(tcgTrade.id)
-                    .list(Projections.constructor(
-                        TcgTradeListDto.class,
-                        tcgTrade.id,
-                        tcgTrade.nickname,
-                        tcgTrade.status,
-                        tcgTrade.updatedAt,
-                        tcgTrade.sortedAt,
-                        tcgTrade.uuid,
-                        GroupBy.list(Projections.constructor(
-                            TcgTradeCardCodeDto.class,
-                            tcgTradeCardCode.cardCode,
-                            tcgTradeCardCode.type
-                        ))
-                    ))
-                );
+    /**
+     * 교환글 정렬은 sortedAt (UseOrder) 한가지, 같은 sortedAt 은 tradeId 로 구분
+     */
+    private boolean isSortedAtAsc(Pageable pageable) {
+        Sort.Order sortOrder = pageable.getSort().getOrderFor(UseOrder.getList().get(0));
+        return sortOrder != null && sortOrder.isAscending();
+    }
+
+    private OrderSpecifier<?>[] tradeOrder(boolean isAsc) {
+        return isAsc
+                ? new OrderSpecifier<?>[]{tcgTrade.sortedAt.asc(), tcgTrade.id.asc()}
+                : new OrderSpecifier<?>[]{tcgTrade.sortedAt.desc(), tcgTrade.id.desc()};
     }
 
-    private BooleanExpression statusEq(Integer status) {
+    /**
+     * 상태 조건, 레포지토리는 싱글톤이라 요청마다 다른 관리자 여부는 필드가 아닌 인자로 받는다
+     */
+    private BooleanExpression statusEq(Integer status, boolean isAdmin) {
         status = Objects.isNull(status) ? 99 : status;
 
         if(isAdmin && (status == 99)) { // 관리자가 전체 검색
@@ -131,8 +230,23 @@ public class TcgTradeRepositoryImpl implements TcgTradeRepositoryCustom{
         return tcgTrade.status.eq(status);
     }
 
-    private BooleanExpression myCardEq(String userUuid) {
-        if(!this.isMy || userUuid == null) return null;
+    /**
+     * 커서 이후 위치 조건
+     * desc: sortedAt < c.sortedAt or (sortedAt = c.sortedAt and tradeId < c.tradeId), asc 는 반대
+     */
+    private BooleanExpression cursorSeek(TcgTradeCursor cursor, boolean isAsc) {
+        if(cursor == null) return null;
+
+        if(isAsc) {
+            return tcgTrade.sortedAt.gt(cursor.sortedAt())
+                    .or(tcgTrade.sortedAt.eq(cursor.sortedAt()).and(tcgTrade.id.gt(cursor.tradeId())));
+        }
+        return tcgTrade.sortedAt.lt(cursor.sortedAt())
+                .or(tcgTrade.sortedAt.eq(cursor.sortedAt()).and(tcgTrade.id.lt(cursor.tradeId())));
+    }
+
+    private BooleanExpression myCardEq(String userUuid, boolean isMy) {
+        if(!isMy || userUuid == null) return null;
 
         String uuid = userUuid.trim();
         if(uuid.isBlank()) return null; // 비어있는 경우 return
@@ -29,6 +29,8 @@ public interface TcgTradeRequestRepository extends JpaRepository<TcgTradeRequest
 
     Integer countByUuidAndStatusIn(String uuid, List<Integer> status);
 
+    List<TcgTradeRequest> findByTradeIdAndStatusNot(Long tradeId, Integer status);
+
     @Modifying
     @Query("UPDATE TcgTradeRequest tr SET tr.status = :status WHERE tr.trade.id = :tradeId")
     void updateStatusByTradeId(@Param("tradeId") Long tradeId, @Param("status") Integer status);
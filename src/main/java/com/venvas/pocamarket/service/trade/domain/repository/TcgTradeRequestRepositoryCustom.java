@@ -1,6 +1,7 @@
 package com.venvas.pocamarket.service.trade.domain.repository;
 
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestGetResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
 
 import java.util.List;
 
@@ -10,4 +11,9 @@ public interface TcgTradeRequestRepositoryCustom {
      * 거래 ID로 교환 요청 목록을 TcgTradeUser와 함께 조회합니다.
      */
     List<TcgTradeRequestGetResponse> findTradeRequestsWithTradeUser(Long tradeId, String userUuid, Boolean isAdmin);
+
+    /**
+     * 유저별, 상태별 교환 요청 수 (유저 요약 적재용)
+     */
+    List<TcgTradeUserStatusCountDto> findUserStatusCounts(List<Integer> statuses);
 } 
\ No newline at end of file
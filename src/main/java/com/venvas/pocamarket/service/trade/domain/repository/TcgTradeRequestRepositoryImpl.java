@@ -5,6 +5,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestGetResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
 import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -60,6 +61,20 @@ public class TcgTradeRequestRepositoryImpl implements TcgTradeRequestRepositoryC
         return result;
     }
 
+    @Override
+    public List<TcgTradeUserStatusCountDto> findUserStatusCounts(List<Integer> statuses) {
+        return queryFactory
+            .select(Projections.constructor(TcgTradeUserStatusCountDto.class,
+                tcgTradeRequest.uuid,
+                tcgTradeRequest.status,
+                tcgTradeRequest.count()
+            ))
+            .from(tcgTradeRequest)
+            .where(tcgTradeRequest.status.in(statuses))
+            .groupBy(tcgTradeRequest.uuid, tcgTradeRequest.status)
+            .fetch();
+    }
+
     private BooleanExpression statusCondition(Boolean isAdmin) {
         if (isAdmin != null && isAdmin) {
             return null; // 관리자는 모든 상태 조회
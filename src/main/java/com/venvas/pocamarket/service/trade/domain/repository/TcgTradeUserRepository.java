@@ -2,6 +2,9 @@ package com.venvas.pocamarket.service.trade.domain.repository;
 
 import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +12,19 @@ import java.util.Optional;
 @Repository
 public interface TcgTradeUserRepository extends JpaRepository<TcgTradeUser, String> {
     Optional<TcgTradeUser> findByUuid(String uuid);
-} 
\ No newline at end of file
+
+    /**
+     * 카운터 증가량을 원자적으로 반영 (없으면 생성)
+     * 읽고 더해서 저장하지 않고 DB 에서 x = x + ? 로 더하므로 동시에 반영해도 증가량이 사라지지 않는다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tcg_trade_user (uuid, trade_count, report_count, exp, point) " +
+            "VALUES (:uuid, :tradeCount, :reportCount, :exp, :point) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "trade_count = COALESCE(trade_count, 0) + VALUES(trade_count), " +
+            "report_count = COALESCE(report_count, 0) + VALUES(report_count), " +
+            "exp = COALESCE(exp, 0) + VALUES(exp), " +
+            "point = COALESCE(point, 0) + VALUES(point)", nativeQuery = true)
+    int upsertCounters(@Param("uuid") String uuid, @Param("tradeCount") int tradeCount,
+                       @Param("reportCount") int reportCount, @Param("exp") int exp, @Param("point") int point);
+}
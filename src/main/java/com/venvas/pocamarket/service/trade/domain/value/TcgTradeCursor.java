@@ -0,0 +1,39 @@
+package com.venvas.pocamarket.service.trade.domain.value;
+
+import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeErrorCode;
+import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 교환 리스트 커서 (sortedAt, tradeId)
+ * 마지막으로 받은 교환글 위치를 가리키며, 클라이언트에는 base64url 문자열로만 노출한다
+ */
+public record TcgTradeCursor(LocalDateTime sortedAt, Long tradeId) {
+
+    private static final char SEPARATOR = '_';
+
+    public String encode() {
+        String raw = sortedAt.toString() + SEPARATOR + tradeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석, 형식이 맞지 않으면 예외
+     */
+    public static TcgTradeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            if (index < 0) {
+                throw new TcgTradeException(TcgTradeErrorCode.INVALID_REQUEST_DATA, "잘못된 커서 값 입니다.");
+            }
+            return new TcgTradeCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new TcgTradeException(TcgTradeErrorCode.INVALID_REQUEST_DATA, "잘못된 커서 값 입니다.");
+        }
+    }
+}
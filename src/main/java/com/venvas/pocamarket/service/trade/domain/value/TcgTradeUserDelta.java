@@ -0,0 +1,45 @@
+package com.venvas.pocamarket.service.trade.domain.value;
+
+/**
+ * 거래 유저 카운터 증가량
+ * tcg_trade_user 의 각 카운터에 더할 값으로, 같은 유저의 증가량은 plus 로 합쳐서 한번에 반영한다
+ *
+ * @param tradeCount 거래 성사 횟수 증가량
+ * @param reportCount 신고당한 횟수 증가량
+ * @param exp 경험치 증가량
+ * @param point 포인트 증가량
+ */
+public record TcgTradeUserDelta(int tradeCount, int reportCount, int exp, int point) {
+
+    public static final TcgTradeUserDelta ZERO = new TcgTradeUserDelta(0, 0, 0, 0);
+
+    /**
+     * 거래 완료 보상 (포인트, 경험치)
+     */
+    public static TcgTradeUserDelta reward() {
+        return new TcgTradeUserDelta(0, 0, TcgTradeReward.TRADE_COMPLETE_EXP, TcgTradeReward.TRADE_COMPLETE_POINT);
+    }
+
+    /**
+     * 거래 완료 (거래 횟수 + 보상)
+     */
+    public static TcgTradeUserDelta tradeComplete() {
+        return new TcgTradeUserDelta(1, 0, TcgTradeReward.TRADE_COMPLETE_EXP, TcgTradeReward.TRADE_COMPLETE_POINT);
+    }
+
+    /**
+     * 신고 접수
+     */
+    public static TcgTradeUserDelta report() {
+        return new TcgTradeUserDelta(0, 1, 0, 0);
+    }
+
+    public TcgTradeUserDelta plus(TcgTradeUserDelta other) {
+        return new TcgTradeUserDelta(tradeCount + other.tradeCount, reportCount + other.reportCount,
+                exp + other.exp, point + other.point);
+    }
+
+    public boolean isZero() {
+        return tradeCount == 0 && reportCount == 0 && exp == 0 && point == 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.venvas.pocamarket.service.trade.domain.value;
+
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+
+/**
+ * 유저별 교환 요약 (내 카드 교환 정보)
+ * 진행중인 교환글 수와 진행중인 교환 요청 수는 상태별로, 거래 유저 카운터는 DB 에 반영된 값으로 보관한다
+ *
+ * @param requestTrades 거래 등록 상태 교환글 수
+ * @param selectTrades 거래 선택중 상태 교환글 수
+ * @param processTrades 거래 진행중 상태 교환글 수
+ * @param requestRequests 교환 요청 상태 요청 수
+ * @param processRequests 교환 진행 상태 요청 수
+ * @param tradeCount 거래 성사 횟수
+ * @param reportCount 신고당한 횟수
+ * @param exp 경험치
+ * @param point 포인트
+ */
+public record TcgTradeUserSummary(
+        int requestTrades,
+        int selectTrades,
+        int processTrades,
+        int requestRequests,
+        int processRequests,
+        int tradeCount,
+        int reportCount,
+        int exp,
+        int point
+) {
+
+    public static final TcgTradeUserSummary EMPTY = new TcgTradeUserSummary(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * 진행중인 교환글 수 (등록, 선택중, 진행중)
+     */
+    public int tradingCount() {
+        return requestTrades + selectTrades + processTrades;
+    }
+
+    /**
+     * 진행중인 교환 요청 수 (요청, 진행)
+     */
+    public int requestCount() {
+        return requestRequests + processRequests;
+    }
+
+    /**
+     * 교환글 상태 변경 반영, 보관하지 않는 상태 (삭제, 완료, null) 는 무시한다
+     */
+    public TcgTradeUserSummary withTradeStatus(Integer fromStatus, Integer toStatus) {
+        return plusTrades(fromStatus, -1).plusTrades(toStatus, 1);
+    }
+
+    /**
+     * 교환 요청 상태 변경 반영, 보관하지 않는 상태 (삭제, 완료, null) 는 무시한다
+     */
+    public TcgTradeUserSummary withRequestStatus(Integer fromStatus, Integer toStatus) {
+        return plusRequests(fromStatus, -1).plusRequests(toStatus, 1);
+    }
+
+    public TcgTradeUserSummary plus(TcgTradeUserDelta delta) {
+        return new TcgTradeUserSummary(requestTrades, selectTrades, processTrades, requestRequests, processRequests,
+                tradeCount + delta.tradeCount(), reportCount + delta.reportCount(), exp + delta.exp(), point + delta.point());
+    }
+
+    /**
+     * 상태별 교환글 수 증감, 보관하지 않는 상태는 무시한다
+     */
+    public TcgTradeUserSummary plusTrades(Integer status, int amount) {
+        if (status == null) return this;
+        if (status.equals(TradeStatus.REQUEST.getCode())) {
+            return new TcgTradeUserSummary(atLeastZero(requestTrades + amount), selectTrades, processTrades,
+                    requestRequests, processRequests, tradeCount, reportCount, exp, point);
+        } else if (status.equals(TradeStatus.SELECT.getCode())) {
+            return new TcgTradeUserSummary(requestTrades, atLeastZero(selectTrades + amount), processTrades,
+                    requestRequests, processRequests, tradeCount, reportCount, exp, point);
+        } else if (status.equals(TradeStatus.PROCESS.getCode())) {
+            return new TcgTradeUserSummary(requestTrades, selectTrades, atLeastZero(processTrades + amount),
+                    requestRequests, processRequests, tradeCount, reportCount, exp, point);
+        }
+        return this;
+    }
+
+    /**
+     * 상태별 교환 요청 수 증감, 보관하지 않는 상태는 무시한다
+     */
+    public TcgTradeUserSummary plusRequests(Integer status, int amount) {
+        if (status == null) return this;
+        if (status.equals(TcgTradeRequestStatus.REQUEST.getCode())) {
+            return new TcgTradeUserSummary(requestTrades, selectTrades, processTrades,
+                    atLeastZero(requestRequests + amount), processRequests, tradeCount, reportCount, exp, point);
+        } else if (status.equals(TcgTradeRequestStatus.PROCESS.getCode())) {
+            return new TcgTradeUserSummary(requestTrades, selectTrades, processTrades,
+                    requestRequests, atLeastZero(processRequests + amount), tradeCount, reportCount, exp, point);
+        }
+        return this;
+    }
+
+    private static int atLeastZero(int value) {
+        return Math.max(0, value);
+    }
+}
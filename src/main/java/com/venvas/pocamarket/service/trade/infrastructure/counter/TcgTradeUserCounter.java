@@ -0,0 +1,172 @@
+package com.venvas.pocamarket.service.trade.infrastructure.counter;
+
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserCounterStatsDto;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeUserCounterService;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeUserCountedEvent;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 거래 유저 카운터 (거래 횟수, 신고 횟수, 경험치, 포인트)
+ * 평소에는 요청 트랜잭션 안에서 바로 원자적 upsert (x = x + ?) 로 반영한다
+ * 한 반영 주기 안에 HOT_THRESHOLD 번 넘게 바뀐 유저는 커밋 후 증가량을 stripe 별 누적기에 모아두고, 주기마다 유저별 한 문장으로 반영한다
+ * 누적기는 uuid 해시로 나눈 STRIPES 개 락으로 보호하고, 반영할 때 stripe 의 map 을 통째로 바꿔서 증가량이 사라지지 않게 한다
+ * DB 에 반영된 증가량은 TcgTradeUserCountedEvent 로 알린다 (유저 요약 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TcgTradeUserCounter {
+
+    public static final int STRIPES = 16;
+    public static final int HOT_THRESHOLD = 5;
+
+    private final TcgTradeUserCounterService tcgTradeUserCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Stripe[] stripes = createStripes();
+    // 이번 반영 주기 동안 유저별 변경 횟수, 반영할 때 새 map 으로 바꾼다
+    private volatile Map<String, LongAdder> windowCounts = new ConcurrentHashMap<>();
+
+    private final LongAdder directUpserts = new LongAdder();
+    private final LongAdder deferredIncrements = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedUsers = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    /**
+     * 카운터 증가
+     * 트랜잭션 안에서 호출하면 바로 반영분은 그 트랜잭션과 함께 커밋되고, 모아두는 증가량은 커밋된 뒤에만 누적기에 들어간다
+     */
+    public void add(String uuid, TcgTradeUserDelta delta) {
+        if (delta.isZero()) return;
+
+        LongAdder count = windowCounts.computeIfAbsent(uuid, key -> new LongAdder());
+        count.increment();
+        if (count.sum() <= HOT_THRESHOLD) {
+            tcgTradeUserCounterService.apply(uuid, delta);
+            eventPublisher.publishEvent(new TcgTradeUserCountedEvent(uuid, delta));
+            directUpserts.increment();
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(uuid, delta);
+                }
+            });
+        } else {
+            accumulate(uuid, delta);
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 증가량, 조회 응답에 더해서 보여준다
+     */
+    public TcgTradeUserDelta pending(String uuid) {
+        Stripe stripe = stripeOf(uuid);
+        synchronized (stripe) {
+            return stripe.deltas.getOrDefault(uuid, TcgTradeUserDelta.ZERO);
+        }
+    }
+
+    /**
+     * 주기적으로 모아둔 증가량 반영 (tcg-trade-user.counter-flush-millis 로 변경)
+     */
+    @Scheduled(fixedDelayString = "${tcg-trade-user.counter-flush-millis:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 모아둔 증가량을 유저별로 합쳐서 반영, 실패하면 다시 누적기에 넣어 다음 주기에 반영한다
+     *
+     * @return 반영한 유저 수
+     */
+    public synchronized int flush() {
+        windowCounts = new ConcurrentHashMap<>();
+
+        Map<String, TcgTradeUserDelta> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<String, TcgTradeUserDelta> deltas;
+            synchronized (stripe) {
+                if (stripe.deltas.isEmpty()) continue;
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            drained.putAll(deltas);
+        }
+        if (drained.isEmpty()) return 0;
+
+        try {
+            tcgTradeUserCounterService.applyAll(drained);
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("거래 유저 카운터 반영 실패, 다음 주기에 다시 반영 users = {}", drained.size(), e);
+            drained.forEach(this::restore);
+            return 0;
+        }
+        drained.forEach((uuid, delta) -> eventPublisher.publishEvent(new TcgTradeUserCountedEvent(uuid, delta)));
+        flushes.increment();
+        flushedUsers.add(drained.size());
+        return drained.size();
+    }
+
+    public TcgTradeUserCounterStatsDto getStats() {
+        int pendingUsers = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                pendingUsers += stripe.deltas.size();
+            }
+        }
+        return new TcgTradeUserCounterStatsDto(directUpserts.sum(), deferredIncrements.sum(), flushes.sum(),
+                flushedUsers.sum(), flushFailures.sum(), pendingUsers);
+    }
+
+    private void accumulate(String uuid, TcgTradeUserDelta delta) {
+        restore(uuid, delta);
+        deferredIncrements.increment();
+    }
+
+    private void restore(String uuid, TcgTradeUserDelta delta) {
+        Stripe stripe = stripeOf(uuid);
+        synchronized (stripe) {
+            stripe.deltas.merge(uuid, delta, TcgTradeUserDelta::plus);
+        }
+    }
+
+    private Stripe stripeOf(String uuid) {
+        return stripes[(uuid.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static Stripe[] createStripes() {
+        Stripe[] stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+        private Map<String, TcgTradeUserDelta> deltas = new HashMap<>();
+    }
+}
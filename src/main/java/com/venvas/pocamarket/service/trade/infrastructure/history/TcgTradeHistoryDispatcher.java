@@ -0,0 +1,248 @@
+package com.venvas.pocamarket.service.trade.infrastructure.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeHistoryStatsDto;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeHistoryService;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeHistoryEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 교환 히스토리 비동기 저장
+ * 커밋된 히스토리 이벤트를 bounded 큐에 담고, 백그라운드 스레드가 쌓인 만큼 (최대 BATCH_SIZE) 모아서 한번에 저장한다
+ * 큐가 가득 차면 OFFER_TIMEOUT_MILLIS 만큼 기다린 뒤 요청 스레드에서 바로 저장한다 (backpressure)
+ * 저장에 실패한 이벤트는 spool 파일에 JSON 한 줄씩 남기고, 애플리케이션 시작 시 (또는 관리자 요청 시) 다시 저장한다
+ */
+@Slf4j
+@Component
+public class TcgTradeHistoryDispatcher {
+
+    public static final int QUEUE_CAPACITY = 10_000;
+    public static final int BATCH_SIZE = 500;
+    private static final long OFFER_TIMEOUT_MILLIS = 50;
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final TcgTradeHistoryService tcgTradeHistoryService;
+    private final ObjectMapper objectMapper;
+    private final Path spoolPath;
+
+    private final BlockingQueue<TcgTradeHistoryEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Object spoolLock = new Object();
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder syncWrites = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder spooledRows = new LongAdder();
+    private final LongAdder replayedRows = new LongAdder();
+
+    public TcgTradeHistoryDispatcher(TcgTradeHistoryService tcgTradeHistoryService, ObjectMapper objectMapper,
+                                     @Value("${trade-history.spool-path:./logs/trade-history-spool.jsonl}") String spoolPath) {
+        this.tcgTradeHistoryService = tcgTradeHistoryService;
+        this.objectMapper = objectMapper;
+        this.spoolPath = Path.of(spoolPath);
+    }
+
+    /**
+     * 애플리케이션 시작 후 이전에 남은 spool 을 저장하고 백그라운드 저장 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        replaySpool();
+        if (flusher == null) {
+            flusher = new Thread(this::runFlusher, "trade-history-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+    }
+
+    /**
+     * 히스토리 커밋 후 큐에 적재, 트랜잭션 밖에서 발행된 이벤트도 받는다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHistory(TcgTradeHistoryEvent event) {
+        published.increment();
+        if (running && offer(event)) return;
+
+        syncWrites.increment();
+        write(List.of(event));
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트를 모두 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread;
+        synchronized (this) {
+            thread = flusher;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushAll();
+    }
+
+    /**
+     * spool 파일의 이벤트를 다시 저장, 실패한 나머지는 spool 에 다시 남긴다
+     *
+     * @return 저장한 행 수
+     */
+    public int replaySpool() {
+        List<TcgTradeHistoryEvent> events;
+        synchronized (spoolLock) {
+            if (!Files.exists(spoolPath)) return 0;
+
+            Path replaying = spoolPath.resolveSibling(spoolPath.getFileName() + ".replaying");
+            try {
+                Files.move(spoolPath, replaying, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                events = readSpool(replaying);
+                Files.delete(replaying);
+            } catch (IOException e) {
+                log.error("교환 히스토리 spool 읽기 실패 path = {}", spoolPath, e);
+                return 0;
+            }
+        }
+
+        int replayed = 0;
+        for (int from = 0; from < events.size(); from += BATCH_SIZE) {
+            List<TcgTradeHistoryEvent> batch = events.subList(from, Math.min(from + BATCH_SIZE, events.size()));
+            if (!write(batch)) continue;
+            replayed += batch.size();
+        }
+        replayedRows.add(replayed);
+        log.info("교환 히스토리 spool 재저장 완료 replayed = {}, total = {}", replayed, events.size());
+        return replayed;
+    }
+
+    public TcgTradeHistoryStatsDto getStats() {
+        return new TcgTradeHistoryStatsDto(published.sum(), queue.size(), QUEUE_CAPACITY, flushes.sum(),
+                flushedRows.sum(), syncWrites.sum(), failures.sum(), spooledRows.sum(), replayedRows.sum());
+    }
+
+    private boolean offer(TcgTradeHistoryEvent event) {
+        try {
+            return queue.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트가 들어오면 그동안 쌓인 이벤트까지 모아서 저장
+     * 저장하는 동안 들어온 이벤트는 다음 배치가 되므로 부하가 클수록 배치가 커진다
+     */
+    private void runFlusher() {
+        while (running) {
+            try {
+                TcgTradeHistoryEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                List<TcgTradeHistoryEvent> batch = new ArrayList<>(BATCH_SIZE);
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    private void flushAll() {
+        List<TcgTradeHistoryEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            flush(batch);
+            batch = new ArrayList<>(BATCH_SIZE);
+        }
+    }
+
+    private void flush(List<TcgTradeHistoryEvent> batch) {
+        if (write(batch)) {
+            flushes.increment();
+            flushedRows.add(batch.size());
+        }
+    }
+
+    /**
+     * 저장, 실패하면 spool 파일에 남긴다
+     *
+     * @return 저장 성공 여부
+     */
+    private boolean write(List<TcgTradeHistoryEvent> events) {
+        try {
+            tcgTradeHistoryService.saveAll(events);
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("교환 히스토리 저장 실패, spool 에 보관 size = {}", events.size(), e);
+            spool(events);
+            return false;
+        }
+    }
+
+    private void spool(List<TcgTradeHistoryEvent> events) {
+        List<String> lines = new ArrayList<>(events.size());
+        for (TcgTradeHistoryEvent event : events) {
+            try {
+                lines.add(objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                log.error("교환 히스토리 spool 직렬화 실패 event = {}", event, e);
+            }
+        }
+
+        synchronized (spoolLock) {
+            try {
+                Path parent = spoolPath.toAbsolutePath().getParent();
+                if (parent != null) Files.createDirectories(parent);
+                Files.write(spoolPath, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+                spooledRows.add(lines.size());
+            } catch (IOException e) {
+                // 마지막 수단, 로그에라도 남긴다
+                log.error("교환 히스토리 spool 쓰기 실패 path = {}, events = {}", spoolPath, lines, e);
+            }
+        }
+    }
+
+    private List<TcgTradeHistoryEvent> readSpool(Path path) throws IOException {
+        List<TcgTradeHistoryEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) continue;
+            try {
+                events.add(objectMapper.readValue(line, TcgTradeHistoryEvent.class));
+            } catch (JsonProcessingException e) {
+                log.error("교환 히스토리 spool 해석 실패 line = {}", line, e);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,251 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCardIndexDto;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeCardCodeStatus;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeChangedEvent;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카드 코드 -> 교환글 인메모리 역색인
+ * 내 카드 / 원하는 카드 검색을 EXISTS 서브쿼리 대신 posting 병합으로 처리하고, DB 에서는 한 페이지의 교환글만 조회한다
+ * 삭제되지 않은 교환글만 보관하며, 교환글이 바뀌면 (TcgTradeChangedEvent) 커밋 후 해당 교환글만 다시 읽는다
+ * 교환글 매칭 결과도 교환글별로 보관하고, 교환글이 바뀌면 그 교환글과 카드가 이어진 교환글의 결과만 지운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TcgTradeCardIndex {
+
+    // 전체 상태 검색 (TcgTradeRepositoryImpl.statusEq 와 같은 값)
+    private static final int ALL_STATUS = 99;
+
+    private final TcgTradeRepository tcgTradeRepository;
+
+    // 조회는 read lock, 변경은 write lock. 적재/갱신 간 순서는 this 로 동기화
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TradeCardPostings postings = new TradeCardPostings();
+    private volatile boolean loaded = false;
+
+    // tradeId -> 매칭 결과, 조회 시 계산 (read lock 안에서만 채우고 write lock 안에서 지운다)
+    private final Map<Long, TradeMatches> matchCache = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 후 색인 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 교환글 변경 커밋 후 해당 교환글만 갱신
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTradeChanged(TcgTradeChangedEvent event) {
+        refresh(event.tradeId());
+    }
+
+    /**
+     * DB 에서 삭제되지 않은 전체 교환글을 읽어 색인 교체
+     */
+    public synchronized void reload() {
+        List<TcgTradeCardIndexDto> rows = tcgTradeRepository.findCardIndexRows(null);
+
+        TradeCardPostings next = new TradeCardPostings();
+        for (TradeCardEntry entry : toEntries(rows)) {
+            next.put(entry);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = next;
+            matchCache.clear();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("교환글 카드 색인 적재 완료 size = {}", next.size());
+    }
+
+    /**
+     * 교환글 하나를 DB 에서 다시 읽어 갱신, 삭제 됐으면 색인에서 제거
+     */
+    public synchronized void refresh(Long tradeId) {
+        if (tradeId == null) return;
+
+        List<TradeCardEntry> entries = toEntries(tcgTradeRepository.findCardIndexRows(tradeId));
+
+        lock.writeLock().lock();
+        try {
+            TradeCardEntry previous = postings.get(tradeId);
+            if (previous != null) evictMatches(previous);
+
+            if (entries.isEmpty() || entries.get(0).status() == TradeStatus.DELETED.getCode()) {
+                postings.remove(tradeId);
+            } else {
+                postings.put(entries.get(0));
+                evictMatches(entries.get(0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 색인으로 처리할 수 있는 상태 조건인지
+     * 삭제된 교환글은 색인에 없으므로 관리자 전체 검색, 삭제 상태 검색, 잘못된 상태 값은 DB 조회로 처리
+     */
+    public boolean supports(Integer status, boolean isAdmin) {
+        if (!loaded) return false;
+        if (status == null || status == ALL_STATUS) return !isAdmin;
+        return TradeStatus.fromCode(status) != null && !Objects.equals(status, TradeStatus.DELETED.getCode());
+    }
+
+    /**
+     * 카드 조건에 맞는 교환글 ID 페이지와 전체 수
+     *
+     * @param myCardCode 내 카드로 올린 카드 코드
+     * @param wantCardCodes 원하는 카드로 올린 카드 코드
+     * @param status 교환글 상태, null 또는 99 면 전체
+     * @param ownerUuid 작성자 UUID, null 이면 전체
+     * @param isAsc sortedAt 오름차순 여부
+     */
+    public TcgTradeIdPage searchPage(String myCardCode, List<String> wantCardCodes, Integer status, String ownerUuid,
+                                     boolean isAsc, long offset, int limit) {
+        List<Long> tradeIds = new ArrayList<>(limit);
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            Iterator<TradeCardEntry> iterator = postings.union(myCardCode, wantCardCodes, isAsc, null);
+            while (iterator.hasNext()) {
+                TradeCardEntry entry = iterator.next();
+                if (!matches(entry, status, ownerUuid)) continue;
+
+                if (total >= offset && tradeIds.size() < limit) tradeIds.add(entry.tradeId());
+                total++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new TcgTradeIdPage(tradeIds, total, total > offset + tradeIds.size());
+    }
+
+    /**
+     * 커서 다음 위치부터 카드 조건에 맞는 교환글 ID, 전체 수는 세지 않는다
+     *
+     * @param after 마지막으로 받은 교환글 위치, null 이면 처음부터
+     */
+    public TcgTradeIdPage searchCursor(String myCardCode, List<String> wantCardCodes, Integer status, String ownerUuid,
+                                       boolean isAsc, TcgTradeCursor after, int limit) {
+        List<Long> tradeIds = new ArrayList<>(limit);
+        boolean hasNext = false;
+
+        lock.readLock().lock();
+        try {
+            Iterator<TradeCardEntry> iterator = postings.union(myCardCode, wantCardCodes, isAsc, after);
+            while (iterator.hasNext()) {
+                TradeCardEntry entry = iterator.next();
+                if (!matches(entry, status, ownerUuid)) continue;
+
+                if (tradeIds.size() == limit) {
+                    hasNext = true;
+                    break;
+                }
+                tradeIds.add(entry.tradeId());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new TcgTradeIdPage(tradeIds, -1, hasNext);
+    }
+
+    /**
+     * 교환글 매칭 결과 (1:1 교환, 3자 교환)
+     * @return 색인에 없는 교환글 (삭제, 없는 ID) 이면 empty
+     */
+    public Optional<TradeMatches> getMatches(Long tradeId) {
+        lock.readLock().lock();
+        try {
+            TradeCardEntry trade = postings.get(tradeId);
+            if (trade == null) return Optional.empty();
+            return Optional.of(matchCache.computeIfAbsent(tradeId, id -> TradeMatcher.match(postings, trade)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 교환글이 포함될 수 있는 매칭 결과 삭제
+     * 이 교환글의 내 카드를 원하는 교환글 (내가 주는 쪽), 이 교환글이 원하는 카드를 가진 교환글 (내가 받는 쪽)
+     */
+    private void evictMatches(TradeCardEntry entry) {
+        matchCache.remove(entry.tradeId());
+        if (entry.myCardCode() != null) {
+            postings.want(entry.myCardCode()).forEach(trade -> matchCache.remove(trade.tradeId()));
+        }
+        for (String wantCardCode : entry.wantCardCodes()) {
+            postings.my(wantCardCode).forEach(trade -> matchCache.remove(trade.tradeId()));
+        }
+    }
+
+    private boolean matches(TradeCardEntry entry, Integer status, String ownerUuid) {
+        if (status != null && status != ALL_STATUS && entry.status() != status) return false;
+        return ownerUuid == null || ownerUuid.isBlank() || ownerUuid.trim().equals(entry.uuid());
+    }
+
+    /**
+     * tradeId 순으로 정렬된 카드 행을 교환글 단위로 묶는다
+     */
+    private static List<TradeCardEntry> toEntries(List<TcgTradeCardIndexDto> rows) {
+        List<TradeCardEntry> entries = new ArrayList<>();
+
+        int i = 0;
+        while (i < rows.size()) {
+            TcgTradeCardIndexDto first = rows.get(i);
+            String myCardCode = null;
+            List<String> wantCardCodes = new ArrayList<>(3);
+
+            for (; i < rows.size() && Objects.equals(rows.get(i).getTradeId(), first.getTradeId()); i++) {
+                TcgTradeCardIndexDto row = rows.get(i);
+                if (Objects.equals(row.getType(), TradeCardCodeStatus.MY.getCode())) {
+                    myCardCode = row.getCardCode();
+                } else if (Objects.equals(row.getType(), TradeCardCodeStatus.WANT.getCode())) {
+                    wantCardCodes.add(row.getCardCode());
+                }
+            }
+
+            int status = first.getStatus() == null ? TradeStatus.REQUEST.getCode() : first.getStatus();
+            LocalDateTime sortedAt = first.getSortedAt() == null ? LocalDateTime.MIN : first.getSortedAt();
+            entries.add(new TradeCardEntry(first.getTradeId(), first.getUuid(), status, sortedAt,
+                    myCardCode, List.copyOf(wantCardCodes)));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,13 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import java.util.List;
+
+/**
+ * 카드 코드 색인 조회 결과
+ *
+ * @param tradeIds 페이지에 해당하는 교환글 ID (정렬 순서)
+ * @param total 조건에 맞는 전체 교환글 수, 커서 조회에서는 -1
+ * @param hasNext 다음 페이지 여부
+ */
+public record TcgTradeIdPage(List<Long> tradeIds, long total, boolean hasNext) {
+}
@@ -0,0 +1,24 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카드 코드 색인에 올라간 교환글
+ *
+ * @param tradeId 교환글 ID
+ * @param uuid 작성자 UUID
+ * @param status 교환글 상태 (TradeStatus)
+ * @param sortedAt 정렬 기준 시간
+ * @param myCardCode 내 카드 코드
+ * @param wantCardCodes 원하는 카드 코드 목록
+ */
+public record TradeCardEntry(
+        Long tradeId,
+        String uuid,
+        int status,
+        LocalDateTime sortedAt,
+        String myCardCode,
+        List<String> wantCardCodes
+) {
+}
@@ -0,0 +1,147 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
+
+import java.util.*;
+
+/**
+ * 카드 코드 -> 교환글 역색인
+ * 내 카드(MY), 원하는 카드(WANT) 별로 카드 코드마다 교환글을 sortedAt desc, tradeId desc 순으로 보관한다
+ * 동기화는 하지 않으므로 TcgTradeCardIndex 에서 락을 잡고 사용
+ */
+final class TradeCardPostings {
+
+    /** sortedAt desc, tradeId desc */
+    static final Comparator<TradeCardEntry> ORDER = Comparator.comparing(TradeCardEntry::sortedAt)
+            .thenComparing(TradeCardEntry::tradeId)
+            .reversed();
+
+    private final Map<Long, TradeCardEntry> trades = new HashMap<>();
+    private final Map<String, TreeSet<TradeCardEntry>> myPostings = new HashMap<>();
+    private final Map<String, TreeSet<TradeCardEntry>> wantPostings = new HashMap<>();
+
+    int size() {
+        return trades.size();
+    }
+
+    TradeCardEntry get(Long tradeId) {
+        return trades.get(tradeId);
+    }
+
+    /**
+     * 교환글 추가, 같은 ID 가 있으면 교체
+     */
+    void put(TradeCardEntry entry) {
+        remove(entry.tradeId());
+        trades.put(entry.tradeId(), entry);
+        if (entry.myCardCode() != null) {
+            myPostings.computeIfAbsent(entry.myCardCode(), k -> new TreeSet<>(ORDER)).add(entry);
+        }
+        for (String wantCardCode : entry.wantCardCodes()) {
+            wantPostings.computeIfAbsent(wantCardCode, k -> new TreeSet<>(ORDER)).add(entry);
+        }
+    }
+
+    void remove(Long tradeId) {
+        TradeCardEntry entry = trades.remove(tradeId);
+        if (entry == null) return;
+
+        if (entry.myCardCode() != null) {
+            removePosting(myPostings, entry.myCardCode(), entry);
+        }
+        for (String wantCardCode : entry.wantCardCodes()) {
+            removePosting(wantPostings, wantCardCode, entry);
+        }
+    }
+
+    /**
+     * 이 카드를 내 카드로 올린 교환글
+     */
+    NavigableSet<TradeCardEntry> my(String cardCode) {
+        TreeSet<TradeCardEntry> posting = myPostings.get(cardCode);
+        return posting == null ? Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet(posting);
+    }
+
+    /**
+     * 이 카드를 원하는 카드로 올린 교환글
+     */
+    NavigableSet<TradeCardEntry> want(String cardCode) {
+        TreeSet<TradeCardEntry> posting = wantPostings.get(cardCode);
+        return posting == null ? Collections.emptyNavigableSet() : Collections.unmodifiableNavigableSet(posting);
+    }
+
+    /**
+     * 내 카드가 myCardCode 이거나 원하는 카드에 wantCardCodes 중 하나가 있는 교환글 (OR 조건)
+     * posting 들을 정렬 순서대로 병합하며 같은 교환글은 한번만 반환
+     *
+     * @param isAsc true 면 sortedAt asc, tradeId asc
+     * @param after 이 위치 다음부터 (null 이면 처음부터)
+     */
+    Iterator<TradeCardEntry> union(String myCardCode, List<String> wantCardCodes, boolean isAsc, TcgTradeCursor after) {
+        List<NavigableSet<TradeCardEntry>> postings = new ArrayList<>();
+        if (myCardCode != null) postings.add(my(myCardCode));
+        if (wantCardCodes != null) {
+            for (String wantCardCode : wantCardCodes) postings.add(want(wantCardCode));
+        }
+
+        TradeCardEntry afterEntry = after == null ? null
+                : new TradeCardEntry(after.tradeId(), null, 0, after.sortedAt(), null, List.of());
+
+        List<Iterator<TradeCardEntry>> iterators = new ArrayList<>(postings.size());
+        for (NavigableSet<TradeCardEntry> posting : postings) {
+            NavigableSet<TradeCardEntry> ordered = isAsc ? posting.descendingSet() : posting;
+            if (afterEntry != null) ordered = ordered.tailSet(afterEntry, false);
+            if (!ordered.isEmpty()) iterators.add(ordered.iterator());
+        }
+        return new MergeIterator(iterators, isAsc ? ORDER.reversed() : ORDER);
+    }
+
+    private static void removePosting(Map<String, TreeSet<TradeCardEntry>> postings, String cardCode, TradeCardEntry entry) {
+        TreeSet<TradeCardEntry> posting = postings.get(cardCode);
+        if (posting == null) return;
+        posting.remove(entry);
+        if (posting.isEmpty()) postings.remove(cardCode);
+    }
+
+    /**
+     * 정렬된 posting 병합, posting 수가 많지 않아 (내 카드 1 + 원하는 카드 최대 3) 매번 선형으로 최소값을 찾는다
+     */
+    private static final class MergeIterator implements Iterator<TradeCardEntry> {
+        private final List<Iterator<TradeCardEntry>> iterators;
+        private final TradeCardEntry[] heads;
+        private final Comparator<TradeCardEntry> order;
+
+        MergeIterator(List<Iterator<TradeCardEntry>> iterators, Comparator<TradeCardEntry> order) {
+            this.iterators = iterators;
+            this.heads = new TradeCardEntry[iterators.size()];
+            this.order = order;
+            for (int i = 0; i < heads.length; i++) heads[i] = iterators.get(i).next();
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (TradeCardEntry head : heads) {
+                if (head != null) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public TradeCardEntry next() {
+            TradeCardEntry min = null;
+            for (TradeCardEntry head : heads) {
+                if (head != null && (min == null || order.compare(head, min) < 0)) min = head;
+            }
+            if (min == null) throw new NoSuchElementException();
+
+            // 같은 교환글이 여러 posting 에 있으면 모두 넘긴다
+            for (int i = 0; i < heads.length; i++) {
+                if (heads[i] != null && heads[i].tradeId().equals(min.tradeId())) {
+                    Iterator<TradeCardEntry> iterator = iterators.get(i);
+                    heads[i] = iterator.hasNext() ? iterator.next() : null;
+                }
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카드 코드 역색인으로 교환글 매칭 계산
+ * 1:1 교환은 원하는 카드의 MY posting 에서 내 카드를 원하는 교환글을, 3자 교환은 한 단계 더 따라가서 찾는다
+ * 인기 카드는 posting 이 길어질 수 있어 확인하는 교환글 수에 상한을 둔다
+ */
+final class TradeMatcher {
+
+    static final int MAX_DIRECT_SIZE = 30;
+    static final int MAX_CYCLE_SIZE = 10;
+    static final int MAX_SCAN_SIZE = 10_000;
+
+    private TradeMatcher() {
+    }
+
+    /**
+     * 교환 가능한 (REQUEST, SELECT 상태) 교환글 중에서 매칭, 같은 작성자의 교환글은 제외
+     * 결과는 sortedAt desc 순 (posting 순서)
+     */
+    static TradeMatches match(TradeCardPostings postings, TradeCardEntry trade) {
+        if (!isOpen(trade) || trade.myCardCode() == null) return TradeMatches.EMPTY;
+
+        List<Long> direct = new ArrayList<>();
+        List<TradeMatches.Cycle> cycles = new ArrayList<>();
+        int scanned = 0;
+
+        for (String wantCardCode : trade.wantCardCodes()) {
+            for (TradeCardEntry giver : postings.my(wantCardCode)) {
+                if (++scanned > MAX_SCAN_SIZE) break;
+                if (!isOpen(giver) || giver.uuid().equals(trade.uuid())) continue;
+
+                // 1:1 교환
+                if (direct.size() < MAX_DIRECT_SIZE && giver.wantCardCodes().contains(trade.myCardCode())) {
+                    direct.add(giver.tradeId());
+                }
+
+                // 3자 교환: giver 가 원하는 카드를 갖고 있고 내 카드를 원하는 교환글
+                for (String giverWantCardCode : giver.wantCardCodes()) {
+                    if (cycles.size() >= MAX_CYCLE_SIZE || giverWantCardCode.equals(trade.myCardCode())) continue;
+
+                    for (TradeCardEntry receiver : postings.my(giverWantCardCode)) {
+                        if (++scanned > MAX_SCAN_SIZE || cycles.size() >= MAX_CYCLE_SIZE) break;
+                        if (!isOpen(receiver) || receiver.uuid().equals(trade.uuid()) || receiver.uuid().equals(giver.uuid())) continue;
+
+                        if (receiver.wantCardCodes().contains(trade.myCardCode())) {
+                            cycles.add(new TradeMatches.Cycle(giver.tradeId(), receiver.tradeId()));
+                        }
+                    }
+                }
+            }
+        }
+
+        // 원하는 카드별로 모았으므로 교환글 순서로 다시 정렬
+        direct.sort((a, b) -> TradeCardPostings.ORDER.compare(postings.get(a), postings.get(b)));
+        return new TradeMatches(List.copyOf(direct), List.copyOf(cycles));
+    }
+
+    private static boolean isOpen(TradeCardEntry entry) {
+        return entry.status() == TradeStatus.REQUEST.getCode() || entry.status() == TradeStatus.SELECT.getCode();
+    }
+}
@@ -0,0 +1,23 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import java.util.List;
+
+/**
+ * 교환글 매칭 결과
+ *
+ * @param directTradeIds 내가 원하는 카드를 갖고 있고 내 카드를 원하는 교환글 (1:1 교환)
+ * @param cycles 3자 교환
+ */
+public record TradeMatches(List<Long> directTradeIds, List<Cycle> cycles) {
+
+    public static final TradeMatches EMPTY = new TradeMatches(List.of(), List.of());
+
+    /**
+     * 3자 교환, 나 -> receiver -> giver -> 나 순서로 카드가 이동
+     *
+     * @param giverTradeId 내가 원하는 카드를 갖고 있고, receiver 의 카드를 원하는 교환글
+     * @param receiverTradeId 내 카드를 원하고, giver 가 원하는 카드를 갖고 있는 교환글
+     */
+    public record Cycle(Long giverTradeId, Long receiverTradeId) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.venvas.pocamarket.service.trade.infrastructure.leaderboard;
+
+import java.util.Comparator;
+
+/**
+ * 리더보드 항목
+ *
+ * @param uuid 유저 UUID
+ * @param exp 경험치 (거래점수)
+ * @param tradeCount 거래 성사 횟수
+ */
+public record LeaderboardEntry(String uuid, int exp, int tradeCount) {
+
+    /** exp desc, tradeCount desc, uuid asc */
+    static final Comparator<LeaderboardEntry> ORDER = Comparator.comparingInt(LeaderboardEntry::exp).reversed()
+            .thenComparing(Comparator.comparingInt(LeaderboardEntry::tradeCount).reversed())
+            .thenComparing(LeaderboardEntry::uuid);
+
+    LeaderboardEntry plus(int expDelta, int tradeCountDelta) {
+        return new LeaderboardEntry(uuid, exp + expDelta, tradeCount + tradeCountDelta);
+    }
+}
@@ -0,0 +1,10 @@
+package com.venvas.pocamarket.service.trade.infrastructure.leaderboard;
+
+/**
+ * 순위가 붙은 리더보드 항목
+ *
+ * @param rank 1 부터 시작하는 순위
+ * @param entry 리더보드 항목
+ */
+public record RankedLeaderboardEntry(int rank, LeaderboardEntry entry) {
+}
@@ -0,0 +1,162 @@
+package com.venvas.pocamarket.service.trade.infrastructure.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 조회용 treap (서브트리 크기를 보관하는 order-statistic 트리)
+ * 추가, 삭제, 순위 (rank), n 번째 값 (range) 모두 기대 O(log n), range 는 O(log n + 개수)
+ * 같은 값은 comparator 로 구분되어야 하고 (leaderboard 는 uuid 로 구분), 동기화는 하지 않으므로 TcgTradeLeaderboard 에서 락을 잡고 사용
+ */
+final class RankedTreap<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    RankedTreap(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void add(T value) {
+        root = add(root, new Node<>(value, random.nextInt()));
+    }
+
+    /**
+     * @return 있어서 지웠으면 true
+     */
+    boolean remove(T value) {
+        int before = size(root);
+        root = remove(root, value);
+        return size(root) < before;
+    }
+
+    /**
+     * 0 부터 시작하는 순위
+     *
+     * @return 없으면 -1
+     */
+    int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int compare = comparator.compare(value, node.value);
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 [from, to) 구간의 값
+     */
+    List<T> range(int from, int to) {
+        int start = Math.max(0, from);
+        int end = Math.min(to, size());
+        List<T> values = new ArrayList<>(Math.max(0, end - start));
+        if (start < end) collect(root, start, end, 0, values);
+        return values;
+    }
+
+    private void collect(Node<T> node, int from, int to, int offset, List<T> values) {
+        if (node == null) return;
+        int index = offset + size(node.left);
+        if (from < index) collect(node.left, from, to, offset, values);
+        if (from <= index && index < to) values.add(node.value);
+        if (index + 1 < to) collect(node.right, from, to, index + 1, values);
+    }
+
+    private Node<T> add(Node<T> node, Node<T> added) {
+        if (node == null) return added;
+        if (comparator.compare(added.value, node.value) < 0) {
+            node.left = add(node.left, added);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = add(node.right, added);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        if (node == null) return null;
+        int compare = comparator.compare(value, node.value);
+        if (compare < 0) {
+            node.left = remove(node.left, value);
+        } else if (compare > 0) {
+            node.right = remove(node.right, value);
+        } else {
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * left 의 모든 값이 right 보다 앞일 때 두 트리를 합친다
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        update(left);
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        update(right);
+        return right;
+    }
+
+    private static void update(Node<?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
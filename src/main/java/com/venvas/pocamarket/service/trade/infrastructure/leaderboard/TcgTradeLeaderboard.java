@@ -0,0 +1,154 @@
+package com.venvas.pocamarket.service.trade.infrastructure.leaderboard;
+
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeUserCountedEvent;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 거래 유저 리더보드 (exp desc, tradeCount desc)
+ * 유저별 항목을 RankedTreap 에 보관해서 상위 N 명, 유저 순위, 유저 주변 순위를 정렬 쿼리 없이 O(log n) 으로 조회한다
+ * 시작 시 tcg_trade_user 전체로 만들고, 보상 지급 등 카운터가 DB 에 반영되면 (TcgTradeUserCountedEvent) 해당 유저만 옮긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TcgTradeLeaderboard {
+
+    private final TcgTradeUserRepository tcgTradeUserRepository;
+
+    // 조회는 read lock, 변경은 write lock. 적재/갱신 간 순서는 this 로 동기화
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, LeaderboardEntry> entries = new HashMap<>();
+    private RankedTreap<LeaderboardEntry> ranking = new RankedTreap<>(LeaderboardEntry.ORDER);
+    private volatile boolean loaded = false;
+
+    /**
+     * 애플리케이션 시작 후 리더보드 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 카운터 반영 후 경험치, 거래 횟수가 바뀐 유저만 순위 이동
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounted(TcgTradeUserCountedEvent event) {
+        TcgTradeUserDelta delta = event.delta();
+        if (delta.exp() == 0 && delta.tradeCount() == 0) return;
+        update(event.uuid(), delta.exp(), delta.tradeCount());
+    }
+
+    /**
+     * DB 에서 전체 유저를 읽어 리더보드 교체
+     */
+    public synchronized void reload() {
+        Map<String, LeaderboardEntry> nextEntries = new HashMap<>();
+        RankedTreap<LeaderboardEntry> nextRanking = new RankedTreap<>(LeaderboardEntry.ORDER);
+        for (TcgTradeUser user : tcgTradeUserRepository.findAll()) {
+            LeaderboardEntry entry = new LeaderboardEntry(user.getUuid(), valueOf(user.getExp()), valueOf(user.getTradeCount()));
+            nextEntries.put(entry.uuid(), entry);
+            nextRanking.add(entry);
+        }
+
+        lock.writeLock().lock();
+        try {
+            entries = nextEntries;
+            ranking = nextRanking;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("거래 유저 리더보드 적재 완료 size = {}", nextEntries.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 size 명
+     */
+    public List<RankedLeaderboardEntry> top(int size) {
+        lock.readLock().lock();
+        try {
+            return ranked(0, ranking.range(0, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유저와 앞뒤 range 명
+     *
+     * @return 리더보드에 없는 유저면 empty
+     */
+    public Optional<List<RankedLeaderboardEntry>> around(String uuid, int range) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(uuid);
+            if (entry == null) return Optional.empty();
+
+            int rank = ranking.rank(entry);
+            int from = Math.max(0, rank - range);
+            return Optional.of(ranked(from, ranking.range(from, rank + range + 1)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized void update(String uuid, int expDelta, int tradeCountDelta) {
+        if (!loaded) return;
+
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry previous = entries.get(uuid);
+            LeaderboardEntry next = previous == null
+                    ? new LeaderboardEntry(uuid, expDelta, tradeCountDelta)
+                    : previous.plus(expDelta, tradeCountDelta);
+            if (previous != null) ranking.remove(previous);
+            ranking.add(next);
+            entries.put(uuid, next);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<RankedLeaderboardEntry> ranked(int from, List<LeaderboardEntry> values) {
+        List<RankedLeaderboardEntry> result = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            result.add(new RankedLeaderboardEntry(from + i + 1, values.get(i)));
+        }
+        return result;
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,59 @@
+package com.venvas.pocamarket.service.trade.infrastructure.summary;
+
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserSummaryStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저 교환 요약 대사 작업
+ * 증분 반영이 놓친 변경 (커밋 직후 종료, 일괄 상태 변경 등) 을 맞추기 위해 주기적으로 DB 에서 전체 요약을 다시 읽는다
+ * 값이 달랐던 유저 수 (drift) 를 기록해서 증분 반영이 맞는지 확인할 수 있게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TcgTradeUserSummaryReconcileJob {
+
+    private final TcgTradeUserSummaryStore tcgTradeUserSummaryStore;
+
+    private final LongAdder runs = new LongAdder();
+    private final AtomicLong lastDriftUsers = new AtomicLong();
+    private final AtomicLong lastReconcileMillis = new AtomicLong();
+
+    /**
+     * 10분마다 대사 (tcg-trade-user.summary-reconcile-cron 으로 변경)
+     */
+    @Scheduled(cron = "${tcg-trade-user.summary-reconcile-cron:0 */10 * * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 대사 실행
+     *
+     * @return 값이 달랐던 유저 수
+     */
+    public int reconcile() {
+        long start = System.nanoTime();
+        int drift = tcgTradeUserSummaryStore.reload();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        runs.increment();
+        lastDriftUsers.set(drift);
+        lastReconcileMillis.set(elapsedMillis);
+        if (drift > 0) {
+            log.warn("유저 교환 요약 대사 drift = {}, elapsed = {}ms", drift, elapsedMillis);
+        }
+        return drift;
+    }
+
+    public TcgTradeUserSummaryStatsDto getStats() {
+        return new TcgTradeUserSummaryStatsDto(tcgTradeUserSummaryStore.size(), tcgTradeUserSummaryStore.getHits(),
+                tcgTradeUserSummaryStore.getFallbacks(), runs.sum(), lastDriftUsers.get(), lastReconcileMillis.get());
+    }
+}
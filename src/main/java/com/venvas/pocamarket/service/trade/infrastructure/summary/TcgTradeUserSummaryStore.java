@@ -0,0 +1,164 @@
+package com.venvas.pocamarket.service.trade.infrastructure.summary;
+
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeStatusChangedEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeUserCountedEvent;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 유저별 교환 요약 인메모리 저장소
+ * 내 카드 교환 정보를 요청마다 집계하지 않고 uuid 하나로 조회한다
+ * 교환글, 교환 요청 상태 변경 (TcgTradeStatusChangedEvent) 과 카운터 반영 (TcgTradeUserCountedEvent) 을 커밋 후 증분 반영하고,
+ * 놓친 변경은 TcgTradeUserSummaryReconcileJob 이 주기적으로 전체를 다시 읽어 맞춘다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TcgTradeUserSummaryStore {
+
+    static final List<Integer> OPEN_TRADE_STATUSES = List.of(
+            TradeStatus.REQUEST.getCode(), TradeStatus.SELECT.getCode(), TradeStatus.PROCESS.getCode());
+    static final List<Integer> ACTIVE_REQUEST_STATUSES = List.of(
+            TcgTradeRequestStatus.REQUEST.getCode(), TcgTradeRequestStatus.PROCESS.getCode());
+
+    private final TcgTradeRepository tcgTradeRepository;
+    private final TcgTradeRequestRepository tcgTradeRequestRepository;
+    private final TcgTradeUserRepository tcgTradeUserRepository;
+
+    // 변경은 모두 this 로 동기화 (재적재 교체와 증분 반영 순서 보장), 조회는 락 없이
+    private volatile Map<String, TcgTradeUserSummary> summaries = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * 애플리케이션 시작 후 요약 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 교환글, 교환 요청 상태 변경 커밋 후 상태별 수 이동
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TcgTradeStatusChangedEvent event) {
+        if (event.target() == TcgTradeStatusChangedEvent.Target.TRADE) {
+            update(event.uuid(), summary -> summary.withTradeStatus(event.fromStatus(), event.toStatus()));
+        } else {
+            update(event.uuid(), summary -> summary.withRequestStatus(event.fromStatus(), event.toStatus()));
+        }
+    }
+
+    /**
+     * 카운터 증가량이 DB 에 반영된 후 더한다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounted(TcgTradeUserCountedEvent event) {
+        TcgTradeUserDelta delta = event.delta();
+        update(event.uuid(), summary -> summary.plus(delta));
+    }
+
+    /**
+     * DB 에서 전체 요약을 다시 읽어 교체
+     *
+     * @return 기존 요약과 값이 달랐던 유저 수 (처음 적재면 0)
+     */
+    @Transactional(readOnly = true)
+    public synchronized int reload() {
+        Map<String, TcgTradeUserSummary> next = new HashMap<>();
+        for (TcgTradeUser user : tcgTradeUserRepository.findAll()) {
+            next.put(user.getUuid(), TcgTradeUserSummary.EMPTY.plus(new TcgTradeUserDelta(
+                    valueOf(user.getTradeCount()), valueOf(user.getReportCount()),
+                    valueOf(user.getExp()), valueOf(user.getPoint()))));
+        }
+        for (TcgTradeUserStatusCountDto row : tcgTradeRepository.findUserStatusCounts(OPEN_TRADE_STATUSES)) {
+            next.compute(row.getUuid(), (uuid, summary) ->
+                    Objects.requireNonNullElse(summary, TcgTradeUserSummary.EMPTY).plusTrades(row.getStatus(), row.getCount().intValue()));
+        }
+        for (TcgTradeUserStatusCountDto row : tcgTradeRequestRepository.findUserStatusCounts(ACTIVE_REQUEST_STATUSES)) {
+            next.compute(row.getUuid(), (uuid, summary) ->
+                    Objects.requireNonNullElse(summary, TcgTradeUserSummary.EMPTY).plusRequests(row.getStatus(), row.getCount().intValue()));
+        }
+
+        int drift = 0;
+        if (loaded) {
+            for (Map.Entry<String, TcgTradeUserSummary> entry : next.entrySet()) {
+                if (!entry.getValue().equals(summaries.getOrDefault(entry.getKey(), TcgTradeUserSummary.EMPTY))) drift++;
+            }
+            for (Map.Entry<String, TcgTradeUserSummary> entry : summaries.entrySet()) {
+                if (!next.containsKey(entry.getKey()) && !entry.getValue().equals(TcgTradeUserSummary.EMPTY)) drift++;
+            }
+        }
+
+        summaries = new ConcurrentHashMap<>(next);
+        loaded = true;
+        log.info("유저 교환 요약 적재 완료 size = {}, drift = {}", next.size(), drift);
+        return drift;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 유저 요약 조회
+     *
+     * @return 적재 전이면 empty (호출한 쪽에서 DB 로 조회), 적재 후 없는 유저면 빈 요약
+     */
+    public Optional<TcgTradeUserSummary> get(String uuid) {
+        if (!loaded) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(summaries.getOrDefault(uuid, TcgTradeUserSummary.EMPTY));
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    private synchronized void update(String uuid, UnaryOperator<TcgTradeUserSummary> change) {
+        if (!loaded || uuid == null) return;
+        summaries.compute(uuid, (key, summary) -> change.apply(Objects.requireNonNullElse(summary, TcgTradeUserSummary.EMPTY)));
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.venvas.pocamarket.service.user.api.controller;
+
+import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.infrastructure.security.JwtTokenVerifier;
+import com.venvas.pocamarket.infrastructure.security.RateLimiter;
+import com.venvas.pocamarket.service.user.application.dto.JwtVerifyStatsDto;
+import com.venvas.pocamarket.service.user.application.dto.RateLimitStatsDto;
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenStatsDto;
+import com.venvas.pocamarket.service.user.infrastructure.token.RefreshTokenPurgeJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 관리자 컨트롤러
+ * 인증 토큰 검증 상태 확인 등 운영용 API
+ */
+@Tag(name = "User-Admin-API", description = "사용자 관리자 API")
+@RestController
+@RequestMapping("/admin/user")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final RefreshTokenPurgeJob refreshTokenPurgeJob;
+    private final RateLimiter rateLimiter;
+
+    @GetMapping("/jwt/stats")
+    @Operation(summary = "JWT 검증 통계", description = "JWT 검증 수, 검증 캐시 hit/miss 수와 적중률을 조회 API")
+    public ResponseEntity<ApiResponse<JwtVerifyStatsDto>> getJwtStats() {
+        return ResponseEntity.ok(ApiResponse.success(jwtTokenVerifier.getStats()));
+    }
+
+    @GetMapping("/refresh-token/stats")
+    @Operation(summary = "리프레시 토큰 통계", description = "리프레시 토큰 저장소 확인 수와 만료 토큰 정리 작업의 삭제 행 수, 소요 시간을 조회 API")
+    public ResponseEntity<ApiResponse<RefreshTokenStatsDto>> getRefreshTokenStats() {
+        return ResponseEntity.ok(ApiResponse.success(refreshTokenPurgeJob.getStats()));
+    }
+
+    @PostMapping("/refresh-token/purge")
+    @Operation(summary = "리프레시 토큰 정리", description = "폐기, 만료된 리프레시 토큰을 바로 정리하는 API")
+    public ResponseEntity<ApiResponse<Long>> purgeRefreshTokens() {
+        return ResponseEntity.ok(ApiResponse.success(refreshTokenPurgeJob.purge(), "리프레시 토큰 정리에 성공하였습니다."));
+    }
+
+    @GetMapping("/rate-limit/stats")
+    @Operation(summary = "요청 제한 통계", description = "경로별 허용, 차단(429) 요청 수와 보관 중인 버킷 수를 조회 API")
+    public ResponseEntity<ApiResponse<RateLimitStatsDto>> getRateLimitStats() {
+        return ResponseEntity.ok(ApiResponse.success(rateLimiter.getStats()));
+    }
+}
@@ -1,13 +1,16 @@
 package com.venvas.pocamarket.service.user.api.controller;
 
 import com.venvas.pocamarket.common.util.ApiResponse;
+import com.venvas.pocamarket.infrastructure.security.JwtPrincipal;
+import com.venvas.pocamarket.infrastructure.security.JwtTokenVerifier;
+import com.venvas.pocamarket.infrastructure.security.JwtVerification;
 import com.venvas.pocamarket.infrastructure.util.CookieUtil;
 import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
 import com.venvas.pocamarket.service.user.application.dto.*;
 import com.venvas.pocamarket.service.user.application.service.UserService;
 import com.venvas.pocamarket.service.user.domain.entity.User;
 import com.venvas.pocamarket.service.user.domain.enums.UserGrade;
-import com.venvas.pocamarket.service.user.domain.exception.JwtErrorCode;
+import com.venvas.pocamarket.service.user.infrastructure.token.RefreshTokenStore;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -37,6 +40,8 @@ import java.util.Map;
 public class UserController {
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 새로운 사용자 생성
@@ -98,11 +103,13 @@ public class UserController {
         log.info("======= reissue 엑세스 토큰 재발급 ==================================================");
         String refreshToken = request.get("refreshToken");
         log.info("refreshToken = {}", refreshToken);
-        JwtErrorCode refreshTokenErrorCode = jwtTokenProvider.validateToken(refreshToken);
-        log.info("refreshTokenErrorCode = {}", refreshTokenErrorCode);
-        if (refreshTokenErrorCode == null) {
-            String accessToken = jwtTokenProvider.createAccessToken(jwtTokenProvider.getUuid(refreshToken),
-                    jwtTokenProvider.getGrade(refreshToken));
+        JwtVerification verification = jwtTokenVerifier.verify(refreshToken);
+        log.info("refreshTokenErrorCode = {}", verification.errorCode());
+        // 서명이 맞아도 폐기(재로그인으로 교체)된 리프레쉬 토큰이면 재발급하지 않는다
+        if (verification.isValid()
+                && refreshTokenStore.isActive(verification.principal().uuid(), refreshToken)) {
+            JwtPrincipal principal = verification.principal();
+            String accessToken = jwtTokenProvider.createAccessToken(principal.uuid(), principal.grade());
             ResponseCookie accessTokenCookie = CookieUtil.createResponseCookie(JwtTokenProvider.ACCESS_TOKEN_NAME,
                     accessToken,
                     (int) (jwtTokenProvider.getJwtProperties().getAccessTokenValidityInMs() / 1000), true, true);
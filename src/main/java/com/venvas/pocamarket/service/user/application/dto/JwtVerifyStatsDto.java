@@ -0,0 +1,24 @@
+package com.venvas.pocamarket.service.user.application.dto;
+
+/**
+ * JWT 검증 통계
+ * 수집 시스템에서 verifications 증가량으로 검증 rate 를, hits / verifications 로 캐시 적중률을 계산한다
+ *
+ * @param verifications 검증 요청 수
+ * @param hits 검증 캐시 적중 수
+ * @param misses 캐시 미스 수 (서명 검증 수)
+ * @param failures 검증 실패 수 (서명 오류, 만료, 클레임 누락)
+ * @param hitRatio 캐시 적중률 (hits / verifications)
+ * @param size 현재 보관 중인 토큰 수
+ * @param maxSize 최대 보관 토큰 수
+ */
+public record JwtVerifyStatsDto(
+        long verifications,
+        long hits,
+        long misses,
+        long failures,
+        double hitRatio,
+        int size,
+        int maxSize
+) {
+}
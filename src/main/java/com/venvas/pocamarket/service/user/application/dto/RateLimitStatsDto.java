@@ -0,0 +1,26 @@
+package com.venvas.pocamarket.service.user.application.dto;
+
+import java.util.Map;
+
+/**
+ * 요청 제한 통계
+ * 수집 시스템에서 경로별 rejected 증가량으로 차단 rate 를 계산한다
+ *
+ * @param routes 정책 (경로) 별 허용, 차단 수
+ * @param buckets 현재 보관 중인 버킷 수
+ * @param evictions 오래 쓰지 않아 정리한 버킷 수
+ */
+public record RateLimitStatsDto(
+        Map<String, Route> routes,
+        int buckets,
+        long evictions
+) {
+
+    /**
+     * @param allowed 허용한 요청 수
+     * @param rejected 차단한 요청 수 (429)
+     * @param refunded 실패한 요청이라 토큰을 돌려준 수
+     */
+    public record Route(long allowed, long rejected, long refunded) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.venvas.pocamarket.service.user.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소 적재용 유효 토큰 행
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRowDto {
+
+    private String uuid;
+
+    private String token;
+
+    private LocalDateTime issuedAt;
+
+    private LocalDateTime expiresAt;
+}
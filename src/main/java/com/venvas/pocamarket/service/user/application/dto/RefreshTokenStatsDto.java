@@ -0,0 +1,27 @@
+package com.venvas.pocamarket.service.user.application.dto;
+
+/**
+ * 리프레시 토큰 저장소 / 정리 작업 통계
+ *
+ * @param activeTokens 메모리에 보관 중인 유효 토큰 수 (사용자 수)
+ * @param hits 메모리에서 바로 확인한 재발급 요청 수
+ * @param dbLookups 메모리에 없어서 DB 로 확인한 수
+ * @param rejected 만료, 폐기, 없는 토큰으로 거절한 수
+ * @param purgeRuns 정리 작업 실행 수
+ * @param purgedRows 정리 작업으로 삭제한 전체 행 수
+ * @param lastPurgedRows 마지막 정리 작업에서 삭제한 행 수
+ * @param lastPurgeMillis 마지막 정리 작업 소요 시간 (ms)
+ * @param maxPurgeMillis 가장 오래 걸린 정리 작업 소요 시간 (ms)
+ */
+public record RefreshTokenStatsDto(
+        int activeTokens,
+        long hits,
+        long dbLookups,
+        long rejected,
+        long purgeRuns,
+        long purgedRows,
+        long lastPurgedRows,
+        long lastPurgeMillis,
+        long maxPurgeMillis
+) {
+}
@@ -1,7 +1,6 @@
 package com.venvas.pocamarket.service.user.application.service;
 
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,16 +21,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.venvas.pocamarket.infrastructure.security.oauth2.CustomOAuth2UserService;
 import com.venvas.pocamarket.infrastructure.util.CookieUtil;
+import com.venvas.pocamarket.infrastructure.util.IssuedToken;
 import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
 import com.venvas.pocamarket.service.user.application.dto.OAuth2UserInfoDto;
 import com.venvas.pocamarket.service.user.application.dto.SocialLoginResponse;
-import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
 import com.venvas.pocamarket.service.user.domain.entity.SocialUser;
 import com.venvas.pocamarket.service.user.domain.entity.User;
 import com.venvas.pocamarket.service.user.domain.enums.UserGrade;
 import com.venvas.pocamarket.service.user.domain.exception.UserErrorCode;
 import com.venvas.pocamarket.service.user.domain.exception.UserException;
-import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
 import com.venvas.pocamarket.service.user.domain.repository.SocialUserRepository;
 import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 
@@ -50,7 +48,7 @@ public class GoogleOAuth2Service implements OAuth2UserService {
 
     private final UserRepository userRepository;
     private final SocialUserRepository socialUserRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
@@ -245,10 +243,11 @@ public class GoogleOAuth2Service implements OAuth2UserService {
 
             // JWT 토큰 생성
             String accessToken = jwtTokenProvider.createAccessToken(user.getUuid(), user.getGrade().name());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getUuid(), user.getGrade().name());
+            IssuedToken issuedRefreshToken = jwtTokenProvider.issueRefreshToken(user.getUuid(), user.getGrade().name());
+            String refreshToken = issuedRefreshToken.token();
 
             // 리프레시 토큰 저장
-            saveRefreshToken(user.getUuid(), refreshToken);
+            refreshTokenService.save(user.getUuid(), issuedRefreshToken);
 
             log.info("기존 소셜 사용자 로그인 처리 완료: uuid={}", user.getUuid());
 
@@ -289,10 +288,11 @@ public class GoogleOAuth2Service implements OAuth2UserService {
 
                 // JWT 토큰 생성
                 String accessToken = jwtTokenProvider.createAccessToken(user.getUuid(), user.getGrade().name());
-                String refreshToken = jwtTokenProvider.createRefreshToken(user.getUuid(), user.getGrade().name());
+                IssuedToken issuedRefreshToken = jwtTokenProvider.issueRefreshToken(user.getUuid(), user.getGrade().name());
+                String refreshToken = issuedRefreshToken.token();
 
                 // 리프레시 토큰 저장
-                saveRefreshToken(user.getUuid(), refreshToken);
+                refreshTokenService.save(user.getUuid(), issuedRefreshToken);
 
                 log.info("새 소셜 사용자 등록 처리 완료: uuid={}", user.getUuid());
 
@@ -351,10 +351,11 @@ public class GoogleOAuth2Service implements OAuth2UserService {
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.createAccessToken(newUser.getUuid(), newUser.getGrade().name());
-        String refreshToken = jwtTokenProvider.createRefreshToken(newUser.getUuid(), newUser.getGrade().name());
+        IssuedToken issuedRefreshToken = jwtTokenProvider.issueRefreshToken(newUser.getUuid(), newUser.getGrade().name());
+        String refreshToken = issuedRefreshToken.token();
 
         // 리프레시 토큰 저장
-        saveRefreshToken(newUser.getUuid(), refreshToken);
+        refreshTokenService.save(newUser.getUuid(), issuedRefreshToken);
 
         // 쿠키 생성
         ResponseCookie accessTokenCookie = CookieUtil.createResponseCookie(
@@ -370,22 +371,4 @@ public class GoogleOAuth2Service implements OAuth2UserService {
         return SocialLoginResponse.from(newUser, newSocialUser, accessToken, refreshToken,
                 accessTokenCookie, refreshTokenCookie, true);
     }
-
-    /**
-     * 리프레시 토큰 저장
-     */
-    private void saveRefreshToken(String uuid, String refreshToken) {
-        // 기존 리프레시 토큰 만료 처리
-        refreshTokenRepository.revokeAllTokensByUuid(uuid);
-
-        // 새 리프레시 토큰 저장
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .uuid(uuid)
-                .token(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .expiresAt(jwtTokenProvider.getRefreshTokenExpireTimeAsLocalDateTime())
-                .build();
-
-        refreshTokenRepository.save(refreshTokenEntity);
-    }
-}
\ No newline at end of file
+}
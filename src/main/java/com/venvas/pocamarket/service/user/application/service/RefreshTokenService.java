@@ -0,0 +1,64 @@
+package com.venvas.pocamarket.service.user.application.service;
+
+import com.venvas.pocamarket.infrastructure.util.IssuedToken;
+import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
+import com.venvas.pocamarket.service.user.domain.event.RefreshTokenIssuedEvent;
+import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 저장, 정리 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 사용자의 기존 리프레시 토큰을 모두 만료 처리하고 새 토큰 저장
+     *
+     * @param uuid 사용자 UUID
+     * @param refreshToken 새로 발급한 리프레시 토큰
+     */
+    @Transactional
+    public void save(String uuid, IssuedToken refreshToken) {
+        refreshTokenRepository.revokeAllTokensByUuid(uuid);
+
+        RefreshToken refreshTokenEntity = RefreshToken.builder()
+                .uuid(uuid)
+                .token(refreshToken.token())
+                .issuedAt(refreshToken.issuedAtAsLocalDateTime())
+                .expiresAt(refreshToken.expiresAtAsLocalDateTime())
+                .build();
+        refreshTokenRepository.save(refreshTokenEntity);
+
+        eventPublisher.publishEvent(new RefreshTokenIssuedEvent(uuid, refreshTokenEntity.getToken(),
+                refreshTokenEntity.getIssuedAt(), refreshTokenEntity.getExpiresAt()));
+    }
+
+    /**
+     * 폐기, 만료된 리프레시 토큰을 afterId 다음부터 최대 limit 개 삭제 (청크 하나 = 트랜잭션 하나)
+     *
+     * @param now 기준 시각
+     * @param afterId 이전 청크의 마지막 ID, null 이면 처음부터
+     * @param limit 청크 크기
+     * @return 삭제한 ID 목록 (오름차순), 비어 있으면 더 지울 행이 없다
+     */
+    @Transactional
+    public List<Long> purgeChunk(LocalDateTime now, Long afterId, int limit) {
+        List<Long> ids = refreshTokenRepository.findPurgeTargetIds(now, afterId, limit);
+        refreshTokenRepository.deleteByIds(ids);
+        return ids;
+    }
+}
@@ -1,15 +1,14 @@
 package com.venvas.pocamarket.service.user.application.service;
 
 import com.venvas.pocamarket.infrastructure.util.CookieUtil;
+import com.venvas.pocamarket.infrastructure.util.IssuedToken;
 import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
 import com.venvas.pocamarket.service.user.application.dto.*;
-import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
 import com.venvas.pocamarket.service.user.domain.entity.SocialUser;
 import com.venvas.pocamarket.service.user.domain.entity.User;
 import com.venvas.pocamarket.service.user.domain.enums.UserStatus;
 import com.venvas.pocamarket.service.user.domain.exception.UserErrorCode;
 import com.venvas.pocamarket.service.user.domain.exception.UserException;
-import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
 import com.venvas.pocamarket.service.user.domain.repository.SocialUserRepository;
 import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,15 +34,15 @@ public class UserService {
             "admin", "root", "system", "manager", "superuser", "administrator", "관리자");
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final SocialUserRepository socialUserRepository;
 
-    public UserService(UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, 
+    public UserService(UserRepository userRepository, RefreshTokenService refreshTokenService, 
             PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, SocialUserRepository socialUserRepository) {
         this.userRepository = userRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.socialUserRepository = socialUserRepository;
@@ -237,19 +235,11 @@ public class UserService {
 
         // 6. JWT 토큰 생성 (실제 구현에서는 JWT 서비스를 통해 토큰 생성)
         String accessToken = jwtTokenProvider.createAccessToken(updatedUser.getUuid(), updatedUser.getGrade().name());
-        String refreshToken = jwtTokenProvider.createRefreshToken(updatedUser.getUuid(), updatedUser.getGrade().name());
-
-        // 7. 토큰 저장
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .uuid(updatedUser.getUuid())
-                .token(refreshToken)
-                .issuedAt(LocalDateTime.now())
-                .expiresAt(jwtTokenProvider.getRefreshTokenExpireTimeAsLocalDateTime())
-                .build();
-
-        // 오래된 리프레쉬 토큰 만료 처리 (선택적)
-        refreshTokenRepository.revokeAllTokensByUuid(updatedUser.getUuid());
-        refreshTokenRepository.save(refreshTokenEntity);
+        IssuedToken issuedRefreshToken = jwtTokenProvider.issueRefreshToken(updatedUser.getUuid(), updatedUser.getGrade().name());
+        String refreshToken = issuedRefreshToken.token();
+
+        // 7. 토큰 저장 (오래된 리프레쉬 토큰 만료 처리 후 저장)
+        refreshTokenService.save(updatedUser.getUuid(), issuedRefreshToken);
 
         // 8. 쿠키 생성
         ResponseCookie accessTokenCookie = CookieUtil.createResponseCookie(JwtTokenProvider.ACCESS_TOKEN_NAME, accessToken,
@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "refresh_token", uniqueConstraints = {
         @UniqueConstraint(name = "uk_refresh_token_token", columnNames = "token")
+}, indexes = {
+        @Index(name = "idx_refresh_token_uuid", columnList = "uuid")
 })
 @Getter
 @AllArgsConstructor
@@ -0,0 +1,15 @@
+package com.venvas.pocamarket.service.user.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 발급 이벤트
+ * 사용자의 이전 리프레시 토큰을 만료 처리하고 새 토큰을 저장한 뒤, 커밋 후 인메모리 토큰 저장소를 갱신하도록 알린다
+ *
+ * @param uuid 사용자 UUID
+ * @param token 새 리프레시 토큰
+ * @param issuedAt 발급 시각
+ * @param expiresAt 만료 시각
+ */
+public record RefreshTokenIssuedEvent(String uuid, String token, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+}
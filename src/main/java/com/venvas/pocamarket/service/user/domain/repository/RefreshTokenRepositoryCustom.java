@@ -1,5 +1,6 @@
 package com.venvas.pocamarket.service.user.domain.repository;
 
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenRowDto;
 import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
 
 import java.time.LocalDateTime;
@@ -21,12 +22,30 @@ public interface RefreshTokenRepositoryCustom {
     Optional<RefreshToken> findValidTokensByUuid(String uuid, LocalDateTime currentTime);
 
     /**
-     * 만료된 리프레쉬 토큰을 모두 조회합니다.
-     * 
+     * 만료되지 않고 폐기되지 않은 리프레쉬 토큰 행을 조회합니다. (인메모리 저장소 적재용)
+     *
+     * @param currentTime 현재 시간
+     * @return 유효한 리프레쉬 토큰 행 목록
+     */
+    List<RefreshTokenRowDto> findActiveTokenRows(LocalDateTime currentTime);
+
+    /**
+     * 정리 대상(폐기 또는 만료) 리프레쉬 토큰 ID 를 afterId 다음부터 ID 순으로 limit 개 조회합니다.
+     *
      * @param currentTime 현재 시간
-     * @return 만료된 리프레쉬 토큰 목록
+     * @param afterId     마지막으로 처리한 ID, null 이면 처음부터
+     * @param limit       최대 개수
+     * @return 정리 대상 ID 목록 (오름차순)
+     */
+    List<Long> findPurgeTargetIds(LocalDateTime currentTime, Long afterId, int limit);
+
+    /**
+     * ID 목록의 리프레쉬 토큰을 삭제합니다.
+     *
+     * @param ids 삭제할 ID 목록
+     * @return 삭제된 행 수
      */
-    List<RefreshToken> findAllExpiredTokens(LocalDateTime currentTime);
+    long deleteByIds(List<Long> ids);
 
     /**
      * 사용자의 모든 리프레쉬 토큰을 강제 만료 처리합니다.
@@ -1,6 +1,8 @@
 package com.venvas.pocamarket.service.user.domain.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenRowDto;
 import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
 import jakarta.persistence.EntityManager;
 
@@ -41,20 +43,62 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepositoryCustom
     }
 
     /**
-     * 만료된 리프레쉬 토큰을 모두 조회합니다.
-     * 
+     * 만료되지 않고 폐기되지 않은 리프레쉬 토큰 행을 조회합니다.
+     *
      * @param currentTime 현재 시간
-     * @return 만료된 리프레쉬 토큰 목록
+     * @return 유효한 리프레쉬 토큰 행 목록
      */
     @Override
-    public List<RefreshToken> findAllExpiredTokens(LocalDateTime currentTime) {
+    public List<RefreshTokenRowDto> findActiveTokenRows(LocalDateTime currentTime) {
         return queryFactory
-                .selectFrom(refreshToken)
-                .where(refreshToken.revoked.eq(true)
-                        .or(refreshToken.expiresAt.before(currentTime)))
+                .select(Projections.constructor(RefreshTokenRowDto.class,
+                        refreshToken.uuid,
+                        refreshToken.token,
+                        refreshToken.issuedAt,
+                        refreshToken.expiresAt))
+                .from(refreshToken)
+                .where(refreshToken.revoked.eq(false)
+                        .and(refreshToken.expiresAt.after(currentTime)))
+                .fetch();
+    }
+
+    /**
+     * 정리 대상(폐기 또는 만료) 리프레쉬 토큰 ID 를 keyset 방식으로 조회합니다.
+     * OFFSET 없이 id > afterId 로 이어서 읽으므로 청크가 뒤로 가도 비용이 같습니다.
+     *
+     * @param currentTime 현재 시간
+     * @param afterId     마지막으로 처리한 ID, null 이면 처음부터
+     * @param limit       최대 개수
+     * @return 정리 대상 ID 목록 (오름차순)
+     */
+    @Override
+    public List<Long> findPurgeTargetIds(LocalDateTime currentTime, Long afterId, int limit) {
+        return queryFactory
+                .select(refreshToken.id)
+                .from(refreshToken)
+                .where(afterId == null ? null : refreshToken.id.gt(afterId),
+                        refreshToken.revoked.eq(true)
+                                .or(refreshToken.expiresAt.before(currentTime)))
+                .orderBy(refreshToken.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    /**
+     * ID 목록의 리프레쉬 토큰을 삭제합니다.
+     *
+     * @param ids 삭제할 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Override
+    public long deleteByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return 0;
+        return queryFactory
+                .delete(refreshToken)
+                .where(refreshToken.id.in(ids))
+                .execute();
+    }
+
     /**
      * 사용자의 모든 리프레쉬 토큰을 강제 만료 처리합니다.
      * 
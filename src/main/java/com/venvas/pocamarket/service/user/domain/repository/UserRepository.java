@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +14,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByLoginId(String loginId);
     Optional<User> findByEmail(String email);
     Optional<User> findByUuid(String uuid);
+    List<User> findByUuidIn(Collection<String> uuids);
 
     @Query("SELECT u FROM User u WHERE u.uuid = :uuid AND u.statusCode = 1")
     Optional<User> findStatusByUuid(String uuid);
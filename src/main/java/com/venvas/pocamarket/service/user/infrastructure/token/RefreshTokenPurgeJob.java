@@ -0,0 +1,80 @@
+package com.venvas.pocamarket.service.user.infrastructure.token;
+
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenStatsDto;
+import com.venvas.pocamarket.service.user.application.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기, 만료된 리프레시 토큰 정리 작업
+ * 전체를 한번에 읽거나 지우지 않고 ID keyset 으로 CHUNK_SIZE 개씩 나눠 청크마다 트랜잭션을 커밋한다
+ * 한번 실행에 MAX_CHUNKS 청크까지만 지우고 나머지는 다음 실행에서 이어서 지운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_CHUNKS = 500;
+
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder purgedRows = new LongAdder();
+    private final AtomicLong lastPurgedRows = new AtomicLong();
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+    private final AtomicLong maxPurgeMillis = new AtomicLong();
+
+    /**
+     * 매일 새벽 정리 (refresh-token.purge-cron 으로 변경)
+     */
+    @Scheduled(cron = "${refresh-token.purge-cron:0 30 4 * * *}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    /**
+     * 정리 실행
+     *
+     * @return 삭제한 행 수
+     */
+    public synchronized long purge() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        long deleted = 0;
+        Long afterId = null;
+        for (int chunk = 0; chunk < MAX_CHUNKS; chunk++) {
+            List<Long> ids = refreshTokenService.purgeChunk(now, afterId, CHUNK_SIZE);
+            deleted += ids.size();
+            if (ids.size() < CHUNK_SIZE) break;
+            afterId = ids.get(ids.size() - 1);
+        }
+        int evicted = refreshTokenStore.evictExpired(now);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        runs.increment();
+        purgedRows.add(deleted);
+        lastPurgedRows.set(deleted);
+        lastPurgeMillis.set(elapsedMillis);
+        maxPurgeMillis.accumulateAndGet(elapsedMillis, Math::max);
+
+        log.info("리프레시 토큰 정리 완료 deleted = {}, evicted = {}, elapsed = {}ms", deleted, evicted, elapsedMillis);
+        return deleted;
+    }
+
+    public RefreshTokenStatsDto getStats() {
+        return new RefreshTokenStatsDto(refreshTokenStore.size(), refreshTokenStore.getHits(),
+                refreshTokenStore.getDbLookups(), refreshTokenStore.getRejected(),
+                runs.sum(), purgedRows.sum(), lastPurgedRows.get(), lastPurgeMillis.get(), maxPurgeMillis.get());
+    }
+}
@@ -0,0 +1,185 @@
+package com.venvas.pocamarket.service.user.infrastructure.token;
+
+import com.venvas.pocamarket.infrastructure.util.TokenDigestUtil;
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenRowDto;
+import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
+import com.venvas.pocamarket.service.user.domain.event.RefreshTokenIssuedEvent;
+import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리프레시 토큰 인메모리 저장소
+ * 로그인할 때마다 이전 토큰을 모두 폐기하므로 사용자별 유효 토큰은 하나다. 사용자 UUID -> 유효 토큰 digest 만 보관해서
+ * 재발급 요청은 DB 조회 없이 확인한다. 시작할 때 DB 의 유효 토큰으로 채우고, 토큰 발급 커밋 후 (RefreshTokenIssuedEvent) 교체한다
+ * 메모리에 없거나 다른 토큰이면 (다른 인스턴스에서 발급 등) DB 로 한번 더 확인한다
+ * 다른 인스턴스에서 로그인해 폐기된 토큰은 이 인스턴스의 메모리에 남아 있으므로, 메모리 확인은 DB 로 확인한 지
+ * VERIFY_TTL 안에서만 믿고 그 뒤에는 DB 로 다시 확인한다 (폐기된 토큰이 받아들여지는 시간은 최대 VERIFY_TTL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    // DB 확인 없이 메모리 확인을 믿는 시간
+    static final Duration VERIFY_TTL = Duration.ofSeconds(30);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 사용자 UUID -> 유효 토큰
+    private final Map<String, ActiveToken> activeTokens = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder dbLookups = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 애플리케이션 시작 후 유효 토큰 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 토큰 발급 커밋 후 사용자의 유효 토큰 교체
+     */
+    @TransactionalEventListener
+    public void onTokenIssued(RefreshTokenIssuedEvent event) {
+        put(event.uuid(), new ActiveToken(TokenDigestUtil.sha256(event.token()), event.issuedAt(), event.expiresAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * DB 의 유효 토큰으로 전체 교체, 사용자별로 가장 최근에 발급한 토큰만 남긴다
+     */
+    public synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RefreshTokenRowDto> rows = refreshTokenRepository.findActiveTokenRows(now);
+
+        Map<String, ActiveToken> next = new HashMap<>();
+        for (RefreshTokenRowDto row : rows) {
+            ActiveToken token = new ActiveToken(TokenDigestUtil.sha256(row.getToken()), row.getIssuedAt(), row.getExpiresAt(), now);
+            next.merge(row.getUuid(), token, (a, b) -> b.issuedAt().isAfter(a.issuedAt()) ? b : a);
+        }
+
+        activeTokens.clear();
+        activeTokens.putAll(next);
+        loaded = true;
+        log.info("리프레시 토큰 저장소 적재 완료 size = {}", next.size());
+    }
+
+    /**
+     * 사용자의 유효 리프레시 토큰인지 확인
+     * 메모리에 같은 토큰이 있고 VERIFY_TTL 안에 확인했으면 바로 확인, 아니면 DB 로 확인하고 유효하면 메모리에 반영한다
+     *
+     * @param uuid 토큰 서명 검증으로 얻은 사용자 UUID
+     * @param token 리프레시 토큰
+     */
+    public boolean isActive(String uuid, String token) {
+        return isActive(uuid, token, LocalDateTime.now());
+    }
+
+    boolean isActive(String uuid, String token, LocalDateTime now) {
+        if (uuid == null || token == null) {
+            rejected.increment();
+            return false;
+        }
+
+        String digest = TokenDigestUtil.sha256(token);
+        ActiveToken active = activeTokens.get(uuid);
+        boolean cached = active != null && active.digest().equals(digest);
+        if (cached) {
+            if (!active.isValid(now)) {
+                activeTokens.remove(uuid, active);
+                rejected.increment();
+                return false;
+            }
+            if (active.isFresh(now)) {
+                hits.increment();
+                return true;
+            }
+        }
+
+        dbLookups.increment();
+        Optional<RefreshToken> saved = refreshTokenRepository.findByToken(token);
+        if (saved.isEmpty() || !uuid.equals(saved.get().getUuid()) || !saved.get().isValid(now)) {
+            // 다른 인스턴스에서 폐기, 교체된 토큰은 메모리에서도 뺀다
+            if (cached) activeTokens.remove(uuid, active);
+            rejected.increment();
+            return false;
+        }
+        if (loaded || cached) {
+            put(uuid, new ActiveToken(digest, saved.get().getIssuedAt(), saved.get().getExpiresAt(), now));
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 토큰을 메모리에서 제거
+     *
+     * @return 제거한 수
+     */
+    public int evictExpired(LocalDateTime now) {
+        int before = activeTokens.size();
+        activeTokens.values().removeIf(token -> !token.isValid(now));
+        return before - activeTokens.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return activeTokens.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getDbLookups() {
+        return dbLookups.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 같은 사용자에 대해 더 나중에 발급한 토큰만 반영 (커밋 순서와 이벤트 처리 순서가 달라도 이전 토큰으로 되돌리지 않는다)
+     * 같은 토큰이면 DB 확인 시각을 갱신한다
+     */
+    private void put(String uuid, ActiveToken token) {
+        activeTokens.merge(uuid, token, (current, next) -> next.issuedAt().isBefore(current.issuedAt()) ? current : next);
+    }
+
+    /**
+     * @param verifiedAt 마지막으로 DB 와 맞춰본 시각 (적재, 발급, DB 확인)
+     */
+    private record ActiveToken(String digest, LocalDateTime issuedAt, LocalDateTime expiresAt, LocalDateTime verifiedAt) {
+
+        boolean isValid(LocalDateTime now) {
+            return expiresAt.isAfter(now);
+        }
+
+        boolean isFresh(LocalDateTime now) {
+            return verifiedAt.plus(VERIFY_TTL).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- 교환글, 교환 카드 코드, 교환 히스토리, 포켓몬 카드/공격/특성 ID 시퀀스 (MariaDB 10.3 이상)
+-- 엔티티의 @SequenceGenerator(allocationSize = 50) 와 INCREMENT BY 값을 반드시 맞춘다
+-- pooled 할당은 시퀀스 값 이전 50개 범위를 사용하므로 기존 최대 ID + 51 부터 시작한다
+-- 운영은 ddl-auto: none 이라 배포 전에 한번 직접 실행한다 (테스트 H2 는 create-drop 으로 자동 생성)
+
+SET @start = (SELECT COALESCE(MAX(trade_id), 0) + 51 FROM tcg_trade);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tcg_trade_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(trade_card_code_id), 0) + 51 FROM tcg_trade_card_code);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tcg_trade_card_code_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(trade_history_id), 0) + 51 FROM tcg_trade_history);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tcg_trade_history_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(card_id), 0) + 51 FROM pokemon_card);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS pokemon_card_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(attack_id), 0) + 51 FROM pokemon_attack);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS pokemon_attack_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(ability_id), 0) + 51 FROM pokemon_ability);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS pokemon_ability_seq START WITH ', @start, ' INCREMENT BY 50 NOCACHE');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,5 @@
+-- 리프레시 토큰 사용자 UUID 인덱스 (RefreshToken idx_refresh_token_uuid)
+-- 로그인할 때마다 사용자의 기존 토큰을 uuid 로 폐기하므로 인덱스가 없으면 발급마다 전체 스캔을 한다
+-- 운영은 ddl-auto: none 이라 배포 전에 한번 직접 실행한다 (테스트 H2 는 create-drop 으로 자동 생성)
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_uuid ON refresh_token (uuid);
@@ -0,0 +1,5 @@
+-- 교환 리스트 커서 조회 (sorted_at, trade_id) 인덱스 (TcgTrade idx_tcg_trade_sorted_at)
+-- 커서 조회는 (sorted_at, trade_id) 로 이어서 읽으므로 인덱스가 없으면 페이지마다 전체 스캔과 정렬을 한다
+-- 운영은 ddl-auto: none 이라 배포 전에 한번 직접 실행한다 (테스트 H2 는 create-drop 으로 자동 생성)
+
+CREATE INDEX IF NOT EXISTS idx_tcg_trade_sorted_at ON tcg_trade (sorted_at, trade_id);
@@ -0,0 +1,7 @@
+-- 교환 히스토리를 문구 대신 유형 + 인자로 저장 (TcgTradeHistory.history_type, params)
+-- 기존 히스토리는 content 를 그대로 두고, history_type 이 null 이면 content 를 문구로 사용한다
+-- 운영은 ddl-auto: none 이라 배포 전에 한번 직접 실행한다 (테스트 H2 는 create-drop 으로 자동 생성)
+
+ALTER TABLE tcg_trade_history
+    ADD COLUMN IF NOT EXISTS history_type INT NULL AFTER uuid,
+    ADD COLUMN IF NOT EXISTS params TEXT NULL AFTER history_type;
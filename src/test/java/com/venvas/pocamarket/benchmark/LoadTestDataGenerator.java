@@ -0,0 +1,224 @@
+package com.venvas.pocamarket.benchmark;
+
+import com.venvas.pocamarket.config.IntegratedTestConfig;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardUpdateService;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCreateRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestCreateRequest;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeRequestService;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeService;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgCode;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTrade;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeCardCode;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeRequest;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeCardCodeStatus;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgCodeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeCardCodeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import com.venvas.pocamarket.service.user.domain.entity.User;
+import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트 데이터 생성기
+ * 같은 seed 면 같은 데이터를 만든다 (카드, 사용자, 교환글, 교환 요청 순서와 내용)
+ * - 카드: src/main/resources/sample 의 확장팩 json 을 서비스로 가져온다
+ * - 내 카드 (MY): 카드 인기도 (Zipf) 에 낮은 레어도일수록 많이 올라오도록 가중치
+ * - 원하는 카드 (WANT): 다른 인기도 순서에 높은 레어도일수록 많이 찾도록 가중치, 1장 50% / 2장 30% / 3장 20%
+ * - 교환글 작성자: 사용자 인기도 (Zipf), 소수 사용자가 많은 글을 올린다
+ * - 교환 요청: 교환글은 고르게, 요청 카드는 그 교환글의 원하는 카드 중 하나
+ */
+@Slf4j
+@RequiredArgsConstructor
+class LoadTestDataGenerator {
+
+    private static final String[] SAMPLE_FILES = {"a1-genetic-apex", "a1a-mythical-island", "a2-space-time-smackdown", "promo"};
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final PokemonCardUpdateService pokemonCardUpdateService;
+    private final UserRepository userRepository;
+    private final TcgCodeRepository tcgCodeRepository;
+    private final TcgTradeService tcgTradeService;
+    private final TcgTradeRequestService tcgTradeRequestService;
+    private final TcgTradeRepository tcgTradeRepository;
+    private final TcgTradeCardCodeRepository tcgTradeCardCodeRepository;
+    private final TcgTradeRequestRepository tcgTradeRequestRepository;
+
+    /**
+     * @param users 사용자 수
+     * @param trades 교환글 수
+     * @param requests 교환 요청 수
+     */
+    LoadTestData generate(long seed, int users, int trades, int requests) {
+        Random random = new Random(seed);
+
+        List<PokemonCard> cards = seedCatalog();
+        List<LoadTestUser> seededUsers = seedUsers(random, users);
+        seedTrades(random, cards, seededUsers, trades);
+        List<LoadTestTrade> seededTrades = loadTrades();
+        int created = seedRequests(random, seededUsers, seededTrades, requests);
+
+        log.info("부하 테스트 데이터 생성 seed = {}, cards = {}, users = {}, trades = {}, requests = {}",
+                seed, cards.size(), seededUsers.size(), seededTrades.size(), created);
+        return new LoadTestData(cards.stream().map(PokemonCard::getCode).toList(), seededUsers, seededTrades, loadPendingRequests(seededTrades));
+    }
+
+    private List<PokemonCard> seedCatalog() {
+        List<PokemonCard> cards = new ArrayList<>();
+        for (String fileName : SAMPLE_FILES) {
+            int index = fileName.indexOf('-');
+            String packSet = index < 0 ? fileName : fileName.substring(0, index);
+            cards.addAll(pokemonCardUpdateService.upsertJsonData(fileName, packSet));
+        }
+        cards.sort(Comparator.comparing(PokemonCard::getCode));
+        return cards;
+    }
+
+    private List<LoadTestUser> seedUsers(Random random, int count) {
+        List<User> users = new ArrayList<>(count);
+        List<TcgCode> tcgCodes = new ArrayList<>(count);
+        List<LoadTestUser> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String uuid = String.format("load-uuid-%06d", i);
+            String tcgCode = String.format("%016d", Math.floorMod(random.nextLong(), 10_000_000_000_000_000L));
+            users.add(IntegratedTestConfig.createTestUser(uuid, "load" + i, "부하" + i, "load" + i + "@test.com"));
+            tcgCodes.add(new TcgCode(null, tcgCode, uuid, 1, "load"));
+            result.add(new LoadTestUser(uuid, tcgCode));
+        }
+        userRepository.saveAll(users);
+        tcgCodeRepository.saveAll(tcgCodes);
+        return result;
+    }
+
+    private void seedTrades(Random random, List<PokemonCard> cards, List<LoadTestUser> users, int count) {
+        WeightedSampler<PokemonCard> offered = WeightedSampler.zipf(shuffled(random, cards), ZIPF_EXPONENT,
+                card -> 1.0 / rarityOf(card));
+        WeightedSampler<PokemonCard> wanted = WeightedSampler.zipf(shuffled(random, cards), ZIPF_EXPONENT,
+                card -> (double) rarityOf(card));
+        WeightedSampler<LoadTestUser> owners = WeightedSampler.zipf(shuffled(random, users), ZIPF_EXPONENT, user -> 1.0);
+
+        for (int i = 0; i < count; i++) {
+            LoadTestUser owner = owners.next(random);
+            String myCardCode = offered.next(random).getCode();
+
+            int wantCount = wantCountOf(random);
+            Set<String> wantCardCodes = new LinkedHashSet<>();
+            while (wantCardCodes.size() < wantCount) {
+                String code = wanted.next(random).getCode();
+                if (!code.equals(myCardCode)) wantCardCodes.add(code);
+            }
+
+            tcgTradeService.createTrade(new TcgTradeCreateRequest(myCardCode, List.copyOf(wantCardCodes), owner.tcgCode()), owner.uuid());
+        }
+    }
+
+    private int seedRequests(Random random, List<LoadTestUser> users, List<LoadTestTrade> trades, int count) {
+        if (trades.isEmpty() || users.size() < 2) return 0;
+
+        Set<String> used = new HashSet<>();
+        int created = 0;
+        for (int attempt = 0; created < count && attempt < count * 3; attempt++) {
+            LoadTestTrade trade = trades.get(random.nextInt(trades.size()));
+            LoadTestUser requester = users.get(random.nextInt(users.size()));
+            String cardCode = trade.wantCardCodes().get(random.nextInt(trade.wantCardCodes().size()));
+            if (requester.uuid().equals(trade.ownerUuid()) || !used.add(trade.tradeId() + ":" + requester.uuid() + ":" + cardCode)) {
+                continue;
+            }
+
+            tcgTradeRequestService.createTcgTradeRequest(trade.tradeId(),
+                    new TcgTradeRequestCreateRequest(requester.tcgCode(), cardCode, "카드 " + cardCode), requester.uuid());
+            created++;
+        }
+        return created;
+    }
+
+    /**
+     * 생성된 교환글을 DB 에서 다시 읽는다 (createTrade 는 ID 를 돌려주지 않는다)
+     */
+    private List<LoadTestTrade> loadTrades() {
+        Map<Long, String> owners = new HashMap<>();
+        for (TcgTrade trade : tcgTradeRepository.findAll()) {
+            owners.put(trade.getId(), trade.getUuid());
+        }
+
+        Map<Long, String> myCards = new HashMap<>();
+        Map<Long, List<String>> wantCards = new HashMap<>();
+        for (TcgTradeCardCode cardCode : tcgTradeCardCodeRepository.findAll()) {
+            Long tradeId = cardCode.getTrade().getId();
+            if (Objects.equals(cardCode.getType(), TradeCardCodeStatus.MY.getCode())) {
+                myCards.put(tradeId, cardCode.getCardCode());
+            } else {
+                wantCards.computeIfAbsent(tradeId, id -> new ArrayList<>()).add(cardCode.getCardCode());
+            }
+        }
+
+        List<LoadTestTrade> trades = new ArrayList<>(owners.size());
+        owners.forEach((tradeId, ownerUuid) -> trades.add(new LoadTestTrade(tradeId, ownerUuid, myCards.get(tradeId),
+                List.copyOf(wantCards.getOrDefault(tradeId, List.of())))));
+        trades.sort(Comparator.comparing(LoadTestTrade::tradeId));
+        return trades;
+    }
+
+    /**
+     * 교환글마다 처음 들어온 교환 요청 (작성자가 진행, 완료로 넘길 대상)
+     */
+    private List<LoadTestRequest> loadPendingRequests(List<LoadTestTrade> trades) {
+        Map<Long, String> owners = new HashMap<>();
+        trades.forEach(trade -> owners.put(trade.tradeId(), trade.ownerUuid()));
+
+        Map<Long, LoadTestRequest> first = new LinkedHashMap<>();
+        tcgTradeRequestRepository.findAll().stream()
+                .sorted(Comparator.comparing(TcgTradeRequest::getId))
+                .forEach(request -> first.putIfAbsent(request.getTrade().getId(), new LoadTestRequest(
+                        request.getTrade().getId(), request.getId(), owners.get(request.getTrade().getId()), request.getStatus())));
+        return new ArrayList<>(first.values());
+    }
+
+    private static int rarityOf(PokemonCard card) {
+        return card.getRarityNum() == null ? 1 : Math.max(1, card.getRarityNum());
+    }
+
+    private static int wantCountOf(Random random) {
+        int value = random.nextInt(10);
+        if (value < 5) return 1;
+        return value < 8 ? 2 : 3;
+    }
+
+    private static <T> List<T> shuffled(Random random, List<T> values) {
+        List<T> copy = new ArrayList<>(values);
+        Collections.shuffle(copy, random);
+        return copy;
+    }
+
+    record LoadTestUser(String uuid, String tcgCode) {
+    }
+
+    record LoadTestTrade(Long tradeId, String ownerUuid, String myCardCode, List<String> wantCardCodes) {
+    }
+
+    /**
+     * @param status 현재 교환 요청 상태, PATCH 요청에 그대로 보낸다
+     */
+    record LoadTestRequest(Long tradeId, Long tradeRequestId, String ownerUuid, Integer status) {
+    }
+
+    record LoadTestData(List<String> cardCodes, List<LoadTestUser> users, List<LoadTestTrade> trades,
+                        List<LoadTestRequest> pendingRequests) {
+    }
+}
@@ -0,0 +1,376 @@
+package com.venvas.pocamarket.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venvas.pocamarket.benchmark.LoadTestDataGenerator.LoadTestData;
+import com.venvas.pocamarket.benchmark.LoadTestDataGenerator.LoadTestRequest;
+import com.venvas.pocamarket.benchmark.LoadTestDataGenerator.LoadTestTrade;
+import com.venvas.pocamarket.benchmark.LoadTestDataGenerator.LoadTestUser;
+import com.venvas.pocamarket.config.IntegratedTestConfig;
+import com.venvas.pocamarket.infrastructure.metrics.LatencyHistogram;
+import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardUpdateService;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestCreateRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeRequestPatchRequest;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeRequestService;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeService;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgCodeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeCardCodeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 교환/카드 API 부하 테스트 (기본 test 에서는 제외, ./gradlew loadTest 로 실행)
+ * H2 로 앱을 띄우고 LoadTestDataGenerator 로 데이터를 만든 뒤 open-loop 로 요청을 보낸다
+ * - open-loop: 응답을 기다리지 않고 rate 에 맞춰 정해진 시각에 요청을 넣고, 지연 시간은 정해진 시각부터 잰다 (대기열에서 밀린 시간 포함)
+ * - 요청 순서와 내용은 seed 로 정해지므로 같은 설정이면 같은 부하를 준다
+ * - 설정은 시스템 프로퍼티 load.* (LoadTestSettings 참고)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "rate-limit.enabled=false",
+        "sql-trace.mode=OFF",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type=warn",
+        "logging.level.com.venvas.pocamarket=info"
+})
+@ActiveProfiles("test")
+@Import(IntegratedTestConfig.class)
+class TcgTradeLoadTest {
+
+    private static final String[] RARITIES = {"COMMON", "UNCOMMON", "RARE", "RARE EX"};
+    private static final String[] ELEMENTS = {"GRASS", "FIRE", "WATER", "LIGHTNING", "PSYCHIC"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PokemonCardUpdateService pokemonCardUpdateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TcgCodeRepository tcgCodeRepository;
+
+    @Autowired
+    private TcgTradeService tcgTradeService;
+
+    @Autowired
+    private TcgTradeRequestService tcgTradeRequestService;
+
+    @Autowired
+    private TcgTradeRepository tcgTradeRepository;
+
+    @Autowired
+    private TcgTradeCardCodeRepository tcgTradeCardCodeRepository;
+
+    @Autowired
+    private TcgTradeRequestRepository tcgTradeRequestRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTestData data;
+    private Map<String, String> authorizations;
+    private Queue<LoadTestRequest> pendingRequests;
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+
+    @Test
+    @DisplayName("교환 리스트, 교환 상세, 카드 리스트, 교환 요청 생성/진행 open-loop 부하")
+    void openLoopWorkload() throws Exception {
+        // given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        log.info("부하 테스트 설정 {}", settings);
+
+        data = new LoadTestDataGenerator(pokemonCardUpdateService, userRepository, tcgCodeRepository, tcgTradeService,
+                tcgTradeRequestService, tcgTradeRepository, tcgTradeCardCodeRepository, tcgTradeRequestRepository)
+                .generate(settings.seed(), settings.users(), settings.trades(), settings.requests());
+        authorizations = new HashMap<>();
+        for (LoadTestUser user : data.users()) {
+            authorizations.put(user.uuid(), "Bearer " + jwtTokenProvider.createAccessToken(user.uuid(), "LV01"));
+        }
+        pendingRequests = new ConcurrentLinkedQueue<>(data.pendingRequests());
+
+        // when
+        run(settings, settings.warmupSeconds(), null);
+        Map<LoadTestOperation, OperationStats> stats = new EnumMap<>(LoadTestOperation.class);
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        run(settings, settings.durationSeconds(), stats);
+
+        // then
+        report(settings, stats);
+        long completed = stats.values().stream().mapToLong(stat -> stat.ok.sum() + stat.errors.sum()).sum();
+        assertThat(completed).isPositive();
+        // 조회 API 는 실패하지 않아야 한다 (교환 요청 생성/진행은 중복, 이미 진행 중 등으로 거절될 수 있다)
+        assertThat(stats.get(LoadTestOperation.TRADE_LIST).errors.sum()).isZero();
+        assertThat(stats.get(LoadTestOperation.TRADE_DETAIL).errors.sum()).isZero();
+        assertThat(stats.get(LoadTestOperation.CARD_LIST).errors.sum()).isZero();
+    }
+
+    /**
+     * durationSeconds 동안 1 / rate 초 간격의 정해진 시각에 요청을 넣는다
+     *
+     * @param stats null 이면 기록하지 않는다 (warmup)
+     */
+    private void run(LoadTestSettings settings, int durationSeconds, Map<LoadTestOperation, OperationStats> stats)
+            throws InterruptedException {
+        if (durationSeconds <= 0) return;
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long total = (long) settings.rate() * durationSeconds;
+        // warmup 과 본 측정의 요청 순서가 겹치지 않게
+        long sequenceOffset = stats == null ? Long.MAX_VALUE / 2 : 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                long sequence = sequenceOffset + i;
+                workers.execute(() -> execute(settings.seed(), sequence, intended, stats));
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    private void execute(long seed, long sequence, long intended, Map<LoadTestOperation, OperationStats> stats) {
+        Random random = new Random(seed * 1_000_003L + sequence);
+        LoadTestOperation operation = LoadTestOperation.pick(random);
+        LoadTestRequest advance = null;
+        if (operation == LoadTestOperation.REQUEST_ADVANCE) {
+            advance = pendingRequests.poll();
+            if (advance == null) operation = LoadTestOperation.TRADE_DETAIL;
+        }
+
+        boolean ok;
+        try {
+            HttpRequest request = switch (operation) {
+                case TRADE_LIST -> tradeList(random);
+                case TRADE_DETAIL -> get("/tcg-trade/" + randomTrade(random).tradeId());
+                case CARD_LIST -> cardList(random);
+                case TRADE_REQUEST -> tradeRequest(random);
+                case REQUEST_ADVANCE -> requestAdvance(advance);
+            };
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() / 100 == 2;
+        } catch (Exception e) {
+            ok = false;
+        }
+
+        if (operation == LoadTestOperation.REQUEST_ADVANCE && ok
+                && advance.status().equals(TcgTradeRequestStatus.REQUEST.getCode())) {
+            // 진행으로 넘어갔으면 다음에 완료로 넘긴다
+            pendingRequests.offer(new LoadTestRequest(advance.tradeId(), advance.tradeRequestId(), advance.ownerUuid(),
+                    TcgTradeRequestStatus.PROCESS.getCode()));
+        }
+
+        if (stats != null) {
+            long latency = System.nanoTime() - intended;
+            stats.get(operation).record(latency, ok);
+            totalLatency.record(latency);
+        }
+    }
+
+    private HttpRequest tradeList(Random random) {
+        StringBuilder path = new StringBuilder("/tcg-trade?size=10&page=").append(1 + random.nextInt(5));
+        int filter = random.nextInt(10);
+        if (filter < 2) {
+            path.append("&myCardCode=").append(randomTrade(random).myCardCode());
+        } else if (filter < 3) {
+            List<String> wantCardCodes = randomTrade(random).wantCardCodes();
+            path.append("&wantCardCode=").append(wantCardCodes.get(random.nextInt(wantCardCodes.size())));
+        }
+        return get(path.toString());
+    }
+
+    private HttpRequest cardList(Random random) {
+        StringBuilder path = new StringBuilder("/pokemon-card/list?size=10&page=").append(1 + random.nextInt(3));
+        int filter = random.nextInt(10);
+        if (filter < 3) {
+            path.append("&rarity=").append(RARITIES[random.nextInt(RARITIES.length)].replace(" ", "%20"));
+        } else if (filter < 5) {
+            path.append("&element=").append(ELEMENTS[random.nextInt(ELEMENTS.length)]);
+        }
+        return get(path.toString());
+    }
+
+    private HttpRequest tradeRequest(Random random) throws JsonProcessingException {
+        LoadTestTrade trade = randomTrade(random);
+        LoadTestUser requester = data.users().get(random.nextInt(data.users().size()));
+        String cardCode = trade.wantCardCodes().get(random.nextInt(trade.wantCardCodes().size()));
+        TcgTradeRequestCreateRequest body = new TcgTradeRequestCreateRequest(requester.tcgCode(), cardCode, "카드 " + cardCode);
+
+        return request("/tcg-trade/" + trade.tradeId() + "/request", requester.uuid())
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest requestAdvance(LoadTestRequest advance) throws JsonProcessingException {
+        TcgTradeRequestPatchRequest body = new TcgTradeRequestPatchRequest(advance.tradeRequestId(), advance.status());
+
+        return request("/tcg-trade/request/" + advance.tradeId(), advance.ownerUuid())
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private LoadTestTrade randomTrade(Random random) {
+        return data.trades().get(random.nextInt(data.trades().size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String uuid) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .header("Authorization", authorizations.get(uuid));
+    }
+
+    private void report(LoadTestSettings settings, Map<LoadTestOperation, OperationStats> stats) {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%n%-16s %8s %8s %10s %10s %10s %10s %10s",
+                        "operation", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        long totalErrors = 0;
+        for (Map.Entry<LoadTestOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats stat = entry.getValue();
+            report.append(line(entry.getKey().name(), stat.latency.snapshot(), stat.errors.sum(), settings.durationSeconds()));
+            totalErrors += stat.errors.sum();
+        }
+        report.append(line("TOTAL", totalLatency.snapshot(), totalErrors, settings.durationSeconds()));
+
+        log.info("부하 테스트 결과 rate = {}/s, duration = {}s, concurrency = {}{}",
+                settings.rate(), settings.durationSeconds(), settings.concurrency(), report);
+    }
+
+    private static String line(String name, LatencyHistogram.Snapshot snapshot, long errors, int durationSeconds) {
+        return String.format("%n%-16s %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f",
+                name, snapshot.count(), errors, (double) snapshot.count() / durationSeconds,
+                snapshot.p50Micros() / 1000.0, snapshot.p99Micros() / 1000.0,
+                snapshot.p999Micros() / 1000.0, snapshot.maxMicros() / 1000.0);
+    }
+
+    /**
+     * 요청 종류와 비율 (가중치 합 100)
+     */
+    enum LoadTestOperation {
+        TRADE_LIST(35),
+        TRADE_DETAIL(20),
+        CARD_LIST(25),
+        TRADE_REQUEST(12),
+        REQUEST_ADVANCE(8);
+
+        private final int weight;
+
+        LoadTestOperation(int weight) {
+            this.weight = weight;
+        }
+
+        static LoadTestOperation pick(Random random) {
+            int value = random.nextInt(100);
+            for (LoadTestOperation operation : values()) {
+                value -= operation.weight;
+                if (value < 0) return operation;
+            }
+            return TRADE_LIST;
+        }
+    }
+
+    private static final class OperationStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean success) {
+            latency.record(nanos);
+            if (success) {
+                ok.increment();
+            } else {
+                errors.increment();
+            }
+        }
+    }
+
+    /**
+     * 부하 테스트 설정, 시스템 프로퍼티로 바꾼다 (./gradlew loadTest -Dload.rate=500)
+     *
+     * @param seed 데이터, 요청 순서 seed (load.seed)
+     * @param users 사용자 수 (load.users)
+     * @param trades 교환글 수 (load.trades)
+     * @param requests 미리 만들어 둘 교환 요청 수 (load.requests)
+     * @param rate 초당 요청 수 (load.rate)
+     * @param warmupSeconds 측정 전 warmup 시간 (load.warmup-seconds)
+     * @param durationSeconds 측정 시간 (load.duration-seconds)
+     * @param concurrency 요청을 보내는 스레드 수 (load.concurrency)
+     */
+    record LoadTestSettings(long seed, int users, int trades, int requests, int rate,
+                            int warmupSeconds, int durationSeconds, int concurrency) {
+
+        static LoadTestSettings fromSystemProperties() {
+            return new LoadTestSettings(
+                    Long.getLong("load.seed", 42L),
+                    Integer.getInteger("load.users", 200),
+                    Integer.getInteger("load.trades", 2_000),
+                    Integer.getInteger("load.requests", 1_000),
+                    Math.max(1, Integer.getInteger("load.rate", 200)),
+                    Integer.getInteger("load.warmup-seconds", 5),
+                    Math.max(1, Integer.getInteger("load.duration-seconds", 30)),
+                    Math.max(1, Integer.getInteger("load.concurrency", 32)));
+        }
+    }
+}
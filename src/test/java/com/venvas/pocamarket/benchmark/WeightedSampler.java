@@ -0,0 +1,47 @@
+package com.venvas.pocamarket.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 가중치 표본 추출 (누적 가중치 이진 탐색)
+ */
+final class WeightedSampler<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    private WeightedSampler(List<T> values, double[] weights) {
+        this.values = List.copyOf(values);
+        this.cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+    }
+
+    /**
+     * 순위 i (0 부터) 의 가중치가 bias(value) / (i + 1)^exponent
+     *
+     * @param ranked 인기 순으로 나열한 값
+     */
+    static <T> WeightedSampler<T> zipf(List<T> ranked, double exponent, ToDoubleFunction<T> bias) {
+        if (ranked.isEmpty()) throw new IllegalArgumentException("값이 비어 있습니다.");
+
+        double[] weights = new double[ranked.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = bias.applyAsDouble(ranked.get(i)) / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler<>(ranked, weights);
+    }
+
+    T next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        if (index < 0) index = -index - 1;
+        return values.get(Math.min(index, values.size() - 1));
+    }
+}
@@ -0,0 +1,112 @@
+package com.venvas.pocamarket.benchmark;
+
+import com.venvas.pocamarket.config.BaseTestAnnotations;
+import com.venvas.pocamarket.config.IntegratedTestConfig;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardUpdateService;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCreateRequest;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeService;
+import com.venvas.pocamarket.service.user.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 경로 JDBC 배치 측정
+ * Hibernate 통계로 엔티티 INSERT 수 대비 실제 준비된 SQL 문 수와 소요 시간을 기록한다
+ * IDENTITY 키를 쓰면 INSERT 한 건마다 SQL 문 하나가 나가고, pooled 시퀀스 + order_inserts 면 엔티티 종류별로 묶여서 나간다
+ */
+@Slf4j
+@BaseTestAnnotations
+class WriteBatchBenchmarkTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TcgTradeService tcgTradeService;
+
+    @Autowired
+    private PokemonCardUpdateService pokemonCardUpdateService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("원하는 카드 3장 교환글 생성: 카드 코드 4건이 한 배치로 저장")
+    void createTradeWithThreeWantCards() {
+        // given
+        User user = IntegratedTestConfig.createTestUser("bench-uuid", "benchUser", "벤치유저", "bench@test.com");
+        em.persist(user);
+        em.flush();
+        TcgTradeCreateRequest request = new TcgTradeCreateRequest("a1-001", List.of("a1-002", "a1-003", "a1-004"), "1234567890123456");
+
+        // 시퀀스 pool 을 채워두고 측정 (이후 생성은 시퀀스 조회 없이 ID 할당)
+        tcgTradeService.createTrade(request, user.getUuid());
+        em.flush();
+
+        // when
+        Measured measured = measure(() -> {
+            tcgTradeService.createTrade(request, user.getUuid());
+            em.flush();
+        });
+
+        // then
+        log.info("교환글 생성 (원하는 카드 3장) inserts = {}, statements = {}, elapsed = {}ms",
+                measured.inserts(), measured.statements(), measured.elapsedMillis());
+        assertThat(measured.inserts()).isEqualTo(5);
+        // 사용자 조회 1 + 교환글 INSERT 1 + 카드 코드 INSERT 배치 1
+        assertThat(measured.statements()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a1-genetic-apex.json 가져오기: 카드, 공격, 특성 INSERT 가 배치로 저장")
+    void importGeneticApex() {
+        // when
+        Measured measured = measure(() -> {
+            pokemonCardUpdateService.upsertJsonData("a1-genetic-apex", "a1");
+            em.flush();
+        });
+
+        // then
+        log.info("a1-genetic-apex 가져오기 inserts = {}, statements = {}, elapsed = {}ms",
+                measured.inserts(), measured.statements(), measured.elapsedMillis());
+        assertThat(measured.inserts()).isGreaterThan(500);
+        // 시퀀스 조회 (50건마다 1) + 엔티티 종류별 INSERT 배치 + 기존 카드 조회
+        assertThat(measured.statements()).isLessThan(measured.inserts() / 10);
+    }
+
+    private Measured measure(Runnable action) {
+        statistics.clear();
+        long start = System.nanoTime();
+        action.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new Measured(statistics.getEntityInsertCount(), statistics.getPrepareStatementCount(), elapsedMillis);
+    }
+
+    private record Measured(long inserts, long statements, long elapsedMillis) {
+    }
+}
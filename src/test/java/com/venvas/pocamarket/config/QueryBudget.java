@@ -0,0 +1,26 @@
+package com.venvas.pocamarket.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 하나에서 실행할 수 있는 SQL 문장 수 제한
+ * - 테스트 본문 (@BeforeEach 제외) 동안 InstrumentedDataSource 를 거친 문장을 센다
+ * - max 를 넘으면 실행한 SQL 목록과 함께 테스트 실패
+ * - 클래스에 붙이면 모든 테스트 메서드에 적용, 메서드에 붙인 값이 우선
+ * - 쓰기 문장은 flush 해야 세어지므로 트랜잭션 롤백 테스트에서는 flush 후 확인
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * 최대 SQL 문장 수
+     */
+    int max();
+}
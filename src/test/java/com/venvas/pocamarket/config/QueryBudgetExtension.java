@@ -0,0 +1,61 @@
+package com.venvas.pocamarket.config;
+
+import com.venvas.pocamarket.infrastructure.metrics.SqlRequestContext;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * QueryBudget 처리
+ * 테스트 본문 직전에 SqlRequestContext 를 열고, 본문이 끝나면 닫아서 문장 수를 확인한다
+ * SpringExtension 의 트랜잭션 시작 (beforeEach) 뒤, 롤백 (afterEach) 전에 실행된다
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlRequestContext.open(true));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlRequestContext sql = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlRequestContext.class);
+        if (sql == null) return;
+        sql.close();
+
+        // 테스트가 이미 실패했으면 그 실패를 그대로 보여준다
+        if (context.getExecutionException().isPresent()) return;
+
+        findBudget(context).ifPresent(budget -> verify(budget.max(), sql.getSqls()));
+    }
+
+    /**
+     * 문장 수가 max 를 넘으면 같은 SQL 끼리 묶은 실행 목록과 함께 실패
+     */
+    static void verify(int max, List<String> sqls) {
+        if (sqls.size() <= max) return;
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        sqls.forEach(sql -> counts.merge(sql, 1, Integer::sum));
+
+        StringBuilder message = new StringBuilder()
+                .append("SQL 문장 수가 예산을 넘었습니다. max = ").append(max)
+                .append(", actual = ").append(sqls.size());
+        counts.forEach((sql, count) -> message.append(System.lineSeparator())
+                .append("  ").append(count).append("x ").append(sql));
+        throw new AssertionError(message.toString());
+    }
+
+    private static Optional<QueryBudget> findBudget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class));
+    }
+}
@@ -0,0 +1,130 @@
+package com.venvas.pocamarket.config;
+
+import com.venvas.pocamarket.infrastructure.metrics.InstrumentedDataSource;
+import com.venvas.pocamarket.infrastructure.metrics.SqlMetrics;
+import com.venvas.pocamarket.infrastructure.metrics.SqlTraceMode;
+import com.venvas.pocamarket.infrastructure.metrics.SqlTracer;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+/**
+ * QueryBudget 테스트
+ * Fixture 를 JUnit 엔진으로 직접 실행해서 예산 안의 테스트는 통과하고,
+ * 예산을 넘은 테스트는 같은 SQL 끼리 묶은 실행 목록과 함께 실패하는지 확인합니다.
+ */
+class QueryBudgetExtensionTest {
+
+    private static final String FIXTURE_PROPERTY = "query-budget.fixture";
+
+    @AfterEach
+    void afterEach() {
+        System.clearProperty(FIXTURE_PROPERTY);
+    }
+
+    @Test
+    @DisplayName("예산 안의 테스트는 통과하고, 예산을 넘은 테스트는 묶은 SQL 목록과 함께 실패")
+    void runExtension() {
+        // given
+        System.setProperty(FIXTURE_PROPERTY, "true");
+
+        // when
+        Events tests = EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(Fixture.class))
+                .execute()
+                .testEvents();
+
+        // then
+        tests.assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+        tests.assertThatEvents().haveExactly(1, event(test("overBudget"), finishedWithFailure(
+                instanceOf(AssertionError.class),
+                message(m -> m.contains("max = 2, actual = 4")
+                        && m.contains("1x SELECT COUNT(*) FROM card")
+                        && m.contains("3x SELECT code FROM card WHERE code = ?")))));
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 같은 SQL 끼리 묶어서 실패 메시지에 표시")
+    void verifyGroupsSql() {
+        // given
+        List<String> sqls = List.of(
+                "SELECT * FROM tcg_trade WHERE trade_id = ?",
+                "SELECT * FROM pokemon_attack WHERE card_id = ?",
+                "SELECT * FROM pokemon_attack WHERE card_id = ?",
+                "SELECT * FROM pokemon_attack WHERE card_id = ?");
+
+        // when & then
+        assertThatCode(() -> QueryBudgetExtension.verify(4, sqls)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> QueryBudgetExtension.verify(2, sqls))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("max = 2, actual = 4")
+                .hasMessageContaining("1x SELECT * FROM tcg_trade WHERE trade_id = ?")
+                .hasMessageContaining("3x SELECT * FROM pokemon_attack WHERE card_id = ?");
+    }
+
+    /**
+     * runExtension 에서 엔진으로 실행하는 테스트, 일반 테스트 실행에서는 건너뛴다
+     */
+    @EnabledIfSystemProperty(named = FIXTURE_PROPERTY, matches = "true")
+    static class Fixture {
+
+        private InstrumentedDataSource dataSource;
+
+        @BeforeEach
+        void beforeEach() throws Exception {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL("jdbc:h2:mem:budget;DB_CLOSE_DELAY=-1");
+            dataSource = new InstrumentedDataSource(h2, new SqlMetrics(new SqlTracer(SqlTraceMode.OFF, 100, 200, 1024, 50)));
+
+            // @BeforeEach 의 문장은 예산에 포함되지 않는다
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS card");
+                statement.execute("CREATE TABLE card (code VARCHAR(20))");
+            }
+        }
+
+        @Test
+        @QueryBudget(max = 2)
+        void withinBudget() throws Exception {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.executeQuery("SELECT COUNT(*) FROM card").close();
+                statement.executeQuery("SELECT code FROM card").close();
+            }
+        }
+
+        @Test
+        @QueryBudget(max = 2)
+        void overBudget() throws Exception {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.executeQuery("SELECT COUNT(*) FROM card").close();
+            }
+            // 카드마다 한 번씩 조회하는 N+1
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT code FROM card WHERE code = ?")) {
+                for (String code : List.of("A1-001", "A1-002", "A1-003")) {
+                    statement.setString(1, code);
+                    statement.executeQuery().close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InstrumentedDataSource, SqlRequestContext, LatencyHistogram 테스트
+ * H2 DataSource 를 감싸서 실행한 문장 수, 읽은 row 수가 요청 집계와 전체 집계에 기록되는지 확인합니다.
+ */
+class InstrumentedDataSourceTest {
+
+    private SqlMetrics sqlMetrics;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1");
+        sqlMetrics = new SqlMetrics(new SqlTracer(SqlTraceMode.OFF, 100, 200, 1024, 50));
+        dataSource = new InstrumentedDataSource(h2, sqlMetrics);
+
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS card");
+            statement.execute("CREATE TABLE card (code VARCHAR(20))");
+            statement.execute("INSERT INTO card VALUES ('a1-001'), ('a1-002'), ('a1-003')");
+        }
+    }
+
+    @Test
+    @DisplayName("요청 집계에 문장 수, SQL, 읽은 row 수, 커넥션 수를 기록")
+    void recordStatements() throws Exception {
+        // given
+        SqlRequestContext context = SqlRequestContext.open(true);
+
+        // when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT code FROM card WHERE code <> ?")) {
+            statement.setString(1, "a1-002");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    assertThat(resultSet.getString(1)).startsWith("a1-");
+                }
+            }
+            try (Statement count = connection.createStatement()) {
+                count.executeQuery("SELECT COUNT(*) FROM card").close();
+            }
+        } finally {
+            context.close();
+        }
+
+        // then
+        assertThat(context.getStatements()).isEqualTo(2);
+        assertThat(context.getSqls()).containsExactly("SELECT code FROM card WHERE code <> ?", "SELECT COUNT(*) FROM card");
+        assertThat(context.getRows()).isEqualTo(2);
+        assertThat(context.getConnections()).isEqualTo(1);
+        assertThat(sqlMetrics.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("닫은 요청 집계에는 더 기록하지 않는다")
+    void closedContext() throws Exception {
+        // given
+        SqlRequestContext context = SqlRequestContext.open(false);
+        context.close();
+
+        // when
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+
+        // then
+        assertThat(context.getStatements()).isZero();
+        assertThat(sqlMetrics.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위는 로그 구간 오차 안에서 실제 값과 같다")
+    void histogramPercentile() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when (1ms ~ 1000ms)
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.p50Micros()).isBetween(500_000L, 550_000L);
+        assertThat(snapshot.p99Micros()).isBetween(990_000L, 1_000_000L);
+        assertThat(snapshot.maxMicros()).isEqualTo(1_000_000L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PrometheusTextWriter 테스트
+ * 응답 시간 히스토그램이 le 별 누적 _bucket, _sum, _count 로 나오는지 확인합니다.
+ */
+class PrometheusTextWriterTest {
+
+    @Test
+    @DisplayName("히스토그램은 le 별 누적 횟수와 +Inf, _sum, _count 로 작성")
+    void histogram() {
+        // given (2ms 1 번, 20ms 2 번, 2s 1 번)
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_000_000L);
+        histogram.record(20_000_000L);
+        histogram.record(20_000_000L);
+        histogram.record(2_000_000_000L);
+
+        // when
+        String text = new PrometheusTextWriter()
+                .type("http_server_requests_seconds", "histogram", "경로별 응답 시간")
+                .histogram("http_server_requests_seconds", histogram.snapshot(), "route", "GET /tcg-trade")
+                .toString();
+
+        // then
+        assertThat(text)
+                .contains("# TYPE http_server_requests_seconds histogram")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"0.001\"} 0\n")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"0.0025\"} 1\n")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"0.025\"} 3\n")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"1\"} 3\n")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"2.5\"} 4\n")
+                .contains("http_server_requests_seconds_bucket{route=\"GET /tcg-trade\",le=\"+Inf\"} 4\n")
+                .contains("http_server_requests_seconds_sum{route=\"GET /tcg-trade\"} 2.042\n")
+                .contains("http_server_requests_seconds_count{route=\"GET /tcg-trade\"} 4\n")
+                .doesNotContain("quantile");
+    }
+}
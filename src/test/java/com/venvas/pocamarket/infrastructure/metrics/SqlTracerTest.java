@@ -0,0 +1,90 @@
+package com.venvas.pocamarket.infrastructure.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlTracer, SqlTraceRingBuffer 테스트
+ * appender 스레드 없이 drain 을 직접 호출해서 추적 모드별로 남는 문장과 bind 값 타입을 확인합니다.
+ */
+class SqlTracerTest {
+
+    @Test
+    @DisplayName("FULL 모드는 모든 문장을 bind 값 타입과 함께 느린 순으로 보관")
+    void fullModeKeepsSlowest() throws Exception {
+        // given
+        SqlTracer sqlTracer = new SqlTracer(SqlTraceMode.FULL, 100, 200, 1024, 2);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:traced;DB_CLOSE_DELAY=-1");
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, new SqlMetrics(sqlTracer));
+
+        // when
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT CAST(? AS VARCHAR), CAST(? AS BIGINT)")) {
+            statement.setString(1, "a1-001");
+            statement.setNull(2, Types.BIGINT);
+            statement.executeQuery().close();
+        }
+        sqlTracer.onStatement("SELECT 1", null, 5_000_000_000L, false);
+        sqlTracer.onStatement("SELECT 2", null, 1, false);
+        int drained = sqlTracer.drain();
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        List<SqlTraceRecord> slowest = sqlTracer.getSlowest(10);
+        assertThat(slowest).hasSize(2);
+        assertThat(slowest.get(0).sql()).isEqualTo("SELECT 1");
+        assertThat(slowest).anySatisfy(record -> {
+            assertThat(record.sql()).isEqualTo("SELECT CAST(? AS VARCHAR), CAST(? AS BIGINT)");
+            assertThat(record.bindShape()).isEqualTo("[String, null]");
+        });
+        assertThat(sqlTracer.getStats().logged()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SAMPLED 모드는 추적 대상 요청이 아니면 느린 문장만 보관")
+    void sampledModeKeepsSlowStatements() {
+        // given
+        SqlTracer sqlTracer = new SqlTracer(SqlTraceMode.SAMPLED, 100, 200, 1024, 10);
+
+        // when
+        sqlTracer.onStatement("SELECT fast", null, 1_000_000, false);
+        sqlTracer.onStatement("SELECT slow", null, 300_000_000, false);
+        sqlTracer.onStatement("SELECT sampled", null, 1_000, true);
+        sqlTracer.drain();
+
+        // then
+        assertThat(sqlTracer.getSlowest(10))
+                .extracting(SqlTraceRecord::sql)
+                .containsExactly("SELECT slow", "SELECT sampled");
+    }
+
+    @Test
+    @DisplayName("ring buffer 가 밀리면 오래된 기록을 버리고 버린 수를 센다")
+    void ringBufferDropsOldest() {
+        // given
+        SqlTraceRingBuffer buffer = new SqlTraceRingBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(sequence -> new SqlTraceRecord(sequence, "SELECT " + sequence, null, 1, 0, "test"));
+        }
+
+        // when
+        List<SqlTraceRecord> records = new ArrayList<>();
+        int drained = buffer.drainTo(records, 100);
+
+        // then
+        assertThat(drained).isEqualTo(4);
+        assertThat(records).extracting(SqlTraceRecord::sequence).containsExactly(6L, 7L, 8L, 9L);
+        assertThat(buffer.getDropped()).isEqualTo(6);
+        assertThat(buffer.getWritten()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,142 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.venvas.pocamarket.infrastructure.config.JwtProperties;
+import com.venvas.pocamarket.infrastructure.util.JwtTokenProvider;
+import com.venvas.pocamarket.service.user.application.dto.JwtVerifyStatsDto;
+import com.venvas.pocamarket.service.user.domain.exception.JwtErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * JwtTokenVerifier 테스트
+ */
+class JwtTokenVerifierTest {
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void beforeEach() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey("testtesttesttesttesttesttesttesttesttesttesttesttesttesttesttest");
+        properties.setAccessTokenValidityInMs(3_600_000);
+        properties.setRefreshTokenValidityInMs(86_400_000);
+        provider = spy(new JwtTokenProvider(properties));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한번만 파싱하고 클레임을 principal 로 반환")
+    void verifyOnceAndCache() {
+        // given
+        JwtTokenVerifier verifier = new JwtTokenVerifier(provider, Clock.systemUTC(), 10);
+        String token = provider.createAccessToken("uuid-1", "USER");
+
+        // when
+        JwtVerification first = verifier.verify(token);
+        JwtVerification second = verifier.verify(token);
+
+        // then
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.principal()).isEqualTo(first.principal());
+        assertThat(second.principal().uuid()).isEqualTo("uuid-1");
+        assertThat(second.principal().grade()).isEqualTo("USER");
+        assertThat(second.principal().subject()).isEqualTo(JwtTokenProvider.ACCESS_TOKEN_NAME);
+        verify(provider, times(1)).verify(token);
+
+        JwtVerifyStatsDto stats = verifier.getStats();
+        assertThat(stats.verifications()).isEqualTo(2);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 만료로 처리")
+    void expiredCachedToken() {
+        // given
+        String token = provider.createAccessToken("uuid-1", "USER");
+        MutableClock clock = new MutableClock(Instant.now());
+        JwtTokenVerifier verifier = new JwtTokenVerifier(provider, clock, 10);
+        verifier.verify(token);
+
+        // when
+        clock.advance(Duration.ofHours(2));
+        JwtVerification expired = verifier.verify(token);
+
+        // then
+        assertThat(expired.isValid()).isFalse();
+        assertThat(expired.errorCode()).isEqualTo(JwtErrorCode.TOKEN_EXPIRED);
+        assertThat(verifier.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("서명이 틀린 토큰은 실패하고 캐시하지 않는다")
+    void invalidTokenNotCached() {
+        // given
+        JwtTokenVerifier verifier = new JwtTokenVerifier(provider, Clock.systemUTC(), 10);
+        String token = provider.createAccessToken("uuid-1", "USER") + "x";
+
+        // when
+        JwtVerification first = verifier.verify(token);
+        JwtVerification second = verifier.verify(token);
+
+        // then
+        assertThat(first.errorCode()).isEqualTo(JwtErrorCode.FAIL_AUTHENTICATION);
+        assertThat(second.errorCode()).isEqualTo(JwtErrorCode.FAIL_AUTHENTICATION);
+        assertThat(verifier.getStats().failures()).isEqualTo(2);
+        assertThat(verifier.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래 사용하지 않은 토큰부터 제거")
+    void boundedSize() {
+        // given
+        JwtTokenVerifier verifier = new JwtTokenVerifier(provider, Clock.systemUTC(), 2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            verifier.verify(provider.createAccessToken("uuid-" + i, "USER"));
+        }
+
+        // then
+        assertThat(verifier.getStats().size()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
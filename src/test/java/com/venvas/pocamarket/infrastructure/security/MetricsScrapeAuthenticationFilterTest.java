@@ -0,0 +1,70 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MetricsScrapeAuthenticationFilter 테스트
+ * 수집용 Basic 인증은 GET /admin/metrics 에서만 METRICS 권한이 되는지 확인합니다.
+ */
+class MetricsScrapeAuthenticationFilterTest {
+
+    private final MetricsScrapeAuthenticationFilter filter =
+            new MetricsScrapeAuthenticationFilter(new MetricsScrapeCredential("prometheus", "scrape-secret"));
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("맞는 계정으로 /admin/metrics 를 조회하면 METRICS 권한으로 인증")
+    void authenticatesScrape() throws Exception {
+        // when
+        Authentication authentication = run("GET", "/admin/metrics", basic("prometheus", "scrape-secret"));
+
+        // then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_" + MetricsScrapeAuthenticationFilter.ROLE);
+    }
+
+    @Test
+    @DisplayName("틀린 계정, 다른 관리자 경로, 계정 미설정이면 인증하지 않는다")
+    void ignoresOtherRequests() throws Exception {
+        assertThat(run("GET", "/admin/metrics", basic("prometheus", "wrong"))).isNull();
+        assertThat(run("GET", "/admin/metrics", "Basic not-base64!")).isNull();
+        assertThat(run("GET", "/admin/sql-trace/slowest", basic("prometheus", "scrape-secret"))).isNull();
+        assertThat(run("POST", "/admin/metrics", basic("prometheus", "scrape-secret"))).isNull();
+
+        MetricsScrapeCredential disabled = new MetricsScrapeCredential("prometheus", "");
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.matches(basic("prometheus", ""))).isFalse();
+    }
+
+    private Authentication run(String method, String path, String authorization) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ':' + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
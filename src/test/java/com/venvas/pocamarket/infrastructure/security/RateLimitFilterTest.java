@@ -0,0 +1,91 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitFilter 테스트
+ * 운영의 forward-headers-strategy: native (Tomcat RemoteIpValve) 와 같은 처리를 하는 RemoteIpFilter 를 앞에 두고
+ * 프록시를 거친 익명 요청이 X-Forwarded-For 의 클라이언트 IP 별로 따로 제한되는지 확인합니다.
+ */
+class RateLimitFilterTest {
+
+    // application-prod.yml server.tomcat.remoteip.internal-proxies 와 같은 값
+    private static final String INTERNAL_PROXIES =
+            "127\\.0\\.0\\.1|0:0:0:0:0:0:0:1|172\\.(1[6-9]|2[0-9]|3[01])\\.\\d{1,3}\\.\\d{1,3}";
+    private static final String PROXY_ADDR = "172.18.0.1";
+
+    private RemoteIpFilter remoteIpFilter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void beforeEach() {
+        remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.setInternalProxies(INTERNAL_PROXIES);
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(true));
+    }
+
+    @Test
+    @DisplayName("프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 별로 버킷을 나눈다")
+    void forwardedClientsHaveSeparateBuckets() throws Exception {
+        // given
+        int capacity = RateLimitPolicy.LOGIN.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            assertThat(login(PROXY_ADDR, "203.0.113.10").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        // when
+        MockHttpServletResponse limited = login(PROXY_ADDR, "203.0.113.10");
+        MockHttpServletResponse other = login(PROXY_ADDR, "198.51.100.20");
+
+        // then
+        assertThat(limited.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(other.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 직접 온 요청은 X-Forwarded-For 를 바꿔도 같은 버킷")
+    void spoofedForwardedForIgnored() throws Exception {
+        // given
+        String directAddr = "203.0.113.99";
+        int capacity = RateLimitPolicy.LOGIN.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            assertThat(login(directAddr, "198.51.100." + i).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        // when
+        MockHttpServletResponse response = login(directAddr, "198.51.100.200");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    private MockHttpServletResponse login(String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new MockFilterChain(new OkServlet(), remoteIpFilter, rateLimitFilter).doFilter(request, response);
+        return response;
+    }
+
+    private static class OkServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            response.setStatus(HttpStatus.OK.value());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.venvas.pocamarket.infrastructure.security;
+
+import com.venvas.pocamarket.service.user.application.dto.RateLimitStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimiter, RateLimitPolicy 테스트
+ */
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void beforeEach() {
+        rateLimiter = new RateLimiter(true, now::get);
+    }
+
+    @Test
+    @DisplayName("capacity 만큼 허용 후 차단하고, 시간이 지나면 채워진 만큼 다시 허용")
+    void acquireAndRefill() {
+        // given
+        String key = RateLimitPolicy.LOGIN.keyOf(null, "127.0.0.1", "/login");
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(RateLimitPolicy.LOGIN, key)).isZero();
+        }
+
+        // when
+        long waitNanos = rateLimiter.tryAcquire(RateLimitPolicy.LOGIN, key);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        // then (1분에 5개, 12초에 1개)
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(12));
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.LOGIN, key)).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.LOGIN, key)).isPositive();
+
+        RateLimitStatsDto.Route route = rateLimiter.getStats().routes().get(RateLimitPolicy.LOGIN.name());
+        assertThat(route.allowed()).isEqualTo(6);
+        assertThat(route.rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("끌어올리기는 교환글마다 따로 세고, 실패한 요청은 토큰을 돌려준다")
+    void refreshPerTradeAndRefund() {
+        // given
+        String trade1 = RateLimitPolicy.TRADE_REFRESH.keyOf("uuid-1", "127.0.0.1", "/tcg-trade/refresh/1");
+        String trade2 = RateLimitPolicy.TRADE_REFRESH.keyOf("uuid-1", "127.0.0.1", "/tcg-trade/refresh/2");
+
+        // when, then
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.TRADE_REFRESH, trade1)).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.TRADE_REFRESH, trade1)).isPositive();
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.TRADE_REFRESH, trade2)).isZero();
+
+        rateLimiter.refund(RateLimitPolicy.TRADE_REFRESH, trade2);
+        assertThat(rateLimiter.tryAcquire(RateLimitPolicy.TRADE_REFRESH, trade2)).isZero();
+    }
+
+    @Test
+    @DisplayName("다 채워진 버킷은 정리")
+    void evictIdle() {
+        // given
+        rateLimiter.tryAcquire(RateLimitPolicy.NICKNAME_CHECK, "ip:1");
+        rateLimiter.tryAcquire(RateLimitPolicy.TRADE_REFRESH, "u:1:/tcg-trade/refresh/1");
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.evictIdle();
+
+        // then (닉네임 확인은 1초에 1개라 다 채워졌고, 끌어올리기는 아직 남음)
+        assertThat(rateLimiter.getStats().buckets()).isEqualTo(1);
+        assertThat(rateLimiter.getStats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메서드, 경로로 정책을 찾고 로그인 사용자는 uuid, 로그인은 항상 IP 로 센다")
+    void matchPolicy() {
+        assertThat(RateLimitPolicy.match("GET", "/tcg-trade")).isEqualTo(RateLimitPolicy.TRADE_SEARCH);
+        assertThat(RateLimitPolicy.match("POST", "/tcg-trade/10/request")).isEqualTo(RateLimitPolicy.TRADE_REQUEST);
+        assertThat(RateLimitPolicy.match("GET", "/tcg-trade/10")).isNull();
+        assertThat(RateLimitPolicy.TRADE_SEARCH.keyOf("uuid-1", "127.0.0.1", "/tcg-trade")).isEqualTo("u:uuid-1");
+        assertThat(RateLimitPolicy.LOGIN.keyOf("uuid-1", "127.0.0.1", "/login")).isEqualTo("ip:127.0.0.1");
+    }
+}
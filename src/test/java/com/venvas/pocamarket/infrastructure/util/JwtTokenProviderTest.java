@@ -0,0 +1,71 @@
+package com.venvas.pocamarket.infrastructure.util;
+
+import com.venvas.pocamarket.infrastructure.config.JwtProperties;
+import com.venvas.pocamarket.infrastructure.security.JwtVerification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider 테스트
+ */
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void beforeEach() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey("testtesttesttesttesttesttesttesttesttesttesttesttesttesttesttest");
+        properties.setAccessTokenValidityInMs(3_600_000);
+        properties.setRefreshTokenValidityInMs(86_400_000);
+        provider = new JwtTokenProvider(properties);
+    }
+
+    @Test
+    @DisplayName("발급 결과의 만료 시각은 토큰의 exp 와 같다")
+    void issuedExpiryMatchesToken() {
+        // when
+        IssuedToken access = provider.issueAccessToken("uuid-1", "USER");
+        IssuedToken refresh = provider.issueRefreshToken("uuid-1", "USER");
+
+        // then
+        assertThat(provider.verify(access.token()).principal().expiresAt()).isEqualTo(access.expiresAt());
+        assertThat(provider.verify(refresh.token()).principal().expiresAt()).isEqualTo(refresh.expiresAt());
+        assertThat(refresh.expiresAt()).isAfter(access.expiresAt());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 각자 자기 토큰의 만료 시각을 받는다")
+    void concurrentIssue() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<IssuedToken>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            String uuid = "uuid-" + i;
+            boolean access = i % 2 == 0;
+            futures.add(executor.submit(() -> access
+                    ? provider.issueAccessToken(uuid, "USER")
+                    : provider.issueRefreshToken(uuid, "USER")));
+        }
+
+        // then
+        for (Future<IssuedToken> future : futures) {
+            IssuedToken issued = future.get();
+            JwtVerification verification = provider.verify(issued.token());
+            assertThat(verification.isValid()).isTrue();
+            assertThat(verification.principal().expiresAt()).isEqualTo(issued.expiresAt());
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.cache;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardCacheStatsDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardDetailDto;
+import com.venvas.pocamarket.service.pokemon.infrastructure.catalog.PokemonCardCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PokemonCardDetailCache 테스트
+ */
+class PokemonCardDetailCacheTest {
+
+    private PokemonCardCatalog catalog;
+    private PokemonCardDetailCache cache;
+    private AtomicInteger loadCount;
+    private Function<String, Optional<PokemonCardDetailDto>> loader;
+
+    @BeforeEach
+    void beforeEach() {
+        catalog = mock(PokemonCardCatalog.class);
+        when(catalog.getVersion()).thenReturn(1L);
+        cache = new PokemonCardDetailCache(catalog);
+        loadCount = new AtomicInteger();
+        loader = code -> {
+            loadCount.incrementAndGet();
+            return "a1-001".equals(code) ? Optional.of(detail(code)) : Optional.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 코드는 한번만 조회, 없는 코드도 캐시")
+    void cacheHitAndNegative() {
+        // when
+        cache.get("a1-001", loader);
+        Optional<PokemonCardDetailDto> hit = cache.get("a1-001", loader);
+        cache.get("a9-999", loader);
+        Optional<PokemonCardDetailDto> negativeHit = cache.get("a9-999", loader);
+
+        // then
+        PokemonCardCacheStatsDto stats = cache.getStats();
+        assertThat(hit).isPresent();
+        assertThat(negativeHit).isEmpty();
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 다시 조회")
+    void invalidateByVersion() {
+        // given
+        cache.get("a1-001", loader);
+
+        // when
+        when(catalog.getVersion()).thenReturn(2L);
+        cache.get("a1-001", loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getStats().version()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 항목부터 제거")
+    void eviction() {
+        // when
+        for (int i = 0; i < PokemonCardDetailCache.MAX_SIZE + 5; i++) {
+            cache.get("code-" + i, loader);
+        }
+
+        // then
+        PokemonCardCacheStatsDto stats = cache.getStats();
+        assertThat(stats.size()).isEqualTo(PokemonCardDetailCache.MAX_SIZE);
+        assertThat(stats.evictions()).isEqualTo(5);
+    }
+
+    private PokemonCardDetailDto detail(String code) {
+        return new PokemonCardDetailDto(code, "이상해씨", "GRASS", "POKEMON", "BASIC", 70,
+                "Genetic Apex (A1)", "Mewtwo", 1, "FIRE", null, "COMMON", List.of(), List.of());
+    }
+}
@@ -0,0 +1,192 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.catalog;
+
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardJsonDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListDto;
+import com.venvas.pocamarket.service.pokemon.application.dto.pokemoncard.PokemonCardListFormDto;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.pokemon.domain.exception.PokemonException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PokemonCardCatalogSnapshot 테스트
+ * DB 없이 카드 목록으로 스냅샷을 만들어 검색 결과를 확인합니다.
+ */
+class PokemonCardCatalogSnapshotTest {
+
+    private PokemonCardCatalogSnapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() {
+        List<PokemonCard> cards = List.of(
+                card("a1-003", "이상해꽃", "GRASS", "POKEMON", "STAGE_2", "Genetic Apex (A1)", "Mewtwo", "RARE", 3),
+                card("a1-001", "이상해씨", "GRASS", "POKEMON", "BASIC", "Genetic Apex (A1)", "Mewtwo", "COMMON", 1),
+                card("a1-033", "파이리", "FIRE", "POKEMON", "BASIC", "Genetic Apex (A1)", "Charizard", "COMMON", 1),
+                card("a1a-001", "이상해풀", "GRASS", "POKEMON", "STAGE_1", "Mythical Island (A1a)", "Mew", "UNCOMMON", 2),
+                card("a1-219", "에리카", null, "TRAINER", "SUPPORTER", "Genetic Apex (A1)", "Charizard", "UNCOMMON", 2)
+        );
+        snapshot = new PokemonCardCatalogSnapshot(cards, 1L);
+    }
+
+    @Test
+    @DisplayName("조건 없이 조회하면 code 오름차순 정렬")
+    void searchSortByCode() {
+        // given
+        List<PokemonCardListDto> result = new ArrayList<>();
+
+        // when
+        long total = snapshot.search(filter(new PokemonCardListFormDto()), Sort.by("code"), 0, 30, result);
+
+        // then
+        assertThat(total).isEqualTo(5);
+        assertThat(result).extracting(PokemonCardListDto::getCode)
+                .containsExactly("a1-001", "a1-003", "a1-033", "a1-219", "a1a-001");
+    }
+
+    @Test
+    @DisplayName("이름, 속성, 확장팩 조건 조회")
+    void searchFilter() {
+        // given
+        PokemonCardListFormDto condition = new PokemonCardListFormDto();
+        condition.setNameKo("이상해");
+        condition.setElement("grass");
+        condition.setPackSet("a1");
+        List<PokemonCardListDto> result = new ArrayList<>();
+
+        // when
+        long total = snapshot.search(filter(condition), Sort.by("code"), 0, 30, result);
+
+        // then
+        assertThat(total).isEqualTo(2);
+        assertThat(result).extracting(PokemonCardListDto::getCode).containsExactly("a1-001", "a1-003");
+    }
+
+    @Test
+    @DisplayName("초성, 입력 중인 글자로 이름 검색")
+    void searchChosungAndJamo() {
+        // given
+        PokemonCardListFormDto chosung = new PokemonCardListFormDto();
+        chosung.setNameKo("ㅇㅅㅎ");
+        PokemonCardListFormDto typing = new PokemonCardListFormDto();
+        typing.setNameKo("이상해ㅍ");
+        List<PokemonCardListDto> result = new ArrayList<>();
+
+        // when
+        long chosungTotal = snapshot.search(filter(chosung), Sort.by("code"), 0, 30, new ArrayList<>());
+        long typingTotal = snapshot.search(filter(typing), Sort.by("code"), 0, 30, result);
+
+        // then
+        assertThat(chosungTotal).isEqualTo(3);
+        assertThat(typingTotal).isEqualTo(1);
+        assertThat(result).extracting(PokemonCardListDto::getCode).containsExactly("a1a-001");
+    }
+
+    @Test
+    @DisplayName("자동완성은 rarityNum 순, 입력 중인 글자도 접두어로 처리")
+    void suggest() {
+        // when
+        List<PokemonCardListDto> byName = snapshot.suggest("이상해", 10);
+        List<PokemonCardListDto> byChosung = snapshot.suggest("ㅇㅅㅎ", 2);
+        List<PokemonCardListDto> typing = snapshot.suggest("팡", 10);
+
+        // then
+        assertThat(byName).extracting(PokemonCardListDto::getCode).containsExactly("a1-001", "a1a-001", "a1-003");
+        assertThat(byChosung).extracting(PokemonCardListDto::getCode).containsExactly("a1-001", "a1a-001");
+        assertThat(typing).extracting(PokemonCardListDto::getCode).containsExactly("a1-033");
+    }
+
+    @Test
+    @DisplayName("서브타입은 타입 조건이 있을 때만 적용")
+    void searchSubtypeWithType() {
+        // given
+        PokemonCardListFormDto onlySubtype = new PokemonCardListFormDto();
+        onlySubtype.setSubtype("BASIC");
+        PokemonCardListFormDto withType = new PokemonCardListFormDto();
+        withType.setType("POKEMON");
+        withType.setSubtype("BASIC");
+
+        // when
+        long onlySubtypeTotal = snapshot.search(filter(onlySubtype), Sort.unsorted(), 0, 30, new ArrayList<>());
+        long withTypeTotal = snapshot.search(filter(withType), Sort.unsorted(), 0, 30, new ArrayList<>());
+
+        // then
+        assertThat(onlySubtypeTotal).isEqualTo(5);
+        assertThat(withTypeTotal).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("값 필터만 있으면 페이지를 채운 뒤에도 전체 수는 비트맵 개수")
+    void searchCountFromBitmap() {
+        // given
+        PokemonCardListFormDto condition = new PokemonCardListFormDto();
+        condition.setElement("GRASS,FIRE");
+        condition.setRarity("COMMON,UNCOMMON");
+        List<PokemonCardListDto> result = new ArrayList<>();
+
+        // when
+        long total = snapshot.search(filter(condition), Sort.by(Sort.Order.desc("code")), 0, 1, result);
+
+        // then
+        assertThat(total).isEqualTo(3);
+        assertThat(result).extracting(PokemonCardListDto::getCode).containsExactly("a1a-001");
+    }
+
+    @Test
+    @DisplayName("다중 정렬과 페이징")
+    void searchMultiSortAndPaging() {
+        // given
+        Sort sort = Sort.by(Sort.Order.desc("rarityNum"), Sort.Order.asc("code"));
+        List<PokemonCardListDto> result = new ArrayList<>();
+
+        // when
+        long total = snapshot.search(filter(new PokemonCardListFormDto()), sort, 1, 2, result);
+
+        // then
+        assertThat(total).isEqualTo(5);
+        assertThat(result).extracting(PokemonCardListDto::getCode).containsExactly("a1-219", "a1a-001");
+    }
+
+    @Test
+    @DisplayName("카드 코드로 표시 정보 조회")
+    void findByCode() {
+        // when
+        PokemonCardListDto found = snapshot.findByCode("a1a-001");
+        PokemonCardListDto notFound = snapshot.findByCode("a9-999");
+
+        // then
+        assertThat(found.getNameKo()).isEqualTo("이상해풀");
+        assertThat(found.getPackSet()).isEqualTo("Mythical Island (A1a)");
+        assertThat(notFound).isNull();
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 값은 예외")
+    void invalidValue() {
+        // given
+        PokemonCardListFormDto condition = new PokemonCardListFormDto();
+        condition.setRarity("SECRET");
+
+        // when & then
+        assertThatThrownBy(() -> CatalogFilter.from(condition))
+                .isInstanceOf(PokemonException.class);
+    }
+
+    private CatalogFilter filter(PokemonCardListFormDto condition) {
+        return CatalogFilter.from(condition);
+    }
+
+    private PokemonCard card(String code, String nameKo, String element, String type, String subtype,
+                             String packSet, String pack, String rarity, int rarityNum) {
+        PokemonCardJsonDto dto = new PokemonCardJsonDto(code, null, nameKo, element, type, subtype, null,
+                packSet, pack, null, null, null, rarity, rarityNum, List.of(), List.of());
+        return new PokemonCard(dto, List.of(), List.of());
+    }
+}
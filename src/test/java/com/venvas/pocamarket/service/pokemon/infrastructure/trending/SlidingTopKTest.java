@@ -0,0 +1,102 @@
+package com.venvas.pocamarket.service.pokemon.infrastructure.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlidingTopK 테스트
+ * 시각을 직접 움직이면서 구간 만료, 감소, 용량 초과 시 상위 카드 결과를 확인합니다.
+ */
+class SlidingTopKTest {
+
+    private static final long BUCKET_MILLIS = 1000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SlidingTopK topK;
+
+    @BeforeEach
+    void beforeEach() {
+        topK = new SlidingTopK(4, BUCKET_MILLIS, 10, now::get);
+    }
+
+    @Test
+    @DisplayName("횟수 desc, 카드 코드 asc 순으로 상위 size 개")
+    void top() {
+        // given
+        add("a1-001", 3);
+        add("a1-002", 5);
+        add("a1-003", 3);
+
+        // when
+        List<TrendingCount> result = topK.top(2);
+
+        // then
+        assertThat(result).extracting(TrendingCount::key).containsExactly("a1-002", "a1-001");
+        assertThat(result).extracting(TrendingCount::count).containsExactly(5L, 3L);
+    }
+
+    @Test
+    @DisplayName("window 가 지난 구간은 집계에서 빠진다")
+    void expire() {
+        // given
+        add("a1-001", 3);
+        now.addAndGet(BUCKET_MILLIS * 2);
+        add("a1-002", 1);
+
+        // when
+        now.addAndGet(BUCKET_MILLIS * 2);
+        List<TrendingCount> result = topK.top(10);
+
+        // then
+        assertThat(result).extracting(TrendingCount::key).containsExactly("a1-002");
+    }
+
+    @Test
+    @DisplayName("삭제로 줄어든 카드는 다른 구간과 합쳐서 0 이하면 빠진다")
+    void decrement() {
+        // given
+        add("a1-001", 1);
+        add("a1-002", 2);
+        now.addAndGet(BUCKET_MILLIS);
+
+        // when
+        topK.add("a1-001", -1);
+        topK.add("a1-002", -1);
+        List<TrendingCount> result = topK.top(10);
+
+        // then
+        assertThat(result).extracting(TrendingCount::key).containsExactly("a1-002");
+        assertThat(result).extracting(TrendingCount::count).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("용량보다 많은 카드가 들어와도 자주 나온 카드는 남고 카운터 수는 고정")
+    void heavyHitters() {
+        // given
+        Random random = new Random(7);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            topK.add(i % 2 == 0 ? "hot-" + (i % 3) : "card-" + random.nextInt(5_000), 1);
+        }
+        List<TrendingCount> result = topK.top(3);
+
+        // then
+        assertThat(result).extracting(TrendingCount::key).containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2");
+        assertThat(result).allSatisfy(count -> assertThat(count.count() - count.error()).isLessThanOrEqualTo(1667L));
+        assertThat(topK.size()).isLessThanOrEqualTo(10);
+    }
+
+    private void add(String code, int times) {
+        for (int i = 0; i < times; i++) {
+            topK.add(code, 1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.venvas.pocamarket.service.trade.application.service;
+
+import com.venvas.pocamarket.common.dto.PageResponse;
+import com.venvas.pocamarket.config.BaseTestAnnotations;
+import com.venvas.pocamarket.config.IntegratedTestConfig;
+import com.venvas.pocamarket.config.QueryBudget;
+import com.venvas.pocamarket.service.pokemon.application.service.PokemonCardUpdateService;
+import com.venvas.pocamarket.service.pokemon.domain.entity.PokemonCard;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeCreateRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeDetailResponse;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListRequest;
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeListResponse;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTrade;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TcgTradeService SQL 문장 수 테스트
+ * 교환 상세, 교환 리스트가 교환글 수, 카드 수와 상관없이 고정된 수의 SQL 로 끝나는지 (N+1 이 없는지) 확인합니다.
+ * 데이터는 @BeforeEach 에서 만들고 flush, clear 해서 본문에서는 지연 로딩이 실제 SQL 로 나가게 합니다.
+ */
+@BaseTestAnnotations
+class TcgTradeServiceTest {
+
+    private static final String OWNER_UUID = "budget-uuid";
+    private static final int TRADE_COUNT = 10;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TcgTradeService tcgTradeService;
+
+    @Autowired
+    private PokemonCardUpdateService pokemonCardUpdateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TcgTradeRepository tcgTradeRepository;
+
+    private Long tradeId;
+
+    @BeforeEach
+    void beforeEach() {
+        List<String> cardCodes = pokemonCardUpdateService.upsertJsonData("promo", "promo").stream()
+                .map(PokemonCard::getCode)
+                .sorted()
+                .toList();
+        userRepository.save(IntegratedTestConfig.createTestUser(OWNER_UUID, "budget", "예산", "budget@test.com"));
+
+        // 교환글마다 내 카드 1장, 원하는 카드 3장
+        for (int i = 0; i < TRADE_COUNT; i++) {
+            int from = (i * 4) % (cardCodes.size() - 3);
+            tcgTradeService.createTrade(new TcgTradeCreateRequest(cardCodes.get(from),
+                    cardCodes.subList(from + 1, from + 4), "1234567890123456"), OWNER_UUID);
+        }
+        tradeId = tcgTradeRepository.findAll().stream()
+                .map(TcgTrade::getId)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @QueryBudget(max = 4)
+    @DisplayName("교환 상세는 카드 수와 상관없이 교환글, 카드 공격, 카드 특성, 사용자 정보 조회로 끝난다")
+    void getTcgTradeByIdBudget() {
+        // when
+        TcgTradeDetailResponse response = tcgTradeService.getTcgTradeById(tradeId, null);
+
+        // then
+        assertThat(response.getMyCard()).isNotNull();
+        assertThat(response.getWantCards()).hasSize(3);
+    }
+
+    @Test
+    @QueryBudget(max = 4)
+    @DisplayName("교환 리스트는 교환글 수와 상관없이 ID 페이지, count, 교환글 행 (카탈로그 적재 전이면 카드 정보) 조회로 끝난다")
+    void getTradeListBudget() {
+        // when
+        PageResponse<TcgTradeListResponse> response = tcgTradeService.getTradeList(
+                new TcgTradeListRequest(null, null, null, null), PageRequest.of(0, 5), null, false, false);
+
+        // then
+        assertThat(response.getContent()).hasSize(5);
+        assertThat(response.getTotalElements()).isEqualTo(TRADE_COUNT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.venvas.pocamarket.service.trade.domain.value;
+
+import com.venvas.pocamarket.service.trade.domain.exception.TcgTradeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TcgTradeCursor 테스트
+ */
+class TcgTradeCursorTest {
+
+    @Test
+    @DisplayName("커서 문자열로 만들었다가 다시 해석하면 같은 값")
+    void encodeDecode() {
+        // given
+        TcgTradeCursor cursor = new TcgTradeCursor(LocalDateTime.of(2025, 6, 1, 12, 30, 15, 123456000), 42L);
+
+        // when
+        String encoded = cursor.encode();
+        TcgTradeCursor decoded = TcgTradeCursor.decode(encoded);
+
+        // then
+        assertThat(encoded).matches("^[a-zA-Z0-9_\\-]*$");
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 값은 예외")
+    void invalidCursor() {
+        assertThatThrownBy(() -> TcgTradeCursor.decode("not-a-cursor"))
+                .isInstanceOf(TcgTradeException.class);
+        assertThatThrownBy(() -> TcgTradeCursor.decode(new TcgTradeCursor(LocalDateTime.now(), 1L).encode() + "$"))
+                .isInstanceOf(TcgTradeException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.venvas.pocamarket.service.trade.infrastructure.counter;
+
+import com.venvas.pocamarket.config.BaseTestAnnotations;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeUserService;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeReward;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 유저 카운터 동시성 테스트
+ * 여러 스레드가 같은 유저에게 동시에 거래 완료, 보상, 신고를 반영해도 증가량이 사라지지 않는지 확인한다
+ * 스레드마다 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 만든 행을 지운다
+ */
+@BaseTestAnnotations
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TcgTradeUserCounterConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 100;
+
+    @Autowired
+    private TcgTradeUserService tcgTradeUserService;
+
+    @Autowired
+    private TcgTradeUserCounter tcgTradeUserCounter;
+
+    @Autowired
+    private TcgTradeUserRepository tcgTradeUserRepository;
+
+    private final List<String> createdUuids = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        tcgTradeUserCounter.flush();
+        tcgTradeUserRepository.deleteAllById(createdUuids);
+    }
+
+    @Test
+    @DisplayName("한 유저에게 동시에 반영한 거래 완료, 보상, 신고 증가량이 모두 남는다")
+    void noLostIncrementsForHotUser() throws Exception {
+        // given
+        String uuid = "counter-hot-user";
+        createdUuids.add(uuid);
+
+        // when
+        runConcurrently(thread -> {
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                tcgTradeUserService.completeTrade(uuid);
+                tcgTradeUserService.giveRewardToUser(uuid);
+                if (i % 10 == 0) tcgTradeUserService.incrementReportCount(uuid);
+            }
+        });
+        tcgTradeUserCounter.flush();
+
+        // then
+        int total = THREADS * CALLS_PER_THREAD;
+        TcgTradeUser user = tcgTradeUserRepository.findByUuid(uuid).orElseThrow();
+        assertThat(user.getTradeCount()).isEqualTo(total);
+        assertThat(user.getReportCount()).isEqualTo(THREADS * (CALLS_PER_THREAD / 10));
+        assertThat(user.getPoint()).isEqualTo(total * 2 * TcgTradeReward.TRADE_COMPLETE_POINT);
+        assertThat(user.getExp()).isEqualTo(total * 2 * TcgTradeReward.TRADE_COMPLETE_EXP);
+        assertThat(tcgTradeUserCounter.getStats().deferredIncrements()).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 유저의 첫 반영이 동시에 일어나도 행이 하나씩만 생기고 증가량이 모두 남는다")
+    void noLostIncrementsForNewUsers() throws Exception {
+        // given
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            uuids.add("counter-new-user-" + i);
+        }
+        createdUuids.addAll(uuids);
+
+        // when (스레드마다 모든 유저에게 한번씩, 유저마다 처음 HOT_THRESHOLD 번은 바로 upsert 로 경합한다)
+        runConcurrently(thread -> {
+            for (String uuid : uuids) {
+                tcgTradeUserService.completeTrade(uuid);
+            }
+        });
+        tcgTradeUserCounter.flush();
+
+        // then
+        for (String uuid : uuids) {
+            TcgTradeUser user = tcgTradeUserRepository.findByUuid(uuid).orElseThrow();
+            assertThat(user.getTradeCount()).isEqualTo(THREADS);
+            assertThat(user.getPoint()).isEqualTo(THREADS * TcgTradeReward.TRADE_COMPLETE_POINT);
+        }
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,106 @@
+package com.venvas.pocamarket.service.trade.infrastructure.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.venvas.pocamarket.service.trade.application.service.TcgTradeHistoryService;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeHistoryType;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeHistoryEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TcgTradeHistoryDispatcher 테스트
+ */
+class TcgTradeHistoryDispatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TcgTradeHistoryService service;
+    private TcgTradeHistoryDispatcher dispatcher;
+    private Path spoolPath;
+
+    @BeforeEach
+    void beforeEach() {
+        service = mock(TcgTradeHistoryService.class);
+        spoolPath = tempDir.resolve("spool.jsonl");
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        dispatcher = new TcgTradeHistoryDispatcher(service, objectMapper, spoolPath.toString());
+    }
+
+    @AfterEach
+    void afterEach() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("쌓인 히스토리 이벤트는 백그라운드에서 한번에 저장")
+    void flushBatch() {
+        // given
+        dispatcher.onHistory(event(1L, TcgTradeHistoryType.REQUEST_CREATED, "닉네임", "피카츄", "A1-001"));
+        dispatcher.onHistory(event(1L, TcgTradeHistoryType.TRADE_STATUS_CHANGED, "(교환 선택)"));
+        dispatcher.onHistory(event(2L, TcgTradeHistoryType.TRADE_DELETED, "닉네임"));
+
+        // when
+        dispatcher.onApplicationReady();
+
+        // then
+        verify(service, timeout(2000)).saveAll(argThat(events -> events.size() == 3));
+        assertThat(dispatcher.getStats().published()).isEqualTo(3);
+        assertThat(dispatcher.getStats().syncWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 이벤트는 spool 파일에 보관하고 다시 저장")
+    void spoolAndReplay() throws Exception {
+        // given
+        doThrow(new IllegalStateException("db down")).doNothing().when(service).saveAll(anyList());
+        dispatcher.onHistory(event(1L, TcgTradeHistoryType.REQUEST_PROCESS, "닉네임"));
+
+        // when
+        dispatcher.shutdown();
+
+        // then
+        assertThat(Files.readAllLines(spoolPath)).hasSize(1);
+        assertThat(dispatcher.replaySpool()).isEqualTo(1);
+        assertThat(Files.exists(spoolPath)).isFalse();
+        verify(service, times(2)).saveAll(argThat(events ->
+                events.size() == 1 && events.get(0).type() == TcgTradeHistoryType.REQUEST_PROCESS));
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 이벤트는 요청 스레드에서 바로 저장")
+    void syncWriteAfterShutdown() {
+        // given
+        doNothing().when(service).saveAll(anyList());
+        dispatcher.shutdown();
+
+        // when
+        dispatcher.onHistory(event(1L, TcgTradeHistoryType.REQUEST_COMPLETE, "닉네임"));
+
+        // then
+        verify(service).saveAll(List.of(event(1L, TcgTradeHistoryType.REQUEST_COMPLETE, "닉네임")));
+        assertThat(dispatcher.getStats().syncWrites()).isEqualTo(1);
+    }
+
+    private TcgTradeHistoryEvent event(Long tradeId, TcgTradeHistoryType type, String... params) {
+        return new TcgTradeHistoryEvent(tradeId, 10L, "uuid-1", type, List.of(params), null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TradeCardPostings 테스트
+ * DB 없이 교환글을 색인에 넣고 카드 조건 검색 결과를 확인합니다.
+ */
+class TradeCardPostingsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private TradeCardPostings postings;
+
+    @BeforeEach
+    void beforeEach() {
+        postings = new TradeCardPostings();
+        postings.put(entry(1L, 0, "a1-001", "a1-033", "a1-219"));
+        postings.put(entry(2L, 10, "a1-033", "a1-001"));
+        postings.put(entry(3L, 20, "a1-001", "a1-003"));
+        postings.put(entry(4L, 20, "a1-003", "a1-001", "a1-033"));
+    }
+
+    @Test
+    @DisplayName("내 카드, 원하는 카드 OR 조건은 중복 없이 sortedAt desc, tradeId desc 순")
+    void union() {
+        // when
+        List<Long> desc = ids(postings.union("a1-001", List.of("a1-033"), false, null));
+        List<Long> asc = ids(postings.union("a1-001", List.of("a1-033"), true, null));
+
+        // then
+        assertThat(desc).containsExactly(4L, 3L, 1L);
+        assertThat(asc).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("커서 다음 위치부터 조회")
+    void unionAfterCursor() {
+        // when
+        List<Long> result = ids(postings.union(null, List.of("a1-001"), false, new TcgTradeCursor(BASE.plusMinutes(20), 4L)));
+
+        // then
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("교환글을 다시 넣으면 이전 카드 posting 에서 빠지고, 삭제하면 모두 빠진다")
+    void putAndRemove() {
+        // when
+        postings.put(entry(1L, 30, "a1-003", "a1-219"));
+        List<Long> oldMyCard = ids(postings.union("a1-001", null, false, null));
+        List<Long> newMyCard = ids(postings.union("a1-003", null, false, null));
+        postings.remove(4L);
+
+        // then
+        assertThat(oldMyCard).containsExactly(3L);
+        assertThat(newMyCard).containsExactly(1L, 4L);
+        assertThat(postings.want("a1-001")).extracting(TradeCardEntry::tradeId).containsExactly(2L);
+        assertThat(postings.size()).isEqualTo(3);
+    }
+
+    private TradeCardEntry entry(Long tradeId, int minutes, String myCardCode, String... wantCardCodes) {
+        return new TradeCardEntry(tradeId, "uuid-" + tradeId, 1, BASE.plusMinutes(minutes), myCardCode, List.of(wantCardCodes));
+    }
+
+    private List<Long> ids(Iterator<TradeCardEntry> iterator) {
+        List<Long> ids = new ArrayList<>();
+        iterator.forEachRemaining(entry -> ids.add(entry.tradeId()));
+        return ids;
+    }
+}
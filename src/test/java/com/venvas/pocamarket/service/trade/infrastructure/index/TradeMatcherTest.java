@@ -0,0 +1,73 @@
+package com.venvas.pocamarket.service.trade.infrastructure.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TradeMatcher 테스트
+ */
+class TradeMatcherTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private TradeCardPostings postings;
+
+    @BeforeEach
+    void beforeEach() {
+        postings = new TradeCardPostings();
+        // 기준: A 를 주고 B 를 원함
+        postings.put(entry(1L, "me", 1, 0, "A", "B"));
+        // 1:1 교환 후보
+        postings.put(entry(2L, "u2", 1, 10, "B", "A"));
+        postings.put(entry(3L, "u3", 2, 20, "B", "A", "C"));
+        // 진행중이라 제외
+        postings.put(entry(4L, "u4", 3, 30, "B", "A"));
+        // 내 다른 글이라 제외
+        postings.put(entry(5L, "me", 1, 40, "B", "A"));
+        // 3자 교환: 6 은 B 를 주고 C 를 원함, 7 은 C 를 주고 A 를 원함
+        postings.put(entry(6L, "u6", 1, 50, "B", "C"));
+        postings.put(entry(7L, "u7", 1, 60, "C", "A"));
+    }
+
+    @Test
+    @DisplayName("1:1 교환은 교환 가능한 다른 사용자 글만 sortedAt desc 순")
+    void direct() {
+        // when
+        TradeMatches matches = TradeMatcher.match(postings, postings.get(1L));
+
+        // then
+        assertThat(matches.directTradeIds()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("3자 교환 조합")
+    void cycle() {
+        // when
+        TradeMatches matches = TradeMatcher.match(postings, postings.get(1L));
+
+        // then
+        assertThat(matches.cycles()).contains(new TradeMatches.Cycle(6L, 7L), new TradeMatches.Cycle(3L, 7L));
+        assertThat(matches.cycles()).allMatch(cycle -> cycle.giverTradeId() != 4L && cycle.giverTradeId() != 5L);
+    }
+
+    @Test
+    @DisplayName("교환 가능한 상태가 아니면 매칭 없음")
+    void closedTrade() {
+        // when
+        TradeMatches matches = TradeMatcher.match(postings, postings.get(4L));
+
+        // then
+        assertThat(matches.directTradeIds()).isEmpty();
+        assertThat(matches.cycles()).isEmpty();
+    }
+
+    private TradeCardEntry entry(Long tradeId, String uuid, int status, int minutes, String myCardCode, String... wantCardCodes) {
+        return new TradeCardEntry(tradeId, uuid, status, BASE.plusMinutes(minutes), myCardCode, List.of(wantCardCodes));
+    }
+}
@@ -0,0 +1,96 @@
+package com.venvas.pocamarket.service.trade.infrastructure.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RankedTreap 테스트
+ * 리더보드 항목을 넣고 빼면서 순위, 구간 조회 결과를 정렬한 리스트와 비교합니다.
+ */
+class RankedTreapTest {
+
+    @Test
+    @DisplayName("exp desc, tradeCount desc, uuid asc 순으로 순위와 구간 조회")
+    void rankAndRange() {
+        // given
+        RankedTreap<LeaderboardEntry> treap = new RankedTreap<>(LeaderboardEntry.ORDER);
+        LeaderboardEntry a = new LeaderboardEntry("a", 30, 3);
+        LeaderboardEntry b = new LeaderboardEntry("b", 50, 5);
+        LeaderboardEntry c = new LeaderboardEntry("c", 30, 4);
+        LeaderboardEntry d = new LeaderboardEntry("d", 30, 3);
+        List.of(a, b, c, d).forEach(treap::add);
+
+        // when, then
+        assertThat(treap.range(0, 10)).containsExactly(b, c, a, d);
+        assertThat(treap.range(1, 3)).containsExactly(c, a);
+        assertThat(treap.rank(d)).isEqualTo(3);
+        assertThat(treap.rank(new LeaderboardEntry("e", 0, 0))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("점수가 바뀐 항목을 빼고 다시 넣으면 순위가 이동")
+    void move() {
+        // given
+        RankedTreap<LeaderboardEntry> treap = new RankedTreap<>(LeaderboardEntry.ORDER);
+        LeaderboardEntry a = new LeaderboardEntry("a", 10, 1);
+        LeaderboardEntry b = new LeaderboardEntry("b", 20, 2);
+        treap.add(a);
+        treap.add(b);
+
+        // when
+        LeaderboardEntry movedA = a.plus(20, 1);
+        assertThat(treap.remove(a)).isTrue();
+        treap.add(movedA);
+
+        // then
+        assertThat(treap.size()).isEqualTo(2);
+        assertThat(treap.rank(movedA)).isZero();
+        assertThat(treap.rank(b)).isEqualTo(1);
+        assertThat(treap.remove(a)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 추가, 이동, 삭제 후에도 정렬한 리스트와 같은 결과")
+    void randomOperations() {
+        // given
+        Random random = new Random(42);
+        RankedTreap<LeaderboardEntry> treap = new RankedTreap<>(LeaderboardEntry.ORDER);
+        Map<String, LeaderboardEntry> entries = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            String uuid = "user-" + random.nextInt(300);
+            LeaderboardEntry previous = entries.get(uuid);
+            if (previous != null) {
+                assertThat(treap.remove(previous)).isTrue();
+                entries.remove(uuid);
+            }
+            if (random.nextInt(10) > 0) {
+                LeaderboardEntry next = previous == null
+                        ? new LeaderboardEntry(uuid, random.nextInt(50), random.nextInt(5))
+                        : previous.plus(random.nextInt(20), random.nextInt(2));
+                treap.add(next);
+                entries.put(uuid, next);
+            }
+        }
+
+        // then
+        List<LeaderboardEntry> expected = new ArrayList<>(entries.values());
+        expected.sort(LeaderboardEntry.ORDER);
+
+        assertThat(treap.size()).isEqualTo(expected.size());
+        assertThat(treap.range(0, expected.size())).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(treap.rank(expected.get(i))).isEqualTo(i);
+        }
+        assertThat(treap.range(10, 20)).isEqualTo(expected.subList(10, Math.min(20, expected.size())));
+    }
+}
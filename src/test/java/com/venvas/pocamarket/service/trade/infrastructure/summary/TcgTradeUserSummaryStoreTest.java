@@ -0,0 +1,98 @@
+package com.venvas.pocamarket.service.trade.infrastructure.summary;
+
+import com.venvas.pocamarket.service.trade.application.dto.TcgTradeUserStatusCountDto;
+import com.venvas.pocamarket.service.trade.domain.entity.TcgTradeUser;
+import com.venvas.pocamarket.service.trade.domain.enums.TcgTradeRequestStatus;
+import com.venvas.pocamarket.service.trade.domain.enums.TradeStatus;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeStatusChangedEvent;
+import com.venvas.pocamarket.service.trade.domain.event.TcgTradeUserCountedEvent;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeRequestRepository;
+import com.venvas.pocamarket.service.trade.domain.repository.TcgTradeUserRepository;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserDelta;
+import com.venvas.pocamarket.service.trade.domain.value.TcgTradeUserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * TcgTradeUserSummaryStore 테스트
+ */
+class TcgTradeUserSummaryStoreTest {
+
+    private TcgTradeRepository tcgTradeRepository;
+    private TcgTradeRequestRepository tcgTradeRequestRepository;
+    private TcgTradeUserRepository tcgTradeUserRepository;
+    private TcgTradeUserSummaryStore store;
+
+    @BeforeEach
+    void beforeEach() {
+        tcgTradeRepository = mock(TcgTradeRepository.class);
+        tcgTradeRequestRepository = mock(TcgTradeRequestRepository.class);
+        tcgTradeUserRepository = mock(TcgTradeUserRepository.class);
+        store = new TcgTradeUserSummaryStore(tcgTradeRepository, tcgTradeRequestRepository, tcgTradeUserRepository);
+
+        when(tcgTradeUserRepository.findAll()).thenReturn(List.of(new TcgTradeUser("owner")));
+        when(tcgTradeRepository.findUserStatusCounts(anyList())).thenReturn(List.of(
+                new TcgTradeUserStatusCountDto("owner", TradeStatus.REQUEST.getCode(), 2L),
+                new TcgTradeUserStatusCountDto("owner", TradeStatus.SELECT.getCode(), 1L)));
+        when(tcgTradeRequestRepository.findUserStatusCounts(anyList())).thenReturn(List.of(
+                new TcgTradeUserStatusCountDto("requester", TcgTradeRequestStatus.REQUEST.getCode(), 3L)));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 empty 를 반환해서 DB 조회로 넘긴다")
+    void notLoaded() {
+        assertThat(store.get("owner")).isEmpty();
+        assertThat(store.getFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재한 상태별 수를 상태 변경, 카운터 반영 이벤트로 증분 갱신")
+    void incrementalUpdate() {
+        // given
+        store.reload();
+
+        // when (교환 요청 -> 교환글 선택중, 요청 진행, 교환 완료)
+        store.onStatusChanged(TcgTradeStatusChangedEvent.trade("owner", TradeStatus.REQUEST.getCode(), TradeStatus.SELECT.getCode()));
+        store.onStatusChanged(TcgTradeStatusChangedEvent.request("requester", TcgTradeRequestStatus.REQUEST.getCode(), TcgTradeRequestStatus.PROCESS.getCode()));
+        store.onStatusChanged(TcgTradeStatusChangedEvent.trade("owner", TradeStatus.SELECT.getCode(), TradeStatus.COMPLETE.getCode()));
+        store.onCounted(new TcgTradeUserCountedEvent("owner", TcgTradeUserDelta.tradeComplete()));
+
+        // then
+        TcgTradeUserSummary owner = store.get("owner").orElseThrow();
+        assertThat(owner.requestTrades()).isEqualTo(1);
+        assertThat(owner.selectTrades()).isEqualTo(1);
+        assertThat(owner.tradingCount()).isEqualTo(2);
+        assertThat(owner.tradeCount()).isEqualTo(1);
+
+        TcgTradeUserSummary requester = store.get("requester").orElseThrow();
+        assertThat(requester.requestRequests()).isEqualTo(2);
+        assertThat(requester.processRequests()).isEqualTo(1);
+        assertThat(requester.requestCount()).isEqualTo(3);
+
+        assertThat(store.get("unknown")).contains(TcgTradeUserSummary.EMPTY);
+    }
+
+    @Test
+    @DisplayName("재적재 시 DB 와 값이 달랐던 유저 수를 반환")
+    void reconcileDrift() {
+        // given
+        store.reload();
+        store.onStatusChanged(TcgTradeStatusChangedEvent.trade("owner", null, TradeStatus.REQUEST.getCode()));
+
+        // when
+        int drift = store.reload();
+
+        // then
+        assertThat(drift).isEqualTo(1);
+        assertThat(store.get("owner").orElseThrow().requestTrades()).isEqualTo(2);
+    }
+}
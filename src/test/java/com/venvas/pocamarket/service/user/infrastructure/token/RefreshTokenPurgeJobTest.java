@@ -0,0 +1,106 @@
+package com.venvas.pocamarket.service.user.infrastructure.token;
+
+import com.venvas.pocamarket.config.BaseTestAnnotations;
+import com.venvas.pocamarket.service.user.application.service.RefreshTokenService;
+import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
+import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RefreshTokenPurgeJob 테스트
+ * H2 에 폐기, 만료, 유효 토큰을 섞어 넣고 청크를 넘겨가며 정리 대상만 지우는지, 한번 실행에 MAX_CHUNKS 에서 멈추는지 확인합니다.
+ */
+@BaseTestAnnotations
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("폐기, 만료 토큰만 여러 청크에 걸쳐 삭제하고 유효 토큰은 남긴다")
+    void purgeOnlyRevokedOrExpiredAcrossChunks() {
+        // given
+        // 정리 대상이 CHUNK_SIZE 보다 많고 유효 토큰이 사이사이에 끼어 있도록 만료, 폐기, 유효 순서로 반복
+        LocalDateTime now = LocalDateTime.now();
+        int rounds = RefreshTokenPurgeJob.CHUNK_SIZE / 2 + 50;
+        List<RefreshToken> tokens = new ArrayList<>(rounds * 3);
+        for (int i = 0; i < rounds; i++) {
+            tokens.add(token("expired-" + i, now.minusDays(2), now.minusDays(1)));
+
+            RefreshToken revoked = token("revoked-" + i, now.minusHours(1), now.plusDays(1));
+            revoked.revokeToken();
+            tokens.add(revoked);
+
+            tokens.add(token("active-" + i, now.minusHours(1), now.plusDays(1)));
+        }
+        refreshTokenRepository.saveAll(tokens);
+
+        // when
+        long deleted = refreshTokenPurgeJob.purge();
+
+        // then
+        assertThat(deleted).isEqualTo(rounds * 2L).isGreaterThan(RefreshTokenPurgeJob.CHUNK_SIZE);
+        List<RefreshToken> remaining = refreshTokenRepository.findAll();
+        assertThat(remaining).hasSize(rounds);
+        assertThat(remaining).allSatisfy(token -> {
+            assertThat(token.getToken()).startsWith("active-");
+            assertThat(token.isValid(now)).isTrue();
+        });
+        assertThat(refreshTokenPurgeJob.getStats().lastPurgedRows()).isEqualTo(deleted);
+    }
+
+    @Test
+    @DisplayName("청크마다 이전 청크의 마지막 ID 다음부터 읽고, MAX_CHUNKS 청크에서 멈춘다")
+    void stopsAtMaxChunks() {
+        // given
+        RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+        RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+        // 매번 가득 찬 청크를 돌려준다 (afterId + 1 부터 CHUNK_SIZE 개)
+        when(refreshTokenService.purgeChunk(any(), any(), anyInt())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(1);
+            long from = afterId == null ? 1 : afterId + 1;
+            return LongStream.range(from, from + invocation.<Integer>getArgument(2)).boxed().toList();
+        });
+        RefreshTokenPurgeJob job = new RefreshTokenPurgeJob(refreshTokenService, refreshTokenStore);
+
+        // when
+        long deleted = job.purge();
+
+        // then
+        int chunkSize = RefreshTokenPurgeJob.CHUNK_SIZE;
+        assertThat(deleted).isEqualTo((long) RefreshTokenPurgeJob.MAX_CHUNKS * chunkSize);
+        verify(refreshTokenService, times(RefreshTokenPurgeJob.MAX_CHUNKS)).purgeChunk(any(), any(), eq(chunkSize));
+        verify(refreshTokenService).purgeChunk(any(), isNull(), eq(chunkSize));
+        verify(refreshTokenService).purgeChunk(any(), eq((long) chunkSize), eq(chunkSize));
+        verify(refreshTokenService).purgeChunk(any(), eq((long) (RefreshTokenPurgeJob.MAX_CHUNKS - 1) * chunkSize), eq(chunkSize));
+    }
+
+    private RefreshToken token(String token, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .uuid("purge-uuid")
+                .token(token)
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
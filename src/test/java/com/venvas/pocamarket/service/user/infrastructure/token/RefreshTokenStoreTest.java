@@ -0,0 +1,149 @@
+package com.venvas.pocamarket.service.user.infrastructure.token;
+
+import com.venvas.pocamarket.service.user.application.dto.RefreshTokenRowDto;
+import com.venvas.pocamarket.service.user.domain.entity.RefreshToken;
+import com.venvas.pocamarket.service.user.domain.event.RefreshTokenIssuedEvent;
+import com.venvas.pocamarket.service.user.domain.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RefreshTokenStore 테스트
+ */
+class RefreshTokenStoreTest {
+
+    private RefreshTokenRepository repository;
+    private RefreshTokenStore store;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void beforeEach() {
+        repository = mock(RefreshTokenRepository.class);
+        store = new RefreshTokenStore(repository);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("적재한 유효 토큰은 DB 조회 없이 확인, 사용자별로 최근 토큰만 남긴다")
+    void reloadAndHit() {
+        // given
+        when(repository.findActiveTokenRows(any())).thenReturn(List.of(
+                new RefreshTokenRowDto("uuid-1", "old-token", now.minusHours(2), now.plusDays(1)),
+                new RefreshTokenRowDto("uuid-1", "new-token", now.minusHours(1), now.plusDays(1))));
+        when(repository.findByToken(anyString())).thenReturn(Optional.empty());
+
+        // when
+        store.reload();
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isActive("uuid-1", "new-token")).isTrue();
+        assertThat(store.isActive("uuid-1", "old-token")).isFalse();
+        assertThat(store.getHits()).isEqualTo(1);
+        verify(repository, never()).findByToken("new-token");
+    }
+
+    @Test
+    @DisplayName("새 토큰 발급 커밋 후에는 이전 토큰을 거절")
+    void issuedReplacesPrevious() {
+        // given
+        when(repository.findActiveTokenRows(any())).thenReturn(List.of(
+                new RefreshTokenRowDto("uuid-1", "old-token", now.minusHours(1), now.plusDays(1))));
+        RefreshToken revoked = RefreshToken.builder()
+                .uuid("uuid-1").token("old-token").issuedAt(now.minusHours(1)).expiresAt(now.plusDays(1)).build();
+        revoked.revokeToken();
+        when(repository.findByToken("old-token")).thenReturn(Optional.of(revoked));
+        store.reload();
+
+        // when
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-1", "new-token", now, now.plusDays(1)));
+
+        // then
+        assertThat(store.isActive("uuid-1", "new-token")).isTrue();
+        assertThat(store.isActive("uuid-1", "old-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전에 발급한 토큰 이벤트가 늦게 와도 최근 토큰을 유지")
+    void lateEventIgnored() {
+        // when
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-1", "new-token", now, now.plusDays(1)));
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-1", "old-token", now.minusMinutes(1), now.plusDays(1)));
+
+        // then
+        assertThat(store.isActive("uuid-1", "new-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 토큰은 DB 로 확인, 다른 사용자 토큰이나 만료 토큰은 거절")
+    void dbFallback() {
+        // given
+        when(repository.findActiveTokenRows(any())).thenReturn(List.of());
+        when(repository.findByToken("other-node-token")).thenReturn(Optional.of(RefreshToken.builder()
+                .uuid("uuid-1").token("other-node-token").issuedAt(now).expiresAt(now.plusDays(1)).build()));
+        when(repository.findByToken("expired-token")).thenReturn(Optional.of(RefreshToken.builder()
+                .uuid("uuid-2").token("expired-token").issuedAt(now.minusDays(2)).expiresAt(now.minusDays(1)).build()));
+        store.reload();
+
+        // when, then
+        assertThat(store.isActive("uuid-2", "other-node-token")).isFalse();
+        assertThat(store.isActive("uuid-1", "other-node-token")).isTrue();
+        assertThat(store.isActive("uuid-1", "other-node-token")).isTrue();
+        assertThat(store.isActive("uuid-2", "expired-token")).isFalse();
+        assertThat(store.getDbLookups()).isEqualTo(3);
+        assertThat(store.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("VERIFY_TTL 이 지난 메모리 토큰은 DB 로 다시 확인, 다른 인스턴스에서 폐기했으면 거절")
+    void staleEntryRecheckedAgainstDb() {
+        // given
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-1", "token-1", now, now.plusDays(1)));
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-2", "token-2", now, now.plusDays(1)));
+        RefreshToken revoked = RefreshToken.builder()
+                .uuid("uuid-1").token("token-1").issuedAt(now).expiresAt(now.plusDays(1)).build();
+        revoked.revokeToken();
+        when(repository.findByToken("token-1")).thenReturn(Optional.of(revoked));
+        when(repository.findByToken("token-2")).thenReturn(Optional.of(RefreshToken.builder()
+                .uuid("uuid-2").token("token-2").issuedAt(now).expiresAt(now.plusDays(1)).build()));
+        LocalDateTime stale = now.plus(RefreshTokenStore.VERIFY_TTL).plusSeconds(1);
+
+        // when, then
+        assertThat(store.isActive("uuid-1", "token-1", now)).isTrue();
+        assertThat(store.isActive("uuid-1", "token-1", stale)).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+
+        assertThat(store.isActive("uuid-2", "token-2", stale)).isTrue();
+        assertThat(store.isActive("uuid-2", "token-2", stale)).isTrue();
+        assertThat(store.getDbLookups()).isEqualTo(2);
+        assertThat(store.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 메모리에서 제거")
+    void evictExpired() {
+        // given
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-1", "token-1", now.minusDays(2), now.minusDays(1)));
+        store.onTokenIssued(new RefreshTokenIssuedEvent("uuid-2", "token-2", now, now.plusDays(1)));
+
+        // when
+        int evicted = store.evictExpired(now);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+    }
+}